@@ -0,0 +1,92 @@
+package com.maker.engine;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.maker.entity.MethodResult;
+
+/**
+ * 매핑 엔진의 코드 생성 처리량/할당량 벤치마크입니다.
+ * 필드 10 / 100 / 1,000 / 5,000개 DTO를 합성하여 Builder, Getter/Setter 메소드 생성을 측정합니다.
+ * 실행: ./gradlew jmh (할당량은 gc 프로파일러의 gc.alloc.rate.norm 항목)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappingCodeGeneratorBenchmark {
+
+	@Param({"10", "100", "1000", "5000"})
+	public int fieldCount;
+
+	private MappingClassModel sourceClass;
+	private MappingClassModel targetClass;
+	private List<String> includedTargetFieldNames;
+	private MappingOptions options;
+
+	@Setup
+	public void setUp() {
+		Map<String, MappingFieldModel> sourceFields = new LinkedHashMap<>();
+		Map<String, MappingFieldModel> targetFields = new LinkedHashMap<>();
+		includedTargetFieldNames = new ArrayList<>(fieldCount);
+
+		for (int i = 0; i < fieldCount; i++) {
+			String name = "field" + i;
+			includedTargetFieldNames.add(name);
+
+			// 대상: 모든 필드를 직접 선언
+			targetFields.put(name, field(name, "java.lang.String", "String", "SampleDto", true));
+
+			// 소스: 20개 중 1개는 없음, 10개 중 1개는 타입 불일치, 절반은 상위 클래스(AuditInfo)에서 상속
+			if (i % 20 == 19) {
+				continue;
+			}
+			boolean mismatch = i % 10 == 3;
+			boolean inherited = i % 2 == 1;
+			sourceFields.put(name, field(name, mismatch ? "java.lang.Long" : "java.lang.String",
+				mismatch ? "Long" : "String", inherited ? "AuditInfo" : "SampleEntity", !inherited));
+		}
+
+		sourceClass = new MappingClassModel("SampleEntity", "com.example.SampleEntity", false,
+			Collections.unmodifiableMap(sourceFields));
+		targetClass = new MappingClassModel("SampleDto", "com.example.SampleDto", false,
+			Collections.unmodifiableMap(targetFields));
+		options = new MappingOptions().setGenerateMethodComment(true).setGenerateAllField(true);
+	}
+
+	private static MappingFieldModel field(String name, String typeName, String presentableTypeName,
+		String declaringClassName, boolean declaredInClass) {
+		String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+		return new MappingFieldModel(name, typeName, presentableTypeName, declaringClassName, declaredInClass,
+			"get" + capitalized, "set" + capitalized);
+	}
+
+	@Benchmark
+	public MethodResult builderMethod() {
+		return MappingCodeGenerator.generateBuilderMethod(sourceClass, targetClass, includedTargetFieldNames, options);
+	}
+
+	@Benchmark
+	public MethodResult getterSetterMethod() {
+		return MappingCodeGenerator.generateGetterSetterMethod(sourceClass, targetClass, includedTargetFieldNames,
+			options);
+	}
+}
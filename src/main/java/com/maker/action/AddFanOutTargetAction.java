@@ -0,0 +1,98 @@
+package com.maker.action;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.swing.*;
+
+import org.jetbrains.annotations.NotNull;
+
+import com.intellij.notification.NotificationGroupManager;
+import com.intellij.notification.NotificationType;
+import com.intellij.openapi.actionSystem.ActionUpdateThread;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.actionSystem.CommonDataKeys;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.wm.ToolWindow;
+import com.intellij.openapi.wm.ToolWindowManager;
+import com.intellij.psi.PsiClass;
+import com.intellij.ui.content.Content;
+import com.maker.state.MappingPluginState;
+import com.maker.ui.MappingToolWindowContentPanel;
+
+/**
+ * IntelliJ IDEA 플러그인 액션: 선택된 Java 클래스를 락온된 대상과 함께 한 번에 변환할 추가 대상으로 등록합니다.
+ * Tool Window의 Generate Fan-Out 버튼은 소스 Getter를 한 번씩만 읽어 락온 대상과 추가 대상을 모두 만드는 메소드를 생성합니다.
+ * 락온 대상은 Lock On에서 선택한 필드를, 추가 대상은 모든 필드를 매핑합니다.
+ */
+public class AddFanOutTargetAction extends AnAction {
+
+	public AddFanOutTargetAction() {
+		super("Add As Fan-Out Target"); // 컨텍스트 메뉴에 표시될 이름
+	}
+
+	@Override
+	public @NotNull ActionUpdateThread getActionUpdateThread() {
+		// PSI 접근은 백그라운드 스레드에서 수행하도록 지정
+		return ActionUpdateThread.BGT;
+	}
+
+	/**
+	 * 대상 클래스가 락온되어 있고, Java 클래스 정의 또는 클래스 참조 위에서 실행될 때만 활성화됩니다.
+	 */
+	@Override
+	public void update(@NotNull AnActionEvent e) {
+		Project project = e.getData(CommonDataKeys.PROJECT);
+		MappingPluginState state = project != null ? MappingPluginState.getInstance(project) : null;
+		e.getPresentation().setEnabledAndVisible(state != null && state.getTargetClassQualifiedName() != null
+			&& AddIntermediateClassAction.findSelectedClass(e.getData(CommonDataKeys.PSI_ELEMENT)) != null);
+	}
+
+	@Override
+	public void actionPerformed(@NotNull AnActionEvent e) {
+		Project project = e.getData(CommonDataKeys.PROJECT);
+		if (project == null) {
+			return;
+		}
+		PsiClass fanOutTargetClass = AddIntermediateClassAction.findSelectedClass(
+			e.getData(CommonDataKeys.PSI_ELEMENT));
+		MappingPluginState state = MappingPluginState.getInstance(project);
+		if (fanOutTargetClass == null || fanOutTargetClass.getQualifiedName() == null || state == null) {
+			notify(project, "Add fan-out target failed", "Could not find a valid class from the selected element.",
+				NotificationType.ERROR);
+			return;
+		}
+
+		String qualifiedName = fanOutTargetClass.getQualifiedName();
+		List<String> fanOutTargetNames = state.getFanOutTargetClassQualifiedNames() != null
+			? new ArrayList<>(state.getFanOutTargetClassQualifiedNames()) : new ArrayList<>();
+		if (qualifiedName.equals(state.getTargetClassQualifiedName()) || fanOutTargetNames.contains(qualifiedName)) {
+			notify(project, "Add fan-out target failed", qualifiedName + " is already a target.",
+				NotificationType.WARNING);
+			return;
+		}
+		fanOutTargetNames.add(qualifiedName);
+		state.setFanOutTargetClassQualifiedNames(fanOutTargetNames);
+
+		notify(project, "Fan-out target added", "Targets: " + state.getTargetClassQualifiedName() + ", "
+			+ String.join(", ", fanOutTargetNames), NotificationType.INFORMATION);
+
+		ToolWindow toolWindow = ToolWindowManager.getInstance(project).getToolWindow("DTO Maker");
+		if (toolWindow != null) {
+			Content content = toolWindow.getContentManager().getContent(0);
+			if (content != null) {
+				JComponent component = content.getComponent();
+				if (component instanceof MappingToolWindowContentPanel) {
+					((MappingToolWindowContentPanel)component).updateFanOutTargetsLabel(fanOutTargetNames);
+				}
+			}
+		}
+	}
+
+	private void notify(Project project, String title, String content, NotificationType type) {
+		NotificationGroupManager.getInstance().getNotificationGroup("Mapping Plugin Notifications")
+			.createNotification(title, content, type)
+			.notify(project);
+	}
+}
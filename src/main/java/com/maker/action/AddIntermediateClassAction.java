@@ -0,0 +1,117 @@
+package com.maker.action;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.swing.*;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.intellij.notification.NotificationGroupManager;
+import com.intellij.notification.NotificationType;
+import com.intellij.openapi.actionSystem.ActionUpdateThread;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.actionSystem.CommonDataKeys;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.wm.ToolWindow;
+import com.intellij.openapi.wm.ToolWindowManager;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiJavaCodeReferenceElement;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.ui.content.Content;
+import com.maker.state.MappingPluginState;
+import com.maker.ui.MappingToolWindowContentPanel;
+
+/**
+ * IntelliJ IDEA 플러그인 액션: 선택된 Java 클래스를 소스와 대상 사이의 중간 클래스로 추가합니다.
+ * 중간 클래스가 있으면(예: Entity → DTO → Response) 변환 메소드는 체인의 첫 클래스에서 마지막 클래스로
+ * 중간 객체를 만들지 않고 한 번에 변환하며, 모든 중간 클래스를 거쳐 전달되는 필드만 매핑합니다.
+ * 여러 번 실행하면 체인 순서대로 추가됩니다.
+ */
+public class AddIntermediateClassAction extends AnAction {
+
+	public AddIntermediateClassAction() {
+		super("Add As Intermediate Class"); // 컨텍스트 메뉴에 표시될 이름
+	}
+
+	@Override
+	public @NotNull ActionUpdateThread getActionUpdateThread() {
+		// PSI 접근은 백그라운드 스레드에서 수행하도록 지정
+		return ActionUpdateThread.BGT;
+	}
+
+	/**
+	 * 소스 클래스가 로드되어 있고, Java 클래스 정의 또는 클래스 참조 위에서 실행될 때만 활성화됩니다.
+	 */
+	@Override
+	public void update(@NotNull AnActionEvent e) {
+		Project project = e.getData(CommonDataKeys.PROJECT);
+		MappingPluginState state = project != null ? MappingPluginState.getInstance(project) : null;
+		e.getPresentation().setEnabledAndVisible(state != null && state.getSourceClassQualifiedName() != null
+			&& findSelectedClass(e.getData(CommonDataKeys.PSI_ELEMENT)) != null);
+	}
+
+	@Override
+	public void actionPerformed(@NotNull AnActionEvent e) {
+		Project project = e.getData(CommonDataKeys.PROJECT);
+		if (project == null) {
+			return;
+		}
+		PsiClass intermediateClass = findSelectedClass(e.getData(CommonDataKeys.PSI_ELEMENT));
+		MappingPluginState state = MappingPluginState.getInstance(project);
+		if (intermediateClass == null || intermediateClass.getQualifiedName() == null || state == null) {
+			notify(project, "Add intermediate class failed",
+				"Could not find a valid class from the selected element.", NotificationType.ERROR);
+			return;
+		}
+
+		String qualifiedName = intermediateClass.getQualifiedName();
+		List<String> intermediateClassNames = state.getIntermediateClassQualifiedNames() != null
+			? new ArrayList<>(state.getIntermediateClassQualifiedNames()) : new ArrayList<>();
+		if (qualifiedName.equals(state.getSourceClassQualifiedName()) || intermediateClassNames.contains(qualifiedName)) {
+			notify(project, "Add intermediate class failed", qualifiedName + " is already in the mapping chain.",
+				NotificationType.WARNING);
+			return;
+		}
+		intermediateClassNames.add(qualifiedName);
+		state.setIntermediateClassQualifiedNames(intermediateClassNames);
+
+		notify(project, "Intermediate class added", "Mapping chain: " + state.getSourceClassQualifiedName() + " -> "
+			+ String.join(" -> ", intermediateClassNames) + " -> (target)", NotificationType.INFORMATION);
+
+		ToolWindow toolWindow = ToolWindowManager.getInstance(project).getToolWindow("DTO Maker");
+		if (toolWindow != null) {
+			Content content = toolWindow.getContentManager().getContent(0);
+			if (content != null) {
+				JComponent component = content.getComponent();
+				if (component instanceof MappingToolWindowContentPanel) {
+					((MappingToolWindowContentPanel)component).updateIntermediateClassesLabel(intermediateClassNames);
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return 클래스 정의라면 그 클래스, 클래스 참조라면 참조된 클래스, 그 외에는 null
+	 */
+	static @Nullable PsiClass findSelectedClass(@Nullable PsiElement psiElement) {
+		if (psiElement instanceof PsiClass) {
+			return (PsiClass)psiElement;
+		}
+		PsiJavaCodeReferenceElement referenceElement = PsiTreeUtil.getParentOfType(psiElement,
+			PsiJavaCodeReferenceElement.class);
+		if (referenceElement != null && referenceElement.resolve() instanceof PsiClass) {
+			return (PsiClass)referenceElement.resolve();
+		}
+		return null;
+	}
+
+	private void notify(Project project, String title, String content, NotificationType type) {
+		NotificationGroupManager.getInstance().getNotificationGroup("Mapping Plugin Notifications")
+			.createNotification(title, content, type)
+			.notify(project);
+	}
+}
@@ -6,7 +6,6 @@ import java.util.Set;
 
 import javax.swing.*;
 
-import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
 
 import com.intellij.notification.NotificationGroupManager;
@@ -18,14 +17,11 @@ import com.intellij.openapi.actionSystem.CommonDataKeys;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.wm.ToolWindow;
 import com.intellij.openapi.wm.ToolWindowManager;
-import com.intellij.psi.JavaPsiFacade;
 import com.intellij.psi.PsiClass;
-import com.intellij.psi.PsiElementFactory;
-import com.intellij.psi.PsiField;
-import com.intellij.psi.PsiType;
-import com.intellij.psi.search.GlobalSearchScope;
 import com.intellij.ui.content.Content;
+import com.maker.engine.MappingCodeGenerator;
 import com.maker.entity.MethodResult;
+import com.maker.psi.ClassFieldIndex;
 import com.maker.state.MappingPluginState;
 import com.maker.ui.MappingToolWindowContentPanel;
 
@@ -105,10 +101,9 @@ public class GenerateGetterSetterMappingCodeAction extends AnAction {
 			return;
 		}
 
-		// 3. 클래스 이름으로부터 PsiClass 객체 가져오기
-		JavaPsiFacade psiFacade = JavaPsiFacade.getInstance(project);
-		PsiClass sourceClass = psiFacade.findClass(sourceClassQName, GlobalSearchScope.allScope(project));
-		PsiClass targetClass = psiFacade.findClass(targetClassQName, GlobalSearchScope.allScope(project));
+		// 3. 세션 캐시(스마트 포인터)에서 PsiClass 객체 가져오기 (재시작 후에만 이름으로 다시 찾음)
+		PsiClass sourceClass = state.findSourceClass();
+		PsiClass targetClass = state.findTargetClass();
 
 		if (sourceClass == null || targetClass == null) {
 			NotificationGroupManager.getInstance().getNotificationGroup("Mapping Plugin Notifications")
@@ -144,7 +139,7 @@ public class GenerateGetterSetterMappingCodeAction extends AnAction {
 
 	/**
 	 * Getter/Setter 변환 메소드의 Java 코드 문자열을 생성합니다.
-	 * Record 타입 소스 클래스도 고려하며, 타입 불일치 시 주석을 추가합니다.
+	 * Record 타입 소스 클래스도 고려하며, 타입이 다르면 변환 코드를, 변환기가 없으면 주석을 추가합니다.
 	 *
 	 * @param sourceClass 소스 PsiClass
 	 * @param targetClass 대상 PsiClass
@@ -154,171 +149,10 @@ public class GenerateGetterSetterMappingCodeAction extends AnAction {
 	 */
 	public static MethodResult generateGetterSetterMappingMethodCode(PsiClass sourceClass, PsiClass targetClass,
 		Set<String> includedTargetFieldNames, Project project, Boolean generateMethodComment, Boolean gererateAllField) {
-		StringBuilder codeBuilder = new StringBuilder();
-
-		// 1. Import 문 추가 (Builder 패턴 생성과 유사)
-		// codeBuilder.append("import ").append(targetClass.getQualifiedName()).append(";\n");
-		// codeBuilder.append("import ").append(sourceClass.getQualifiedName()).append(";\n");
-		// ... 필요한 다른 import들 ...
-		// codeBuilder.append("\n");
-
-		// 2. 메소드 시그니처 (예: public TargetClass from(SourceClass source))
-		String sourceClassName = sourceClass.getName();
-		String sourceUncapitalizedName = StringUtils.uncapitalize(sourceClassName);
-		String targetClassName = targetClass.getName();
-		String targetUncapitalizedName = StringUtils.uncapitalize(targetClassName);
-		String methodName = "gen" + targetClassName;
-
-		if (generateMethodComment) {
-			codeBuilder.append("    /**\n");
-			codeBuilder.append("     * ")
-				.append(sourceClassName)
-				.append(" 객체를 ")
-				.append(targetClassName)
-				.append(" 객체로 변환합니다.\n");
-			codeBuilder.append("     * (이 코드는 DTO MAKER 플러그인에 의해 자동 생성되었습니다 - Getter/Setter).\n");
-			codeBuilder.append("     *\n");
-			codeBuilder.append("     * @param source 변환할 ").append(sourceClassName).append(" 객체\n");
-			codeBuilder.append("     * @return 변환된 ").append(targetClassName).append(" 객체\n");
-			codeBuilder.append("     */\n");
-		}
-		codeBuilder.append("    public ")
-			.append(targetClassName)
-			.append(" ")
-			.append(methodName)
-			.append("(")
-			.append(sourceClassName)
-			.append(" ")
-			.append(sourceUncapitalizedName).append(") {\n");
-
-		// 3. 소스 객체 null 체크
-		codeBuilder.append("        // Handle null source object\n");
-		codeBuilder.append("        if (").append(sourceUncapitalizedName).append(" == null) {\n");
-		codeBuilder.append("            return null;\n");
-		codeBuilder.append("        }\n\n");
-
-		// 4. 대상 객체 생성
-		// BeanUtils.instantiateClass(targetType)와 유사하게 기본 생성자로 객체 생성
-		codeBuilder.append("    ")
-			.append(targetClassName)
-			.append(" ")
-			.append(targetUncapitalizedName)
-			.append(" = new ")
-			.append(targetClassName)
-			.append("();\n\n");
-
-		// 5. 포함된 대상 필드 목록 순회 및 Getter/Setter 호출 코드 생성
-		PsiElementFactory elementFactory = JavaPsiFacade.getElementFactory(project); // 코드 형식 조정 시 사용
-		boolean isSourceRecord = sourceClass.isRecord();
-
-		for (String targetFieldName : includedTargetFieldNames) {
-			// 대상 클래스에서 필드 찾기
-			PsiField targetField = targetClass.findFieldByName(targetFieldName, false);
-			if (targetField == null) {
-				if (gererateAllField) {
-					// 필드를 찾을 수 없는 경우 - 주석 처리
-					codeBuilder
-						.append("        ")
-						.append("// ")
-						.append(targetUncapitalizedName)
-						.append(".")
-						.append("set")
-						.append(StringUtils.capitalize(targetFieldName))
-						.append("()");
-					PsiField targetFieldInHierarchy = targetClass.findFieldByName(targetFieldName, true);
-					if (targetFieldInHierarchy != null) {
-						// 상속받은 필드인 경우
-						codeBuilder
-							.append("        // TODO: Field '")
-							.append(targetFieldName)
-							.append("' not found in ")
-							.append(targetClassName)
-							.append(" class, but found in superclass (")
-							.append(targetFieldInHierarchy.getContainingClass().getName())
-							.append("). Mapping might be needed.\n");
-						// 필요하다면 해당 필드에 대한 Setter 호출 코드를 주석 처리하여 추가
-						// codeBuilder.append("        // target.").append("set").append(StringUtils.capitalize(targetFieldName)).append("(...); // Consider mapping this inherited field\n");
-					} else {
-						// 상속 포함하여도 필드를 찾을 수 없는 경우
-						codeBuilder
-							.append("    // TODO: Field '")
-							.append(targetFieldName)
-							.append("' not found in ")
-							.append(targetClassName)
-							.append(" class\n");
-					}
-				}
-				continue;
-			}
-
-			// 소스 클래스에서 동일 이름 필드 찾기 (상속 포함)
-			PsiField sourceField = sourceClass.findFieldByName(targetFieldName, true);
-
-			if (sourceField != null) {
-				// 소스에 동일 이름 필드가 있는 경우
-				String accessorCall; // 소스 필드 접근자 호출 문자열
-				PsiType sourceType = sourceField.getType(); // 소스 필드 타입
-				PsiType targetType = targetField.getType(); // 대상 필드 타입
-
-				// 타입 불일치 주석 문자열 생성
-				String typeMismatchComment = null;
-				if (!sourceType.equals(targetType)) {
-					typeMismatchComment = " // Source type: " + sourceType.getPresentableText()
-						+ ", Target type: " + targetType.getPresentableText()
-						+ " => Type conversion needed";
-				}
-
-				// 소스 필드 접근자 호출 코드 생성 (Record vs Class)
-				if (isSourceRecord) {
-					accessorCall = sourceUncapitalizedName + "." + targetFieldName + "()";
-				} else {
-					// Class: Getter 메소드
-					String presumedGetterName = "get" + StringUtils.capitalize(targetFieldName);
-					accessorCall = sourceUncapitalizedName + "." + presumedGetterName + "()";
-				}
-
-				// 대상 클래스의 Setter 메소드 찾기
-				// PropertyUtilBase.findPropertySetter 사용
-
-				codeBuilder.append("        ")
-					.append(targetUncapitalizedName)
-					.append(".")
-					.append("set")
-					.append(StringUtils.capitalize(targetFieldName))
-					.append("(")
-					.append(accessorCall)
-					.append(");");
-				// 타입 불일치 주석도 함께 추가
-				if (typeMismatchComment != null) {
-					codeBuilder.append(typeMismatchComment);
-				}
-				codeBuilder.append("\n");
-
-			} else {
-				// 소스에 동일 이름 필드가 없는 경우
-				if (gererateAllField) {
-					codeBuilder
-						.append("        // target.")
-						.append("set")
-						.append(StringUtils.capitalize(targetFieldName))
-						.append("(); // TODO: Field '")
-						.append(targetFieldName)
-						.append("' not found in ")
-						.append(sourceClassName)
-						.append(" class\n");
-				}
-			}
-		}
-
-		// 6. 대상 객체 반환
-		codeBuilder.append("\n        return ").append(targetUncapitalizedName).append(";\n");
-
-		// 7. 메소드 종료
-		codeBuilder.append("    }\n");
-
-		// ... (showGeneratedCodeInNewTab 메소드 - 필요없음) ...
-		// 10. 코드 형식 조정 (선택 사항)
-		return new MethodResult(methodName,codeBuilder.toString());
+		// PSI 클래스를 매핑 엔진 모델로 변환(캐시된 필드 색인 사용)한 뒤 엔진에 위임
+		return MappingCodeGenerator.generateGetterSetterMethod(ClassFieldIndex.modelOf(sourceClass),
+			ClassFieldIndex.modelOf(targetClass), includedTargetFieldNames,
+			GenerateMappingCodeAction.createOptions(generateMethodComment, gererateAllField)
+				.setTypeConverters(GenerateMappingCodeAction.createTypeConverters(MappingPluginState.getInstance(project))));
 	}
-	// ... (generateCodeAndShow 메소드 - 필요없음) ...
 }
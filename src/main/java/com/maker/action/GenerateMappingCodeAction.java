@@ -1,13 +1,12 @@
 package com.maker.action;
 
-import java.util.HashSet;
+import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 
-import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import com.intellij.notification.NotificationGroupManager;
 import com.intellij.notification.NotificationType;
@@ -15,19 +14,19 @@ import com.intellij.openapi.actionSystem.ActionUpdateThread;
 import com.intellij.openapi.actionSystem.AnAction;
 import com.intellij.openapi.actionSystem.AnActionEvent;
 import com.intellij.openapi.actionSystem.CommonDataKeys;
-import com.intellij.openapi.command.WriteCommandAction;
-import com.intellij.openapi.fileEditor.FileEditorManager;
-import com.intellij.openapi.fileTypes.FileTypeManager;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.progress.ProgressManager;
 import com.intellij.openapi.project.Project;
-import com.intellij.openapi.vfs.VirtualFile;
-import com.intellij.psi.JavaPsiFacade;
 import com.intellij.psi.PsiClass;
-import com.intellij.psi.PsiField;
-import com.intellij.psi.PsiType;
-import com.intellij.psi.search.GlobalSearchScope;
-import com.intellij.testFramework.LightVirtualFile;
+import com.maker.engine.MappingClassModel;
+import com.maker.engine.MappingCodeGenerator;
+import com.maker.engine.MappingOptions;
+import com.maker.engine.TypeConverterRegistry;
 import com.maker.entity.MethodResult;
+import com.maker.psi.ClassFieldIndex;
+import com.maker.psi.ConverterMethods;
 import com.maker.state.MappingPluginState;
+import com.maker.ui.GeneratedCodePreviewService;
 
 /**
  * IntelliJ IDEA 플러그인 액션: 로드된 소스 클래스와 락온된 대상 클래스 정보를 바탕으로
@@ -118,10 +117,9 @@ public class GenerateMappingCodeAction extends AnAction {
 			return;
 		}
 
-		// 3. 클래스 이름으로부터 PsiClass 객체 가져오기
-		JavaPsiFacade psiFacade = JavaPsiFacade.getInstance(project);
-		PsiClass sourceClass = psiFacade.findClass(sourceClassQName, GlobalSearchScope.allScope(project));
-		PsiClass targetClass = psiFacade.findClass(targetClassQName, GlobalSearchScope.allScope(project));
+		// 3. 세션 캐시(스마트 포인터)에서 PsiClass 객체 가져오기 (재시작 후에만 이름으로 다시 찾음)
+		PsiClass sourceClass = state.findSourceClass();
+		PsiClass targetClass = state.findTargetClass();
 
 		if (sourceClass == null || targetClass == null) {
 			NotificationGroupManager.getInstance().getNotificationGroup("Mapping Plugin Notifications")
@@ -135,219 +133,113 @@ public class GenerateMappingCodeAction extends AnAction {
 		MethodResult methodResult = generateMappingMethodCode(sourceClass, targetClass, includedTargetFieldNames, project,
 			state.isGenerateMethodComment(), state.isGererateAllField()); // 이 메소드는 private 유지
 
-		// 5. 생성된 코드 표시 (새 에디터 탭)
-		showGeneratedCodeInNewTab(project, methodResult.generatedCode(),
-			sourceClass.getName() + "To" + targetClass.getName() + "Mapping.java"); // 이 메소드는 private 유지
+		// 5. 생성된 코드 표시 (소스/대상 쌍마다 재사용하는 미리보기 탭)
+		GeneratedCodePreviewService.getInstance(project).show(sourceClassQName, targetClassQName,
+			sourceClass.getName() + "To" + targetClass.getName() + "Mapping.java", methodResult.generatedCode(),
+			Boolean.TRUE.equals(state.isDiffWithPreviousGeneration()));
 
 		NotificationGroupManager.getInstance().getNotificationGroup("Mapping Plugin Notifications")
-			.createNotification("Mapping generatedCode generated", "Code is shown in a new tab.", NotificationType.INFORMATION)
+			.createNotification("Mapping generatedCode generated", "Code is shown in the preview tab.", NotificationType.INFORMATION)
 			.notify(project);
 	}
 
+	/**
+	 * Builder 패턴 변환 메소드의 Java 코드 문자열을 생성합니다.
+	 * PSI 클래스를 매핑 엔진 모델로 변환(캐시된 필드 색인 사용)한 뒤 {@link MappingCodeGenerator}에 위임합니다.
+	 * 읽기 작업 안에서 호출해야 합니다.
+	 *
+	 * @param sourceClass 소스 PsiClass
+	 * @param targetClass 대상 PsiClass
+	 * @param includedTargetFieldNames 포함할 대상 필드 이름 목록
+	 * @param project 현재 프로젝트
+	 * @return 메소드 이름과 생성된 Java 코드 문자열
+	 */
 	public static MethodResult generateMappingMethodCode(PsiClass sourceClass, PsiClass targetClass,
 		Set<String> includedTargetFieldNames, Project project, Boolean generateMethodComment, Boolean gererateAllField) {
-		StringBuilder codeBuilder = new StringBuilder();
-
-		// 1. Import 문 추가 (간단 예시, 실제로는 더 정교하게 처리 필요)
-		// 필요한 클래스들의 정규화된 이름을 수집하여 import 문 생성
-		// codeBuilder.append("import ").append(targetClass.getQualifiedName()).append(";\n");
-		// codeBuilder.append("import ").append(sourceClass.getQualifiedName()).append(";\n");
-		// AuditInfo 등 상속 클래스나 사용된 유틸리티 클래스 import도 추가해야 합니다.
-		// 예: codeBuilder.append("import kr.amc.amis.customer.feature.shared.AuditInfo;\n");
-		// 예: codeBuilder.append("import java.util.List;\n"); // fromList 메소드 생성 시
-		// 예: codeBuilder.append("import java.util.Collections;\n"); // fromList 메소드 생성 시
-		// 예: codeBuilder.append("import java.util.stream.Collectors;\n"); // fromList 메소드 생성 시
-		// 예: codeBuilder.append("import org.springframework.util.StringUtils;\n"); // Getter 이름 추정 시 사용
-		// codeBuilder.append("\n");
-
-		// 2. 메소드를 포함할 클래스 시작 (예시: Mapper 인터페이스 또는 클래스)
-		// 실제로는 사용자가 선택한 위치에 코드를 삽입하거나, 새 파일을 생성하는 로직이 필요합니다.
-		// 여기서는 메소드 코드 자체만 생성합니다.
-
-		// 3. from 메소드 시그니처
-		String sourceClassName = sourceClass.getName();
-		String sourceUncapitalizedName = StringUtils.uncapitalize(sourceClassName);
-		String targetClassName = targetClass.getName();
-		String targetUncapitalizedName = StringUtils.uncapitalize(targetClassName);
-		String methodName = "gen" + targetClassName;
-
-		if (generateMethodComment) {
-			codeBuilder.append("    /**\n");
-			codeBuilder.append("     * ")
-				.append(sourceClassName)
-				.append(" 객체를 ")
-				.append(targetClassName)
-				.append(" 객체로 변환합니다.\n");
-			codeBuilder.append("     * (이 코드는 DTO MAKER 플러그인에 의해 자동 생성되었습니다.)\n");
-			codeBuilder.append("     *\n");
-			codeBuilder.append("     * @param source 변환할 ").append(sourceClassName).append(" 객체\n");
-			codeBuilder.append("     * @return 변환된 ").append(targetClassName).append(" 객체\n");
-			codeBuilder.append("     */\n");
-		}
-		codeBuilder.append("    public ")
-			.append(targetClassName)
-			.append(" ")
-			.append(methodName)
-			.append("(")
-			.append(sourceClassName)
-			.append(" ")
-			.append(sourceUncapitalizedName).append(") {\n");
-
-		// 4. 소스 객체 null 체크
-		codeBuilder.append("        // Handle null source object\n");
-		codeBuilder.append("        if (").append(sourceUncapitalizedName).append(" == null) {\n");
-		codeBuilder.append("            return null;\n");
-		codeBuilder.append("        }\n\n");
-
-		// 5. 대상 클래스 Builder 호출 시작
-		codeBuilder.append("        // Use Builder pattern for target object creation\n");
-		codeBuilder.append("        return ").append(targetClassName).append(".builder()\n");
-
-		// 6. 포함된 대상 필드 목록 순회 및 매핑 코드 생성
-		// PsiElementFactory elementFactory = JavaPsiFacade.getElementFactory(project); // 코드 형식 조정 시 사용
-		boolean isSourceRecord = sourceClass.isRecord();
-
-		for (String targetFieldName : includedTargetFieldNames) {
-			// 대상 클래스에서 필드 찾기
-			PsiField targetField = targetClass.findFieldByName(targetFieldName, false);
-			if (targetField == null) {
-				// 필드를 찾을 수 없는 경우 (이름 변경 등) - 주석 처리
-				if (gererateAllField) {
-					codeBuilder
-						.append("                // .")
-						.append(targetFieldName)
-						.append("()")
-					;
-					PsiField targetFieldInHierarchy = targetClass.findFieldByName(targetFieldName, true);
-					if (targetFieldInHierarchy != null) {
-						// 상속받은 필드인 경우
-						codeBuilder
-							.append(" // TODO: Field '")
-							.append(targetFieldName)
-							.append("' not found in ")
-							.append(targetClassName)
-							.append(" class, but found in superclass (")
-							.append(targetFieldInHierarchy.getContainingClass().getName())
-							.append("). Mapping might be needed.\n");
-						// 필요하다면 해당 필드에 대한 Setter 호출 코드를 주석 처리하여 추가
-						// codeBuilder.append("        // target.").append("set").append(StringUtils.capitalize(targetFieldName)).append("(...); // Consider mapping this inherited field\n");
-					} else {
-						// 상속 포함하여도 필드를 찾을 수 없는 경우
-						codeBuilder
-							.append(" // TODO: Field '")
-							.append(targetFieldName)
-							.append("' not found in ")
-							.append(targetClassName)
-							.append(" class\n");
-					}
-				}
-				continue;
-			}
+		// 코드 형식 조정은 하지 않고 문자열만 반환합니다.
+		// (형식 조정/삽입은 PSI 요소로 변환해야 하므로 WriteCommandAction 내에서 별도로 수행해야 합니다.)
+		return MappingCodeGenerator.generateBuilderMethod(ClassFieldIndex.modelOf(sourceClass),
+			ClassFieldIndex.modelOf(targetClass), includedTargetFieldNames,
+			createOptions(generateMethodComment, gererateAllField)
+				.setTypeConverters(createTypeConverters(MappingPluginState.getInstance(project))));
+	}
 
-			// 소스 클래스에서 동일 이름 필드 찾기 (상속 포함)
-			PsiField sourceField = sourceClass.findFieldByName(targetFieldName, true);
+	/**
+	 * Tool Window/액션에서 전달된 옵션으로 매핑 엔진 옵션을 만듭니다. 필드마다 IDE 취소 요청을 확인합니다.
+	 */
+	public static MappingOptions createOptions(Boolean generateMethodComment, Boolean gererateAllField) {
+		return new MappingOptions()
+			.setGenerateMethodComment(!Boolean.FALSE.equals(generateMethodComment))
+			.setGenerateAllField(Boolean.TRUE.equals(gererateAllField))
+			.setCancellationCheck(ProgressManager::checkCanceled);
+	}
 
-			if (sourceField != null) {
-				PsiType sourceType = sourceField.getType();
-				PsiType targetType = targetField.getType();
-				// **타입 불일치 주석 문자열 생성**
-				String typeMismatchComment = null;
-				if (!sourceType.equals(targetType)) {
-					typeMismatchComment = " // Source type: " + sourceType.getPresentableText()
-						+ ", Target type: " + targetType.getPresentableText()
-						+ " => Type conversion needed";
-				}
-				if (isSourceRecord) {
-					codeBuilder.append("                .")
-						.append(targetFieldName)
-						.append("(")
-						.append(sourceUncapitalizedName)
-						.append(".")
-						.append(targetFieldName)
-						.append("())");
-					if (typeMismatchComment != null) {
-						codeBuilder.append(typeMismatchComment);
-					}
-					codeBuilder.append("\n");
-				} else {
-					String getterName = "get" + StringUtils.capitalize(targetFieldName); // Spring StringUtils 필요
-					codeBuilder.append("                .")
-						.append(targetFieldName)
-						.append("(")
-						.append(sourceUncapitalizedName)
-						.append(".")
-						.append(getterName)
-						.append("())");
-					if (typeMismatchComment != null) {
-						codeBuilder.append(typeMismatchComment);
-					}
-					codeBuilder.append("\n");
-				}
-			} else {
-				// 소스에 동일 이름 필드가 없는 경우
-				if (gererateAllField) {
-					codeBuilder
-						.append("                // .")
-						.append(targetFieldName)
-						.append("() // TODO: Field '")
-						.append(targetFieldName)
-						.append("' not found in ")
-						.append(sourceClassName)
-						.append(" class\n");
+	/**
+	 * 기본 변환기에 플러그인 상태에 등록된 사용자 변환 클래스의 메소드를 더한 변환 레지스트리를 만듭니다.
+	 * @param state 플러그인 상태 (null이면 기본 변환기만 사용)
+	 */
+	public static TypeConverterRegistry createTypeConverters(MappingPluginState state) {
+		TypeConverterRegistry typeConverters = new TypeConverterRegistry();
+		if (state != null) {
+			ReadAction.run(() -> {
+				for (PsiClass converterClass : state.findConverterClasses()) {
+					ConverterMethods.register(converterClass, typeConverters);
 				}
-			}
+			});
 		}
-
-		// 7. Builder 호출 종료
-		codeBuilder.append("                .build();\n");
-
-		// 8. 메소드 종료
-		codeBuilder.append("    }\n");
-
-		// 9. 필요하다면 List<SourceClass> -> List<TargetClass> 변환 메소드도 생성 가능
-		// codeBuilder.append("\n");
-		// codeBuilder.append("    /**\n");
-		// codeBuilder.append("     * List<").append(sourceClassName).append("> 객체를 List<").append(targetClassName).append("> 객체로 변환합니다.\n");
-		// codeBuilder.append("     *\n");
-		// codeBuilder.append("     * @param sourceList 변환할 List<").append(sourceClassName).append("> 객체\n");
-		// codeBuilder.append("     * @return 변환된 List<").append(targetClassName).append("> 객체\n");
-		// codeBuilder.append("     */\n");
-		// codeBuilder.append("    public List<").append(targetClassName).append("> fromList(List<").append(sourceClassName).append("> sourceList) {\n");
-		// codeBuilder.append("        if (sourceList == null) {\n");
-		// codeBuilder.append("            return null;\n");
-		// codeBuilder.append("        }\n");
-		// codeBuilder.append("        return sourceList.stream()\n");
-		// codeBuilder.append("                .map(this::from) // Use the single object conversion method\n");
-		// codeBuilder.append("                .collect(Collectors.toList());\n");
-		// codeBuilder.append("    }\n");
-
-		// 10. 코드 형식 조정 (선택 사항)
-		// 생성된 코드 문자열을 PSI 요소로 변환하고 IntelliJ 코드 스타일에 맞게 형식을 조정할 수 있습니다.
-		// 이 과정은 WriteCommandAction 내에서 수행되어야 합니다.
-		// CodeStyleManager codeStyleManager = CodeStyleManager.getInstance(project);
-		// PsiElement generatedPsiMethod = elementFactory.createMethodFromText(codeBuilder.toString(), null);
-		// PsiElement formattedMethod = codeStyleManager.reformat(generatedPsiMethod);
-		// return formattedMethod.getText();
-
-		return new MethodResult(methodName, codeBuilder.toString()); // 형식 조정 없이 문자열 반환
+		return typeConverters;
 	}
 
 	/**
-	 * 생성된 코드 문자열을 새 에디터 탭에 표시합니다.
-	 *
-	 * @param project 현재 프로젝트
-	 * @param code 생성된 Java 코드 문자열
-	 * @param fileName 제안할 파일 이름
+	 * 플러그인 상태에 저장된 모든 옵션(Tool Window 체크박스/콤보박스)으로 매핑 엔진 옵션을 만듭니다.
+	 * 백그라운드 작업에 넘기기 전에 EDT에서 만들어 두어야 작업 중 상태 변경의 영향을 받지 않습니다.
+	 * @param state 플러그인 상태 (null이면 기본값)
 	 */
-	private static void showGeneratedCodeInNewTab(Project project, String code, String fileName) {
-		// 쓰기 작업 내에서 가상 파일 생성 및 에디터 열기
-		WriteCommandAction.runWriteCommandAction(project, () -> {
-			// 가상 파일 생성
-			VirtualFile virtualFile = new LightVirtualFile(fileName,
-				FileTypeManager.getInstance().getFileTypeByExtension("java"), code);
+	public static MappingOptions createOptions(MappingPluginState state) {
+		if (state == null) {
+			return createOptions((Boolean)null, null);
+		}
+		return createOptions(state.isGenerateMethodComment(), state.isGererateAllField())
+			.setTypeConverters(createTypeConverters(state))
+			.setListMappingStrategy(state.getListMappingStrategy())
+			.setLazyAssociationPolicy(state.getLazyAssociationPolicy())
+			.setUnmodifiableCollections(Boolean.TRUE.equals(state.isUnmodifiableCollections()))
+			.setGenerateCollectionVariants(Boolean.TRUE.equals(state.isGenerateCollectionVariants()))
+			.setGenerateStreamingMethods(Boolean.TRUE.equals(state.isGenerateStreamingMethods()))
+			.setGenerateParallelListMethod(Boolean.TRUE.equals(state.isGenerateParallelListMethod()))
+			.setParallelThreshold(state.getParallelThreshold() != null ? state.getParallelThreshold()
+				: MappingOptions.DEFAULT_PARALLEL_THRESHOLD)
+			.setGenerateUpdateMethod(Boolean.TRUE.equals(state.isGenerateUpdateMethod()))
+			.setGeneratePatchMethod(Boolean.TRUE.equals(state.isGeneratePatchMethod()))
+			.setNestedMappers(state.createNestedMappers())
+			.setPreferConstructor(Boolean.TRUE.equals(state.isPreferConstructor()))
+			.setGenerateFieldMaskMethod(Boolean.TRUE.equals(state.isGenerateFieldMaskMethod()));
+	}
 
-			// 새 에디터 탭에 파일 열기
-			FileEditorManager.getInstance(project).openFile(virtualFile, true);
-		});
+	/**
+	 * 플러그인 상태에 등록된 중간 클래스 체인(예: Entity → DTO → Response)을 적용합니다.
+	 * 모든 중간 클래스를 거쳐 전달되는 필드만 남기고, 변환 메소드 주석에 생략한 중간 클래스를 표시하도록 옵션을 설정합니다.
+	 * 읽기 작업 안에서 호출해야 합니다.
+	 * @param options 중간 클래스 이름을 설정할 옵션 (작업마다 새로 만든 옵션)
+	 * @return 매핑할 대상 필드 이름 (중간 클래스가 없으면 그대로), 중간 클래스를 찾지 못하면 null
+	 */
+	public static @Nullable Set<String> applyIntermediateClasses(MappingPluginState state,
+		Set<String> includedTargetFieldNames, MappingOptions options) {
+		List<PsiClass> intermediateClasses = state.findIntermediateClasses();
+		if (intermediateClasses == null) {
+			return null;
+		}
+		if (intermediateClasses.isEmpty()) {
+			return includedTargetFieldNames;
+		}
+		List<MappingClassModel> intermediateModels = new ArrayList<>(intermediateClasses.size());
+		List<String> intermediateClassNames = new ArrayList<>(intermediateClasses.size());
+		for (PsiClass intermediateClass : intermediateClasses) {
+			intermediateModels.add(ClassFieldIndex.modelOf(intermediateClass));
+			intermediateClassNames.add(intermediateClass.getName());
+		}
+		options.setIntermediateClassNames(intermediateClassNames);
+		return new LinkedHashSet<>(
+			MappingCodeGenerator.resolveChainFieldNames(intermediateModels, includedTargetFieldNames));
 	}
 }
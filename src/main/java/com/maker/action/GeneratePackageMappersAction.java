@@ -0,0 +1,347 @@
+package com.maker.action;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jetbrains.annotations.NotNull;
+
+import com.intellij.concurrency.JobLauncher;
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.ide.util.PackageChooserDialog;
+import com.intellij.notification.NotificationGroupManager;
+import com.intellij.notification.NotificationType;
+import com.intellij.openapi.actionSystem.ActionUpdateThread;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.actionSystem.CommonDataKeys;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiDirectory;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiFileFactory;
+import com.intellij.psi.PsiModifier;
+import com.intellij.psi.PsiPackage;
+import com.intellij.psi.SmartPointerManager;
+import com.intellij.psi.SmartPsiElementPointer;
+import com.intellij.psi.codeStyle.CodeStyleManager;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.maker.engine.MappingClassModel;
+import com.maker.engine.MappingCodeGenerator;
+import com.maker.engine.MappingOptions;
+import com.maker.engine.NestedMapperRegistry;
+import com.maker.psi.ClassFieldIndex;
+import com.maker.psi.ProjectNestedClassResolver;
+import com.maker.state.MappingPluginState;
+
+/**
+ * IntelliJ IDEA 플러그인 액션: 소스 패키지와 대상 패키지를 선택하면 이름 규칙(예: FooEntity ↔ FooDto)으로
+ * 클래스 쌍을 찾아, 쌍마다 Mapper 클래스 하나씩을 대상 패키지에 생성합니다.
+ * 코드 생성은 진행 표시와 취소가 가능한 백그라운드 작업에서 병렬로 수행하고,
+ * 파일 생성은 마지막에 한 번의 쓰기 작업으로 처리합니다.
+ */
+public class GeneratePackageMappersAction extends AnAction {
+
+	// 쌍을 맞출 때 클래스 이름에서 제거할 접미사 (긴 것부터 검사)
+	private static final List<String> CLASS_NAME_SUFFIXES = List.of(
+		"Response", "Request", "Entity", "Model", "Data", "Dto", "DTO", "Vo", "VO");
+
+	// 중첩 객체 하위 매퍼를 모으는 공유 클래스 이름 (대상 패키지에 생성)
+	private static final String NESTED_MAPPERS_CLASS_NAME = "NestedMappers";
+
+	public GeneratePackageMappersAction() {
+		super("Generate Package Mappers"); // 컨텍스트 메뉴에 표시될 이름
+	}
+
+	@Override
+	public @NotNull ActionUpdateThread getActionUpdateThread() {
+		return ActionUpdateThread.BGT;
+	}
+
+	@Override
+	public void update(@NotNull AnActionEvent e) {
+		e.getPresentation().setEnabledAndVisible(e.getData(CommonDataKeys.PROJECT) != null);
+	}
+
+	@Override
+	public void actionPerformed(@NotNull AnActionEvent e) {
+		Project project = e.getData(CommonDataKeys.PROJECT);
+		if (project == null)
+			return;
+
+		// 1. 소스/대상 패키지 선택
+		PsiPackage sourcePackage = choosePackage(project, "Select Source Package (e.g. entities)");
+		if (sourcePackage == null)
+			return;
+		PsiPackage targetPackage = choosePackage(project, "Select Target Package (e.g. DTOs)");
+		if (targetPackage == null)
+			return;
+
+		PsiDirectory[] targetDirectories = targetPackage.getDirectories(GlobalSearchScope.projectScope(project));
+		if (targetDirectories.length == 0) {
+			notify(project, "Package mapper generation failed",
+				"Target package has no directory in the project: " + targetPackage.getQualifiedName(),
+				NotificationType.ERROR);
+			return;
+		}
+		SmartPsiElementPointer<PsiDirectory> outputDirectory = SmartPointerManager.createPointer(targetDirectories[0]);
+
+		MappingPluginState state = MappingPluginState.getInstance(project);
+		boolean generateListMethod = state != null && Boolean.TRUE.equals(state.isGenerateListMethod());
+		MappingOptions options = GenerateMappingCodeAction.createOptions(state);
+		// 중첩 객체 하위 매퍼는 Mapper마다 복사하지 않고 공유 클래스 하나에 쌍마다 한 번만 생성
+		NestedMapperRegistry nestedMappers = null;
+		if (options.getNestedMappers() != null) {
+			String targetPackageName = targetPackage.getQualifiedName();
+			nestedMappers = NestedMapperRegistry.shared(new ProjectNestedClassResolver(project),
+				options.getNestedMappers().isCycleGuard(), targetPackageName.isEmpty() ? NESTED_MAPPERS_CLASS_NAME
+					: targetPackageName + "." + NESTED_MAPPERS_CLASS_NAME);
+			options.setNestedMappers(nestedMappers);
+		}
+		NestedMapperRegistry sharedNestedMappers = nestedMappers;
+
+		// 2. 백그라운드 작업으로 쌍 찾기 및 병렬 생성
+		ProgressManager.getInstance().run(new Task.Backgroundable(project, "Generating package mappers", true) {
+			private final List<MapperFile> mapperFiles = Collections.synchronizedList(new ArrayList<>());
+			// 단순 이름이 같아 Mapper 하나에 둘 다 import할 수 없어 건너뛴 쌍 (예: entity.Customer → dto.Customer)
+			private final List<String> sameNamePairs = new ArrayList<>();
+
+			@Override
+			public void run(@NotNull ProgressIndicator indicator) {
+				indicator.setIndeterminate(false);
+				indicator.setText("Pairing classes by naming convention...");
+				List<ClassPair> pairs = ReadAction.nonBlocking(() -> {
+						sameNamePairs.clear();
+						return findClassPairs(project, sourcePackage, targetPackage, sameNamePairs);
+					})
+					.wrapProgress(indicator)
+					.executeSynchronously();
+				if (pairs.isEmpty()) {
+					return;
+				}
+
+				indicator.setText("Generating " + pairs.size() + " mappers...");
+				AtomicInteger done = new AtomicInteger();
+				// 쌍마다 독립적인 읽기 작업으로 병렬 생성 (쓰기 작업이 들어오면 자동으로 재시도됨)
+				boolean completed = JobLauncher.getInstance().invokeConcurrentlyUnderProgress(pairs, indicator, pair -> {
+					MapperFile mapperFile = ReadAction.nonBlocking(() -> generateMapperFile(pair, targetPackage.getQualifiedName(),
+							generateListMethod, options))
+						.wrapProgress(indicator)
+						.executeSynchronously();
+					if (mapperFile != null) {
+						mapperFiles.add(mapperFile);
+					}
+					indicator.setFraction((double)done.incrementAndGet() / pairs.size());
+					indicator.setText2(pair.sourceName() + " → " + pair.targetName());
+					return true;
+				});
+				if (!completed) {
+					indicator.checkCanceled();
+				}
+				if (sharedNestedMappers != null && sharedNestedMappers.hasSharedMembers()) {
+					mapperFiles.add(new MapperFile(NESTED_MAPPERS_CLASS_NAME + ".java",
+						sharedNestedMappers.generateSharedClass(), true));
+				}
+			}
+
+			@Override
+			public void onSuccess() {
+				if (mapperFiles.isEmpty()) {
+					GeneratePackageMappersAction.notify(project, "No class pairs found",
+						"No classes in " + sourcePackage.getQualifiedName() + " matched classes in "
+							+ targetPackage.getQualifiedName() + " by name." + sameNameMessage(sameNamePairs),
+						NotificationType.WARNING);
+					return;
+				}
+				writeMapperFiles(project, outputDirectory, mapperFiles, sameNamePairs);
+			}
+		});
+	}
+
+	private static PsiPackage choosePackage(Project project, String title) {
+		PackageChooserDialog dialog = new PackageChooserDialog(title, project);
+		return dialog.showAndGet() ? dialog.getSelectedPackage() : null;
+	}
+
+	/**
+	 * 소스 패키지와 대상 패키지의 클래스를 이름 규칙으로 짝짓습니다. 읽기 작업 안에서 호출해야 합니다.
+	 * 클래스 이름이 같은 쌍(예: entity.Customer ↔ dto.Customer)은 생성된 Mapper가 두 클래스를 모두 import할 수 없으므로
+	 * 짝짓지 않고 sameNamePairs에 담습니다.
+	 */
+	private static List<ClassPair> findClassPairs(Project project, PsiPackage sourcePackage, PsiPackage targetPackage,
+		List<String> sameNamePairs) {
+		GlobalSearchScope scope = GlobalSearchScope.projectScope(project);
+		Map<String, PsiClass> targetClassesByBaseName = new HashMap<>();
+		for (PsiClass targetClass : targetPackage.getClasses(scope)) {
+			if (isMappableClass(targetClass)) {
+				targetClassesByBaseName.putIfAbsent(baseName(targetClass.getName()), targetClass);
+			}
+		}
+
+		List<ClassPair> pairs = new ArrayList<>();
+		for (PsiClass sourceClass : sourcePackage.getClasses(scope)) {
+			ProgressManager.checkCanceled();
+			if (!isMappableClass(sourceClass)) {
+				continue;
+			}
+			String baseName = baseName(sourceClass.getName());
+			PsiClass targetClass = targetClassesByBaseName.get(baseName);
+			if (targetClass == null || targetClass.equals(sourceClass)) {
+				continue;
+			}
+			if (sourceClass.getName().equals(targetClass.getName())) {
+				sameNamePairs.add(sourceClass.getName());
+			} else {
+				pairs.add(new ClassPair(baseName, SmartPointerManager.createPointer(sourceClass),
+					SmartPointerManager.createPointer(targetClass), sourceClass.getName(), targetClass.getName()));
+			}
+		}
+		return pairs;
+	}
+
+	private static boolean isMappableClass(PsiClass psiClass) {
+		return psiClass.getName() != null && !psiClass.isInterface() && !psiClass.isEnum()
+			&& !psiClass.isAnnotationType() && !psiClass.hasModifierProperty(PsiModifier.ABSTRACT);
+	}
+
+	/**
+	 * 클래스 이름에서 규칙상의 접미사를 제거합니다. (FooEntity → Foo, FooDto → Foo)
+	 */
+	static String baseName(String className) {
+		for (String suffix : CLASS_NAME_SUFFIXES) {
+			if (className.length() > suffix.length() && className.endsWith(suffix)) {
+				return className.substring(0, className.length() - suffix.length());
+			}
+		}
+		return className;
+	}
+
+	/**
+	 * 클래스 쌍 하나에 대한 Mapper 클래스 소스 코드를 생성합니다. 읽기 작업 안에서 호출해야 합니다.
+	 * 대상 클래스에 Builder가 있으면 Builder 패턴, 없으면 Getter/Setter 패턴을 사용합니다.
+	 * 생성자 우선 옵션을 켰거나 Builder가 없는 Record라면 정식 생성자를 직접 호출합니다.
+	 */
+	private static MapperFile generateMapperFile(ClassPair pair, String targetPackageName, boolean generateListMethod,
+		MappingOptions options) {
+		PsiClass sourceClass = pair.sourceClass().getElement();
+		PsiClass targetClass = pair.targetClass().getElement();
+		if (sourceClass == null || targetClass == null) {
+			return null;
+		}
+
+		// 대상 클래스의 모든 인스턴스 필드 (Lock On에서 모든 필드를 선택한 것과 동일)
+		Set<String> targetFieldNames = new LinkedHashSet<>();
+		for (PsiField field : targetClass.getAllFields()) {
+			if (!field.hasModifierProperty(PsiModifier.STATIC)) {
+				targetFieldNames.add(field.getName());
+			}
+		}
+
+		String mapperClassName = pair.baseName() + "Mapper";
+		MappingClassModel targetModel = ClassFieldIndex.modelOf(targetClass);
+		String code = MappingCodeGenerator.generateMapperClass(targetPackageName, mapperClassName,
+			ClassFieldIndex.modelOf(sourceClass), targetModel, targetFieldNames,
+			MappingCodeGenerator.chooseCodeType(hasBuilder(targetClass), targetModel, options), generateListMethod,
+			options);
+		return new MapperFile(mapperClassName + ".java", code, false);
+	}
+
+	/**
+	 * 대상 클래스가 Builder를 제공하는지 확인합니다. (builder() 메소드 또는 Lombok @Builder/@SuperBuilder)
+	 */
+	static boolean hasBuilder(PsiClass targetClass) {
+		return ProjectNestedClassResolver.supportsBuilder(targetClass);
+	}
+
+	/**
+	 * 생성된 모든 Mapper 파일을 한 번의 쓰기 작업으로 대상 디렉터리에 추가합니다. 이미 있는 Mapper 파일은 건너뜁니다.
+	 * 공유 하위 매퍼 클래스는 이번에 생성한 Mapper들이 호출하는 메소드를 모두 담아야 하므로 이미 있으면 내용을 교체합니다.
+	 */
+	private static void writeMapperFiles(Project project, SmartPsiElementPointer<PsiDirectory> outputDirectory,
+		List<MapperFile> mapperFiles, List<String> sameNamePairs) {
+		List<String> skipped = new ArrayList<>();
+		List<String> replaced = new ArrayList<>();
+		int[] created = {0};
+		WriteCommandAction.runWriteCommandAction(project, "Generate Package Mappers", null, () -> {
+			PsiDirectory directory = outputDirectory.getElement();
+			if (directory == null) {
+				return;
+			}
+			PsiFileFactory fileFactory = PsiFileFactory.getInstance(project);
+			CodeStyleManager codeStyleManager = CodeStyleManager.getInstance(project);
+			PsiDocumentManager documentManager = PsiDocumentManager.getInstance(project);
+			for (MapperFile mapperFile : mapperFiles) {
+				PsiFile existingFile = directory.findFile(mapperFile.fileName());
+				if (existingFile != null && !mapperFile.shared()) {
+					skipped.add(mapperFile.fileName());
+					continue;
+				}
+				PsiFile file = fileFactory.createFileFromText(mapperFile.fileName(), JavaFileType.INSTANCE,
+					mapperFile.code());
+				codeStyleManager.reformat(file);
+				if (existingFile == null) {
+					directory.add(file);
+					created[0]++;
+					continue;
+				}
+				Document document = documentManager.getDocument(existingFile);
+				if (document == null) {
+					throw new IllegalStateException("Cannot replace " + mapperFile.fileName() + ": no document");
+				}
+				document.setText(file.getText());
+				documentManager.commitDocument(document);
+				replaced.add(mapperFile.fileName());
+			}
+		});
+
+		String message = created[0] + " mapper classes created.";
+		if (!skipped.isEmpty()) {
+			message += " Skipped (already exist): " + String.join(", ", skipped);
+		}
+		if (!replaced.isEmpty()) {
+			message += " Replaced: " + String.join(", ", replaced);
+		}
+		message += sameNameMessage(sameNamePairs);
+		notify(project, "Package mappers generated", message, NotificationType.INFORMATION);
+	}
+
+	private static String sameNameMessage(List<String> sameNamePairs) {
+		return sameNamePairs.isEmpty() ? ""
+			: " Skipped (same class name in both packages): " + String.join(", ", sameNamePairs);
+	}
+
+	private static void notify(Project project, String title, String content, NotificationType type) {
+		NotificationGroupManager.getInstance().getNotificationGroup("Mapping Plugin Notifications")
+			.createNotification(title, content, type)
+			.notify(project);
+	}
+
+	private record ClassPair(
+		String baseName,
+		SmartPsiElementPointer<PsiClass> sourceClass,
+		SmartPsiElementPointer<PsiClass> targetClass,
+		String sourceName,
+		String targetName
+	) {
+	}
+
+	private record MapperFile(
+		String fileName,
+		String code,
+		boolean shared
+	) {
+	}
+}
@@ -1,5 +1,7 @@
 package com.maker.action;
 
+import java.util.Set;
+
 import javax.swing.*;
 
 import org.jetbrains.annotations.NotNull;
@@ -18,6 +20,7 @@ import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiJavaCodeReferenceElement;
 import com.intellij.psi.util.PsiTreeUtil;
 import com.intellij.ui.content.Content;
+import com.maker.psi.ClassFieldIndex;
 import com.maker.state.MappingPluginState;
 import com.maker.ui.MappingToolWindowContentPanel;
 
@@ -115,13 +118,15 @@ public class LoadSourceClassAction extends AnAction {
 		if (state != null) {
 			String qualifiedName = sourceClass.getQualifiedName();
 			if (qualifiedName != null) { // qualifiedName이 null이 아닐 때만 저장 및 알림
-				state.setSourceClassQualifiedName(qualifiedName); // 클래스 정규화된 이름 저장
+				state.setSourceClass(sourceClass); // 클래스 정규화된 이름 저장 및 세션 캐시
+				state.setIntermediateClassQualifiedNames(null); // 새 소스에서는 중간 클래스 체인을 다시 구성
 
 				// 2. 사용자에게 알림
 				notify(project, "Source class loaded", "Loaded: " + qualifiedName, NotificationType.INFORMATION);
 
 				// 3. 플러그인 UI 업데이트 (Tool Window)
-				updateToolWindowUI(project, qualifiedName);
+				updateToolWindowUI(project, qualifiedName,
+					ClassFieldIndex.of(sourceClass).getLazyAssociationFieldNames());
 
 			} else {
 				// qualifiedName이 null인 경우 (예: 익명 클래스)
@@ -142,7 +147,7 @@ public class LoadSourceClassAction extends AnAction {
 			.notify(project);
 	}
 
-	private void updateToolWindowUI(Project project, String qualifiedName) {
+	private void updateToolWindowUI(Project project, String qualifiedName, Set<String> lazyAssociationFieldNames) {
 		ToolWindow toolWindow = ToolWindowManager.getInstance(project)
 			.getToolWindow("DTO Maker"); // plugin.xml에 등록한 ID 사용
 		if (toolWindow != null) {
@@ -159,6 +164,8 @@ public class LoadSourceClassAction extends AnAction {
 					MappingToolWindowContentPanel uiPanel = (MappingToolWindowContentPanel)component;
 					// UI 패널의 업데이트 메소드 호출
 					uiPanel.updateSourceClassLabel(qualifiedName);
+					uiPanel.updateLazyAssociationFields(lazyAssociationFieldNames);
+					uiPanel.updateIntermediateClassesLabel(null);
 				}
 			}
 		}
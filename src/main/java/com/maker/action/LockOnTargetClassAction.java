@@ -24,6 +24,7 @@ import com.intellij.psi.PsiJavaCodeReferenceElement;
 import com.intellij.psi.PsiJavaFile;
 import com.intellij.psi.util.PsiTreeUtil;
 import com.intellij.ui.content.Content;
+import com.maker.psi.ClassFieldIndex;
 import com.maker.state.MappingPluginState;
 import com.maker.ui.MappingToolWindowContentPanel;
 
@@ -125,7 +126,7 @@ public class LockOnTargetClassAction extends AnAction {
 		}
 
 		String qualifiedName = targetClass.getQualifiedName();
-		state.setTargetClassQualifiedName(qualifiedName); // 클래스 정규화된 이름 저장
+		state.setTargetClass(targetClass); // 클래스 정규화된 이름 저장 및 세션 캐시
 
 		// 2. 대상 클래스의 모든 필드 이름 추출 (상속 포함)
 		List<String> allFieldNames = new ArrayList<>();
@@ -166,6 +167,10 @@ public class LockOnTargetClassAction extends AnAction {
 					uiPanel.updateTargetClassLabel(qualifiedName);
 					uiPanel.updateSelectedFieldsList(
 						selectedFieldNamesFromUI); // <-- 선택된 필드 목록 표시 메소드 (MappingToolWindowContentPanel에 추가 필요)
+					// 소스 클래스의 지연 로딩 연관 필드를 필드 목록에 표시 (소스가 아직 없으면 표시 없음)
+					PsiClass sourceClass = state.findSourceClass();
+					uiPanel.updateLazyAssociationFields(
+						sourceClass != null ? ClassFieldIndex.of(sourceClass).getLazyAssociationFieldNames() : null);
 				}
 			}
 		}
@@ -0,0 +1,286 @@
+package com.maker.action;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.jetbrains.annotations.NotNull;
+
+import com.intellij.ide.util.TreeClassChooser;
+import com.intellij.ide.util.TreeClassChooserFactory;
+import com.intellij.notification.NotificationGroupManager;
+import com.intellij.notification.NotificationType;
+import com.intellij.openapi.actionSystem.ActionUpdateThread;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.actionSystem.CommonDataKeys;
+import com.intellij.openapi.application.ModalityState;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.TextRange;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiElementFactory;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.SmartPointerManager;
+import com.intellij.psi.SmartPsiElementPointer;
+import com.intellij.psi.codeStyle.CodeStyleManager;
+import com.intellij.psi.codeStyle.JavaCodeStyleManager;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import com.maker.engine.MappingClassModel;
+import com.maker.engine.MappingCodeGenerator;
+import com.maker.engine.MappingOptions;
+import com.maker.entity.CodeType;
+import com.maker.psi.ClassFieldIndex;
+import com.maker.state.MappingPluginState;
+
+/**
+ * IntelliJ IDEA 플러그인 액션: 생성된 gen&lt;Target&gt;(와 선택 시 update&lt;Target&gt;, gen&lt;Target&gt;List 등) 메소드를
+ * 사용자가 고른 Mapper 클래스에 실제 PSI 메소드로 추가합니다.
+ * 메소드 코드 생성은 EDT를 막지 않도록 백그라운드 읽기 작업에서 수행하고,
+ * 메소드 추가, import 추가, 참조 축약, 추가된 범위만의 형식 조정은 하나의 WriteCommandAction에서 한 번에 수행하고
+ * 문서 커밋도 마지막에 한 번만 합니다. (실행 취소 한 번으로 모두 되돌릴 수 있음)
+ */
+public class WriteMappersIntoClassAction extends AnAction {
+
+	public WriteMappersIntoClassAction() {
+		super("Write Into Class..."); // 버튼/메뉴에 표시될 이름
+	}
+
+	@Override
+	public @NotNull ActionUpdateThread getActionUpdateThread() {
+		return ActionUpdateThread.EDT;
+	}
+
+	@Override
+	public void update(@NotNull AnActionEvent e) {
+		Project project = e.getData(CommonDataKeys.PROJECT);
+		if (project == null) {
+			e.getPresentation().setEnabledAndVisible(false);
+			return;
+		}
+		MappingPluginState state = MappingPluginState.getInstance(project);
+		boolean isReady = state != null &&
+			state.getSourceClassQualifiedName() != null &&
+			state.getTargetClassQualifiedName() != null &&
+			state.getIncludedTargetFieldNames() != null;
+		e.getPresentation().setEnabledAndVisible(isReady);
+	}
+
+	@Override
+	public void actionPerformed(@NotNull AnActionEvent e) {
+		Project project = e.getData(CommonDataKeys.PROJECT);
+		if (project == null)
+			return;
+
+		// 분리된 핵심 로직 메소드 호출
+		writeIntoChosenClass(project);
+	}
+
+	/**
+	 * Mapper 클래스를 고르게 한 뒤 생성된 메소드를 추가하는 핵심 로직을 수행하는 public static 메소드.
+	 * Tool Window의 버튼 클릭 리스너에서도 호출됩니다. EDT에서 호출해야 합니다.
+	 * @param project 현재 프로젝트
+	 */
+	public static void writeIntoChosenClass(Project project) {
+		if (project == null)
+			return;
+
+		// 1. 플러그인 상태에서 정보 가져오기
+		MappingPluginState state = MappingPluginState.getInstance(project);
+		if (state == null || state.getSourceClassQualifiedName() == null || state.getTargetClassQualifiedName() == null
+			|| state.getIncludedTargetFieldNames() == null) {
+			NotificationGroupManager.getInstance().getNotificationGroup("Mapping Plugin Notifications")
+				.createNotification("Write into class failed", "Please load source and lock on target class first.",
+					NotificationType.WARNING)
+				.notify(project);
+			return;
+		}
+
+		// 2. 메소드를 추가할 Mapper 클래스 선택
+		TreeClassChooser chooser = TreeClassChooserFactory.getInstance(project)
+			.createProjectScopeChooser("Choose Mapper Class");
+		chooser.showDialog();
+		PsiClass mapperClass = chooser.getSelected();
+		if (mapperClass == null)
+			return;
+		if (!mapperClass.isWritable() || !(mapperClass.getContainingFile() instanceof PsiJavaFile)) {
+			NotificationGroupManager.getInstance().getNotificationGroup("Mapping Plugin Notifications")
+				.createNotification("Write into class failed", mapperClass.getName() + " is not a writable Java class.",
+					NotificationType.ERROR)
+				.notify(project);
+			return;
+		}
+
+		SmartPsiElementPointer<PsiClass> mapperClassPointer = SmartPointerManager.createPointer(mapperClass);
+
+		// 3. 메소드 코드 문자열 생성 (백그라운드 읽기 작업에서)
+		MappingOptions options = GenerateMappingCodeAction.createOptions(state);
+		Set<String> selectedTargetFieldNames = new LinkedHashSet<>(state.getIncludedTargetFieldNames());
+		boolean generateListMethod = Boolean.TRUE.equals(state.isGenerateListMethod());
+		ReadAction.nonBlocking(() -> {
+				PsiClass sourceClass = state.findSourceClass();
+				PsiClass targetClass = state.findTargetClass();
+				if (sourceClass == null || targetClass == null) {
+					return new GeneratedMethods(null, null, null, false,
+						"Source or target class not found. Please reload.");
+				}
+				Set<String> includedTargetFieldNames = GenerateMappingCodeAction.applyIntermediateClasses(state,
+					selectedTargetFieldNames, options);
+				if (includedTargetFieldNames == null) {
+					return new GeneratedMethods(null, null, null, false,
+						"Intermediate class not found. Please add it again.");
+				}
+				return generateMethodTexts(sourceClass, targetClass, includedTargetFieldNames, generateListMethod,
+					options);
+			})
+			.expireWhen(project::isDisposed)
+			.finishOnUiThread(ModalityState.defaultModalityState(), generatedMethods -> {
+				PsiClass chosenMapperClass = mapperClassPointer.getElement();
+				String error = generatedMethods.error() != null ? generatedMethods.error()
+					: chosenMapperClass == null ? "Mapper class no longer exists." : null;
+				if (error != null) {
+					NotificationGroupManager.getInstance().getNotificationGroup("Mapping Plugin Notifications")
+						.createNotification("Write into class failed", error, NotificationType.ERROR)
+						.notify(project);
+					return;
+				}
+
+				// 4. 한 번의 쓰기 작업으로 추가
+				int written = writeMethods(project, chosenMapperClass, generatedMethods);
+
+				NotificationGroupManager.getInstance().getNotificationGroup("Mapping Plugin Notifications")
+					.createNotification("Mapping methods written",
+						written + " method(s) written into " + chosenMapperClass.getName() + ".",
+						NotificationType.INFORMATION)
+					.notify(project);
+			})
+			.submit(AppExecutorUtil.getAppExecutorService());
+	}
+
+	/**
+	 * Mapper 클래스에 추가할 메소드 코드 문자열 목록을 생성합니다. 읽기 작업 안에서 호출해야 합니다.
+	 * 대상 클래스에 Builder가 있으면 Builder 패턴, 없으면 Getter/Setter 패턴을 사용합니다.
+	 * 생성자 우선 옵션을 켰거나 Builder가 없는 Record라면 정식 생성자를 직접 호출합니다.
+	 */
+	private static GeneratedMethods generateMethodTexts(PsiClass sourceClass, PsiClass targetClass,
+		Set<String> includedTargetFieldNames, boolean generateListMethod, MappingOptions options) {
+		MappingClassModel sourceModel = ClassFieldIndex.modelOf(sourceClass);
+		MappingClassModel targetModel = ClassFieldIndex.modelOf(targetClass);
+
+		CodeType codeType = MappingCodeGenerator.chooseCodeType(GeneratePackageMappersAction.hasBuilder(targetClass),
+			targetModel, options);
+
+		// 변환 메소드가 JIT 한도를 넘어 보조 메소드로 나뉘었다면 메소드마다 따로 추가
+		List<String> methodTexts = new ArrayList<>();
+		for (String method : MappingCodeGenerator.generateMethods(sourceModel, targetModel, includedTargetFieldNames,
+			codeType, options)) {
+			methodTexts.add(method.trim());
+		}
+		for (String additionalMethod : MappingCodeGenerator.generateAdditionalMethods(sourceModel, targetModel,
+			includedTargetFieldNames, options)) {
+			methodTexts.add(additionalMethod.trim());
+		}
+		if (generateListMethod) {
+			for (String collectionMethod : MappingCodeGenerator.generateCollectionMethods(sourceModel, targetModel,
+				options, "gen" + targetModel.name())) {
+				methodTexts.add(collectionMethod.trim());
+			}
+		}
+		// 생성 코드에서 단순 이름으로 쓰는 java.util 타입은 List 뿐 (List 변환 메소드와 List 제자리 갱신 메소드)
+		boolean usesList = generateListMethod || options.isGenerateUpdateMethod() && !targetModel.record();
+		return new GeneratedMethods(methodTexts, sourceClass.getQualifiedName(), targetClass.getQualifiedName(), usesList,
+			null);
+	}
+
+	/**
+	 * 생성된 메소드들을 Mapper 클래스에 추가합니다. 같은 시그니처의 메소드(같은 이름의 필드)가 이미 있으면 교체합니다.
+	 * PSI 변경은 모두 하나의 WriteCommandAction에서 수행하고, 형식 조정은 추가된 범위에만 적용합니다.
+	 * @return 추가/교체된 메소드 수
+	 */
+	private static int writeMethods(Project project, PsiClass mapperClass, GeneratedMethods generatedMethods) {
+		List<String> methodTexts = generatedMethods.methodTexts();
+		int[] written = {0};
+		WriteCommandAction.runWriteCommandAction(project, "Write Mapping Methods", null, () -> {
+			PsiJavaFile javaFile = (PsiJavaFile)mapperClass.getContainingFile();
+			PsiElementFactory elementFactory = JavaPsiFacade.getElementFactory(project);
+			JavaCodeStyleManager javaCodeStyleManager = JavaCodeStyleManager.getInstance(project);
+
+			// 메소드(와 enum 조회 맵 같은 정적 필드) PSI 생성 및 추가 (교체 포함)
+			List<PsiElement> addedMethods = new ArrayList<>();
+			for (String methodText : methodTexts) {
+				if (methodText.endsWith(";")) {
+					PsiField field = elementFactory.createFieldFromText(methodText, mapperClass);
+					PsiField existing = mapperClass.findFieldByName(field.getName(), false);
+					addedMethods.add(existing != null ? existing.replace(field) : mapperClass.add(field));
+					continue;
+				}
+				PsiMethod method = elementFactory.createMethodFromText(methodText, mapperClass);
+				PsiMethod existing = mapperClass.findMethodBySignature(method, false);
+				addedMethods.add(existing != null ? existing.replace(method) : mapperClass.add(method));
+			}
+
+			// import는 파일 단위로 한 번씩만 추가
+			addImport(project, javaFile, generatedMethods.sourceQualifiedName());
+			addImport(project, javaFile, generatedMethods.targetQualifiedName());
+			if (generatedMethods.usesList()) {
+				addImport(project, javaFile, "java.util.List");
+			}
+			for (PsiElement addedMethod : addedMethods) {
+				javaCodeStyleManager.shortenClassReferences(addedMethod);
+			}
+
+			// PSI 변경을 문서에 반영한 뒤 추가된 메소드 범위만 형식 조정
+			Document document = PsiDocumentManager.getInstance(project).getDocument(javaFile);
+			if (document != null) {
+				PsiDocumentManager.getInstance(project).doPostponedOperationsAndUnblockDocument(document);
+			}
+			TextRange range = null;
+			for (PsiElement addedMethod : addedMethods) {
+				if (addedMethod.isValid()) {
+					range = range == null ? addedMethod.getTextRange() : range.union(addedMethod.getTextRange());
+				}
+			}
+			if (range != null) {
+				CodeStyleManager.getInstance(project).reformatRange(javaFile, range.getStartOffset(), range.getEndOffset());
+			}
+			if (document != null) {
+				PsiDocumentManager.getInstance(project).commitDocument(document);
+			}
+			written[0] = addedMethods.size();
+		});
+		return written[0];
+	}
+
+	private static void addImport(Project project, PsiFile file, String qualifiedName) {
+		if (qualifiedName == null || !(file instanceof PsiJavaFile)) {
+			return;
+		}
+		PsiClass importClass = JavaPsiFacade.getInstance(project).findClass(qualifiedName,
+			GlobalSearchScope.allScope(project));
+		if (importClass != null) {
+			JavaCodeStyleManager.getInstance(project).addImport((PsiJavaFile)file, importClass);
+		}
+	}
+
+	/**
+	 * 백그라운드에서 생성한 메소드 코드와 import할 타입 정보. 생성에 실패했다면 error만 채워집니다.
+	 */
+	private record GeneratedMethods(
+		List<String> methodTexts,
+		String sourceQualifiedName,
+		String targetQualifiedName,
+		boolean usesList,
+		String error
+	) {
+	}
+}
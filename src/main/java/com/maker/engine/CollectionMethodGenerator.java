@@ -0,0 +1,354 @@
+package com.maker.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.maker.entity.ListMappingStrategy;
+
+/**
+ * 단일 객체 변환 메소드를 감싸는 컬렉션 변환 메소드(List, Set, Map 값, 배열)를 생성합니다.
+ * 구현 방식은 {@link MappingOptions#getListMappingStrategy()}를 따릅니다.
+ */
+final class CollectionMethodGenerator {
+
+	private CollectionMethodGenerator() {
+	}
+
+	/**
+	 * List 변환 메소드와, 옵션에 따라 Set/Map/배열 변환 메소드 및 지연 변환 메소드를 생성합니다.
+	 * @return 메소드별 코드 (생성 순서 유지)
+	 */
+	static List<String> generateCollectionMethods(MappingClassModel sourceClass, MappingClassModel targetClass,
+		MappingOptions options, String singleMethodName) {
+		List<String> methods = new ArrayList<>(8);
+		methods.add(generateListMethod(sourceClass, targetClass, options, singleMethodName));
+		if (options.isGenerateCollectionVariants()) {
+			methods.add(generateSetMethod(sourceClass, targetClass, options, singleMethodName));
+			methods.add(generateMapMethod(sourceClass, targetClass, options, singleMethodName));
+			methods.add(generateArrayMethod(sourceClass, targetClass, options, singleMethodName));
+		}
+		if (options.isGenerateParallelListMethod()) {
+			methods.addAll(generateParallelListMethods(sourceClass, targetClass, options, singleMethodName));
+		}
+		if (options.isGenerateStreamingMethods()) {
+			methods.addAll(StreamingMethodGenerator.generateStreamingMethods(sourceClass, targetClass, options,
+				singleMethodName));
+		}
+		return methods;
+	}
+
+	static String generateListMethod(MappingClassModel sourceClass, MappingClassModel targetClass,
+		MappingOptions options, String singleMethodName) {
+		StringBuilder codeBuilder = new StringBuilder(1024);
+
+		String sourceClassName = sourceClass.name();
+		String targetClassName = targetClass.name();
+		String sourceListName = MappingCodeGenerator.uncapitalize(sourceClassName) + "List";
+		String methodName = "gen" + targetClassName + "List";
+
+		// 메소드 시그니처 주석
+		if (options.isGenerateMethodComment()) {
+			codeBuilder.append("    /**\n");
+			codeBuilder.append("     * List<")
+				.append(sourceClassName)
+				.append("> 객체를 List<")
+				.append(targetClassName)
+				.append("> 객체로 변환합니다.\n");
+			codeBuilder.append("     *\n");
+			codeBuilder.append("     * @param sourceList 변환할 List<").append(sourceClassName).append("> 객체\n");
+			codeBuilder.append("     * @return 변환된 List<").append(targetClassName).append("> 객체\n");
+			codeBuilder.append("     */\n");
+		}
+		// 메소드 시그니처
+		codeBuilder.append("    public List<")
+			.append(targetClassName)
+			.append("> ")
+			.append(methodName)
+			.append("(List<")
+			.append(sourceClassName)
+			.append("> ")
+			.append(sourceListName)
+			.append(") {\n");
+
+		appendNullAndEmptyCheck(codeBuilder, sourceListName, "list", sourceListName + ".isEmpty()",
+			"java.util.Collections.emptyList()");
+
+		if (options.getListMappingStrategy() == ListMappingStrategy.LOOP) {
+			// 미리 크기를 잡은 ArrayList에 채움 (RandomAccess라면 인덱스 반복, 아니라면 Iterator 반복)
+			codeBuilder.append("        // Pre-sized result: indexed loop for RandomAccess lists, iterator otherwise\n");
+			codeBuilder.append("        List<").append(targetClassName).append("> result = new java.util.ArrayList<>(")
+				.append(sourceListName).append(".size());\n");
+			codeBuilder.append("        if (").append(sourceListName).append(" instanceof java.util.RandomAccess) {\n");
+			codeBuilder.append("            for (int i = 0, size = ").append(sourceListName).append(".size(); i < size; i++) {\n");
+			codeBuilder.append("                result.add(").append(singleMethodName).append("(")
+				.append(sourceListName).append(".get(i)));\n");
+			codeBuilder.append("            }\n");
+			codeBuilder.append("        } else {\n");
+			appendForEachAdd(codeBuilder, "            ", sourceClassName, sourceListName, singleMethodName);
+			codeBuilder.append("        }\n");
+			appendReturnResult(codeBuilder, options, "unmodifiableList");
+		} else {
+			// 스트림을 사용하여 변환
+			codeBuilder.append("        return ").append(sourceListName).append(".stream()\n");
+			codeBuilder.append("                .map(this::")
+				.append(singleMethodName)
+				.append(") // Use the single object conversion method\n");
+			appendStreamCollect(codeBuilder, options, "java.util.stream.Collectors.toList()", "unmodifiableList");
+		}
+
+		// 메소드 종료
+		codeBuilder.append("    }\n");
+		return codeBuilder.toString();
+	}
+
+	/**
+	 * Set&lt;Source&gt; → Set&lt;Target&gt; 변환 메소드 (입력 순서를 유지하는 LinkedHashSet)
+	 */
+	private static String generateSetMethod(MappingClassModel sourceClass, MappingClassModel targetClass,
+		MappingOptions options, String singleMethodName) {
+		StringBuilder codeBuilder = new StringBuilder(1024);
+		String sourceClassName = sourceClass.name();
+		String targetClassName = targetClass.name();
+		String sourceSetName = MappingCodeGenerator.uncapitalize(sourceClassName) + "Set";
+
+		appendMethodComment(codeBuilder, options, "Set<" + sourceClassName + ">", "Set<" + targetClassName + ">",
+			sourceSetName);
+		codeBuilder.append("    public java.util.Set<").append(targetClassName).append("> gen").append(targetClassName)
+			.append("Set(java.util.Set<").append(sourceClassName).append("> ").append(sourceSetName).append(") {\n");
+		appendNullAndEmptyCheck(codeBuilder, sourceSetName, "set", sourceSetName + ".isEmpty()",
+			"java.util.Collections.emptySet()");
+
+		if (options.getListMappingStrategy() == ListMappingStrategy.LOOP) {
+			codeBuilder.append("        // Pre-sized result (no rehashing while filling)\n");
+			codeBuilder.append("        java.util.Set<").append(targetClassName)
+				.append("> result = new java.util.LinkedHashSet<>((int)(").append(sourceSetName)
+				.append(".size() / 0.75f) + 1);\n");
+			appendForEachAdd(codeBuilder, "        ", sourceClassName, sourceSetName, singleMethodName);
+			appendReturnResult(codeBuilder, options, "unmodifiableSet");
+		} else {
+			codeBuilder.append("        return ").append(sourceSetName).append(".stream()\n");
+			codeBuilder.append("                .map(this::").append(singleMethodName).append(")\n");
+			appendStreamCollect(codeBuilder, options,
+				"java.util.stream.Collectors.toCollection(java.util.LinkedHashSet::new)", "unmodifiableSet");
+		}
+		codeBuilder.append("    }\n");
+		return codeBuilder.toString();
+	}
+
+	/**
+	 * Map&lt;K, Source&gt; → Map&lt;K, Target&gt; 변환 메소드 (키는 그대로, 값만 변환하며 순서 유지)
+	 */
+	private static String generateMapMethod(MappingClassModel sourceClass, MappingClassModel targetClass,
+		MappingOptions options, String singleMethodName) {
+		StringBuilder codeBuilder = new StringBuilder(1024);
+		String sourceClassName = sourceClass.name();
+		String targetClassName = targetClass.name();
+		String sourceMapName = MappingCodeGenerator.uncapitalize(sourceClassName) + "Map";
+
+		appendMethodComment(codeBuilder, options, "Map<K, " + sourceClassName + ">", "Map<K, " + targetClassName + ">",
+			sourceMapName);
+		codeBuilder.append("    public <K> java.util.Map<K, ").append(targetClassName).append("> gen")
+			.append(targetClassName).append("Map(java.util.Map<K, ").append(sourceClassName).append("> ")
+			.append(sourceMapName).append(") {\n");
+		appendNullAndEmptyCheck(codeBuilder, sourceMapName, "map", sourceMapName + ".isEmpty()",
+			"java.util.Collections.emptyMap()");
+
+		if (options.getListMappingStrategy() == ListMappingStrategy.LOOP) {
+			codeBuilder.append("        // Pre-sized result (no rehashing while filling)\n");
+			codeBuilder.append("        java.util.Map<K, ").append(targetClassName)
+				.append("> result = new java.util.LinkedHashMap<>((int)(").append(sourceMapName)
+				.append(".size() / 0.75f) + 1);\n");
+			codeBuilder.append("        for (java.util.Map.Entry<K, ").append(sourceClassName).append("> entry : ")
+				.append(sourceMapName).append(".entrySet()) {\n");
+			codeBuilder.append("            result.put(entry.getKey(), ").append(singleMethodName)
+				.append("(entry.getValue()));\n");
+			codeBuilder.append("        }\n");
+		} else {
+			// Collectors.toMap은 null 값을 허용하지 않으므로 3인자 collect 사용
+			codeBuilder.append("        java.util.Map<K, ").append(targetClassName).append("> result = ")
+				.append(sourceMapName).append(".entrySet().stream()\n");
+			codeBuilder.append("                .collect(java.util.LinkedHashMap<K, ").append(targetClassName)
+				.append(">::new,\n");
+			codeBuilder.append("                        (map, entry) -> map.put(entry.getKey(), ").append(singleMethodName)
+				.append("(entry.getValue())),\n");
+			codeBuilder.append("                        java.util.Map::putAll);\n");
+		}
+		appendReturnResult(codeBuilder, options, "unmodifiableMap");
+		codeBuilder.append("    }\n");
+		return codeBuilder.toString();
+	}
+
+	/**
+	 * Source[] → List&lt;Target&gt; 변환 메소드 (List 변환 메소드의 오버로드)
+	 */
+	private static String generateArrayMethod(MappingClassModel sourceClass, MappingClassModel targetClass,
+		MappingOptions options, String singleMethodName) {
+		StringBuilder codeBuilder = new StringBuilder(1024);
+		String sourceClassName = sourceClass.name();
+		String targetClassName = targetClass.name();
+		String sourceArrayName = MappingCodeGenerator.uncapitalize(sourceClassName) + "Array";
+
+		appendMethodComment(codeBuilder, options, sourceClassName + "[]", "List<" + targetClassName + ">",
+			sourceArrayName);
+		codeBuilder.append("    public List<").append(targetClassName).append("> gen").append(targetClassName)
+			.append("List(").append(sourceClassName).append("[] ").append(sourceArrayName).append(") {\n");
+		appendNullAndEmptyCheck(codeBuilder, sourceArrayName, "array", sourceArrayName + ".length == 0",
+			"java.util.Collections.emptyList()");
+
+		if (options.getListMappingStrategy() == ListMappingStrategy.LOOP) {
+			codeBuilder.append("        // Pre-sized result\n");
+			codeBuilder.append("        List<").append(targetClassName).append("> result = new java.util.ArrayList<>(")
+				.append(sourceArrayName).append(".length);\n");
+			appendForEachAdd(codeBuilder, "        ", sourceClassName, sourceArrayName, singleMethodName);
+			appendReturnResult(codeBuilder, options, "unmodifiableList");
+		} else {
+			codeBuilder.append("        return java.util.Arrays.stream(").append(sourceArrayName).append(")\n");
+			codeBuilder.append("                .map(this::").append(singleMethodName).append(")\n");
+			appendStreamCollect(codeBuilder, options, "java.util.stream.Collectors.toList()", "unmodifiableList");
+		}
+		codeBuilder.append("    }\n");
+		return codeBuilder.toString();
+	}
+
+	/**
+	 * 큰 List를 청크로 나누어 병렬 변환하는 메소드 2개 (공용 ForkJoinPool 사용 / Executor 지정)
+	 * 입력 크기가 임계값 미만이면 순차 반복문으로 변환하며, 각 청크는 미리 크기를 잡은 결과 배열의
+	 * 자기 인덱스 범위에만 쓰므로 동기화 없이 입력 순서가 유지됩니다.
+	 * 결과는 다시 복사하지 않고 결과 배열을 감싼 고정 크기 List로 돌려줍니다. (값 변경은 가능, 추가/삭제는 불가)
+	 */
+	private static List<String> generateParallelListMethods(MappingClassModel sourceClass,
+		MappingClassModel targetClass, MappingOptions options, String singleMethodName) {
+		String sourceClassName = sourceClass.name();
+		String targetClassName = targetClass.name();
+		String sourceListName = MappingCodeGenerator.uncapitalize(sourceClassName) + "List";
+		String methodName = "gen" + targetClassName + "ListParallel";
+
+		// 1. 공용 ForkJoinPool 위임 메소드
+		StringBuilder commonPoolBuilder = new StringBuilder(512);
+		appendMethodComment(commonPoolBuilder, options, "List<" + sourceClassName + ">",
+			"List<" + targetClassName + ">", sourceListName);
+		commonPoolBuilder.append("    public List<").append(targetClassName).append("> ").append(methodName)
+			.append("(List<").append(sourceClassName).append("> ").append(sourceListName).append(") {\n");
+		commonPoolBuilder.append("        // Chunks run on the common ForkJoin pool\n");
+		commonPoolBuilder.append("        return ").append(methodName).append("(").append(sourceListName)
+			.append(", java.util.concurrent.ForkJoinPool.commonPool());\n");
+		commonPoolBuilder.append("    }\n");
+
+		// 2. Executor 지정 메소드
+		StringBuilder codeBuilder = new StringBuilder(2048);
+		appendMethodComment(codeBuilder, options, "List<" + sourceClassName + ">", "List<" + targetClassName + ">",
+			sourceListName);
+		codeBuilder.append("    public List<").append(targetClassName).append("> ").append(methodName)
+			.append("(List<").append(sourceClassName).append("> ").append(sourceListName)
+			.append(", java.util.concurrent.Executor executor) {\n");
+		appendNullAndEmptyCheck(codeBuilder, sourceListName, "list", sourceListName + ".isEmpty()",
+			"java.util.Collections.emptyList()");
+
+		codeBuilder.append("        // Every chunk indexes into the input, so copy non-RandomAccess lists once\n");
+		codeBuilder.append("        List<").append(sourceClassName).append("> source = ").append(sourceListName)
+			.append(" instanceof java.util.RandomAccess\n");
+		codeBuilder.append("                ? ").append(sourceListName).append(" : new java.util.ArrayList<>(")
+			.append(sourceListName).append(");\n");
+		codeBuilder.append("        int size = source.size();\n");
+		codeBuilder.append("        // Pre-sized result array: each chunk writes only its own index range, so order is kept\n");
+		codeBuilder.append("        ").append(targetClassName).append("[] result = new ").append(targetClassName)
+			.append("[size];\n\n");
+
+		codeBuilder.append("        if (size < ").append(options.getParallelThreshold()).append(") {\n");
+		codeBuilder.append("            // Below the threshold a sequential loop is cheaper than handing off tasks\n");
+		codeBuilder.append("            for (int i = 0; i < size; i++) {\n");
+		codeBuilder.append("                result[i] = ").append(singleMethodName).append("(source.get(i));\n");
+		codeBuilder.append("            }\n");
+		codeBuilder.append("        } else {\n");
+		codeBuilder.append("            int chunkCount = Math.min(size, Runtime.getRuntime().availableProcessors() * 4);\n");
+		codeBuilder.append("            int chunkSize = (size + chunkCount - 1) / chunkCount;\n");
+		codeBuilder.append("            java.util.concurrent.CompletableFuture<?>[] chunks = new java.util.concurrent.CompletableFuture<?>[chunkCount];\n");
+		codeBuilder.append("            for (int chunk = 0; chunk < chunkCount; chunk++) {\n");
+		codeBuilder.append("                int from = chunk * chunkSize;\n");
+		codeBuilder.append("                int to = Math.min(from + chunkSize, size);\n");
+		codeBuilder.append("                chunks[chunk] = java.util.concurrent.CompletableFuture.runAsync(() -> {\n");
+		codeBuilder.append("                    for (int i = from; i < to; i++) {\n");
+		codeBuilder.append("                        result[i] = ").append(singleMethodName).append("(source.get(i));\n");
+		codeBuilder.append("                    }\n");
+		codeBuilder.append("                }, executor);\n");
+		codeBuilder.append("            }\n");
+		codeBuilder.append("            try {\n");
+		codeBuilder.append("                java.util.concurrent.CompletableFuture.allOf(chunks).join();\n");
+		codeBuilder.append("            } catch (java.util.concurrent.CompletionException e) {\n");
+		codeBuilder.append("                // Rethrow the mapping failure itself rather than the wrapper\n");
+		codeBuilder.append("                if (e.getCause() instanceof RuntimeException) {\n");
+		codeBuilder.append("                    throw (RuntimeException) e.getCause();\n");
+		codeBuilder.append("                }\n");
+		codeBuilder.append("                throw e;\n");
+		codeBuilder.append("            }\n");
+		codeBuilder.append("        }\n");
+		if (options.isUnmodifiableCollections()) {
+			codeBuilder.append("        return java.util.Collections.unmodifiableList(java.util.Arrays.asList(result));\n");
+		} else {
+			codeBuilder.append("        // Fixed-size view over the result array (set works, add/remove throw)\n");
+			codeBuilder.append("        return java.util.Arrays.asList(result);\n");
+		}
+		codeBuilder.append("    }\n");
+
+		return List.of(commonPoolBuilder.toString(), codeBuilder.toString());
+	}
+
+	// ===================== 공통 =====================
+
+	private static void appendMethodComment(StringBuilder codeBuilder, MappingOptions options, String sourceType,
+		String targetType, String parameterName) {
+		if (!options.isGenerateMethodComment()) {
+			return;
+		}
+		codeBuilder.append("    /**\n");
+		codeBuilder.append("     * ").append(sourceType).append(" 객체를 ").append(targetType).append(" 객체로 변환합니다.\n");
+		codeBuilder.append("     *\n");
+		codeBuilder.append("     * @param ").append(parameterName).append(" 변환할 ").append(sourceType).append(" 객체\n");
+		codeBuilder.append("     * @return 변환된 ").append(targetType).append(" 객체\n");
+		codeBuilder.append("     */\n");
+	}
+
+	private static void appendNullAndEmptyCheck(StringBuilder codeBuilder, String parameterName, String kind,
+		String emptyCondition, String emptyResult) {
+		// null 체크
+		codeBuilder.append("        // Handle null source ").append(kind).append("\n");
+		codeBuilder.append("        if (").append(parameterName).append(" == null) {\n");
+		codeBuilder.append("            return null;\n");
+		codeBuilder.append("        }\n\n");
+
+		// 빈 컬렉션 처리
+		codeBuilder.append("        // Handle empty source ").append(kind).append("\n");
+		codeBuilder.append("        if (").append(emptyCondition).append(") {\n");
+		codeBuilder.append("            return ").append(emptyResult).append("; \n");
+		codeBuilder.append("        }\n\n");
+	}
+
+	private static void appendForEachAdd(StringBuilder codeBuilder, String indent, String sourceClassName,
+		String iterableName, String singleMethodName) {
+		String elementName = MappingCodeGenerator.uncapitalize(sourceClassName);
+		codeBuilder.append(indent).append("for (").append(sourceClassName).append(" ").append(elementName)
+			.append(" : ").append(iterableName).append(") {\n");
+		codeBuilder.append(indent).append("    result.add(").append(singleMethodName).append("(")
+			.append(elementName).append("));\n");
+		codeBuilder.append(indent).append("}\n");
+	}
+
+	private static void appendReturnResult(StringBuilder codeBuilder, MappingOptions options, String unmodifiableWrapper) {
+		if (options.isUnmodifiableCollections()) {
+			codeBuilder.append("        return java.util.Collections.").append(unmodifiableWrapper).append("(result);\n");
+		} else {
+			codeBuilder.append("        return result;\n");
+		}
+	}
+
+	private static void appendStreamCollect(StringBuilder codeBuilder, MappingOptions options, String collector,
+		String unmodifiableWrapper) {
+		if (options.isUnmodifiableCollections()) {
+			// 결과 컬렉션에 null 요소가 있을 수 있으므로 toUnmodifiableList 대신 Collections로 감쌈
+			codeBuilder.append("                .collect(java.util.stream.Collectors.collectingAndThen(")
+				.append(collector).append(", java.util.Collections::").append(unmodifiableWrapper).append(")); \n");
+		} else {
+			codeBuilder.append("                .collect(").append(collector).append("); \n");
+		}
+	}
+}
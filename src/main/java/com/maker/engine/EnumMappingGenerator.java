@@ -0,0 +1,235 @@
+package com.maker.engine;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * enum 필드의 변환 코드를 생성합니다. Target.valueOf(source.name())처럼 호출마다 문자열을 찾고 불일치 시 예외를 던지는 대신
+ * 표 기반 조회를 사용합니다.
+ * <ul>
+ *   <li>enum → 다른 enum: 상수 이름이 같은 것끼리 연결한 switch 메소드 (javac가 ordinal 배열 조회로 컴파일, 없는 상수는 null)</li>
+ *   <li>enum → 코드 값/String: 코드 Getter 또는 name()을 호출하는 null 안전 메소드 (할당 없음)</li>
+ *   <li>코드 값/String → enum: 클래스 초기화 시 한 번 만드는 정적 조회 맵 (없는 값은 null)</li>
+ * </ul>
+ */
+final class EnumMappingGenerator {
+
+	private static final String STRING = "java.lang.String";
+
+	private static final Map<String, String> BOXED_TYPE_NAMES = Map.of(
+		"int", "java.lang.Integer", "long", "java.lang.Long", "short", "java.lang.Short", "byte", "java.lang.Byte",
+		"char", "java.lang.Character", "boolean", "java.lang.Boolean", "double", "java.lang.Double",
+		"float", "java.lang.Float");
+
+	private EnumMappingGenerator() {
+	}
+
+	/**
+	 * enum이 관련된 필드의 변환 식을 만듭니다. 필요한 보조 멤버는 {@link #collectSupportMembers}로 함께 생성해야 합니다.
+	 * @return 변환 식, enum 변환 대상이 아니면 null
+	 */
+	static String convert(MappingFieldModel sourceField, MappingFieldModel targetField, String valueExpression,
+		MappingOptions options) {
+		MappingEnumModel sourceEnum = sourceField.enumModel();
+		MappingEnumModel targetEnum = targetField.enumModel();
+		if (sourceEnum != null && targetEnum != null) {
+			return switchMethodName(sourceField, targetField, options) + "(" + valueExpression + ")";
+		}
+		if (sourceEnum != null) {
+			if (isCodeType(sourceEnum, targetField.typeName()) && !isPrimitive(targetField.typeName())) {
+				return accessorMethodName(sourceField, "codeOf", options) + "(" + valueExpression + ")";
+			}
+			if (STRING.equals(targetField.typeName())) {
+				return accessorMethodName(sourceField, "nameOf", options) + "(" + valueExpression + ")";
+			}
+			return null;
+		}
+		if (targetEnum != null) {
+			if (isCodeType(targetEnum, sourceField.typeName())) {
+				return lookupFieldName(targetField, "CODE", options) + ".get(" + valueExpression + ")";
+			}
+			if (STRING.equals(sourceField.typeName())) {
+				return lookupFieldName(targetField, "NAME", options) + ".get(" + valueExpression + ")";
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * null이 아님을 이미 확인한 값 식의 변환 식을 만듭니다. enum → 코드 값/String은 보조 메소드 대신 Getter를 바로 호출합니다.
+	 * @return 변환 식, enum 변환 대상이 아니면 null
+	 */
+	static String convertNonNull(MappingFieldModel sourceField, MappingFieldModel targetField, String valueExpression,
+		MappingOptions options) {
+		MappingEnumModel sourceEnum = sourceField.enumModel();
+		if (sourceEnum != null && targetField.enumModel() == null) {
+			if (isCodeType(sourceEnum, targetField.typeName()) && !isPrimitive(targetField.typeName())) {
+				return valueExpression + "." + sourceEnum.codeGetterName() + "()";
+			}
+			if (STRING.equals(targetField.typeName())) {
+				return valueExpression + ".name()";
+			}
+			return null;
+		}
+		return convert(sourceField, targetField, valueExpression, options);
+	}
+
+	/**
+	 * {@link #convert}가 만든 식이 사용하는 switch 메소드, 코드 값/이름 메소드나 정적 조회 맵을 추가합니다. 이미 추가된 멤버는 다시 만들지 않습니다.
+	 * 멤버는 정규화된 enum 타입 이름으로 구분하므로, 단순 이름이 같은 다른 enum은 이름을 구분한 별도 멤버를 받습니다.
+	 * @param members 멤버 키 → 멤버 코드 (생성 순서 유지)
+	 */
+	static void collectSupportMembers(MappingFieldModel sourceField, MappingFieldModel targetField,
+		MappingOptions options, Map<String, String> members) {
+		MappingEnumModel sourceEnum = sourceField.enumModel();
+		MappingEnumModel targetEnum = targetField.enumModel();
+		if (sourceEnum != null && targetEnum != null) {
+			String methodName = switchMethodName(sourceField, targetField, options);
+			members.computeIfAbsent(sourceField.typeName() + "->" + targetField.typeName(),
+				key -> generateSwitchMethod(sourceField, targetField, methodName, options));
+		} else if (sourceEnum != null) {
+			if (isCodeType(sourceEnum, targetField.typeName()) && !isPrimitive(targetField.typeName())) {
+				String methodName = accessorMethodName(sourceField, "codeOf", options);
+				members.computeIfAbsent(sourceField.typeName() + "#CODE_OF", key -> generateAccessorMethod(sourceField,
+					methodName, boxed(sourceEnum.codeTypeName()), sourceEnum.codeGetterName(), "코드 값", options));
+			} else if (STRING.equals(targetField.typeName())) {
+				String methodName = accessorMethodName(sourceField, "nameOf", options);
+				members.computeIfAbsent(sourceField.typeName() + "#NAME_OF", key -> generateAccessorMethod(sourceField,
+					methodName, STRING, "name", "상수 이름", options));
+			}
+		} else if (sourceEnum == null && targetEnum != null) {
+			if (isCodeType(targetEnum, sourceField.typeName())) {
+				String fieldName = lookupFieldName(targetField, "CODE", options);
+				members.computeIfAbsent(targetField.typeName() + "#BY_CODE", key -> generateLookupField(targetField, fieldName,
+					boxed(targetEnum.codeTypeName()), targetEnum.codeGetterName(), "코드 값", options));
+			} else if (STRING.equals(sourceField.typeName())) {
+				String fieldName = lookupFieldName(targetField, "NAME", options);
+				members.computeIfAbsent(targetField.typeName() + "#BY_NAME", key -> generateLookupField(targetField, fieldName, STRING, "name",
+					"상수 이름", options));
+			}
+		}
+	}
+
+	private static String generateSwitchMethod(MappingFieldModel sourceField, MappingFieldModel targetField,
+		String methodName, MappingOptions options) {
+		String sourceType = sourceField.typeName();
+		String targetType = targetField.typeName();
+		StringBuilder codeBuilder = new StringBuilder(256 + sourceField.enumModel().constants().size() * 64);
+		if (options.isGenerateMethodComment()) {
+			codeBuilder.append("    /**\n");
+			codeBuilder.append("     * ").append(sourceField.presentableTypeName()).append(" 상수를 이름이 같은 ")
+				.append(targetField.presentableTypeName()).append(" 상수로 변환합니다. (이름이 같은 상수가 없으면 null)\n");
+			codeBuilder.append("     */\n");
+		}
+		codeBuilder.append("    private static ").append(targetType).append(" ").append(methodName).append("(")
+			.append(sourceType).append(" value) {\n");
+		codeBuilder.append("        if (value == null) {\n");
+		codeBuilder.append("            return null;\n");
+		codeBuilder.append("        }\n");
+		codeBuilder.append("        switch (value) {\n");
+		Set<String> targetConstants = new HashSet<>(targetField.enumModel().constants());
+		List<String> unmappedConstants = new ArrayList<>();
+		for (String constant : sourceField.enumModel().constants()) {
+			if (targetConstants.contains(constant)) {
+				codeBuilder.append("            case ").append(constant).append(":\n");
+				codeBuilder.append("                return ").append(targetType).append(".").append(constant)
+					.append(";\n");
+			} else {
+				unmappedConstants.add(constant);
+			}
+		}
+		if (!unmappedConstants.isEmpty()) {
+			codeBuilder.append("            // No ").append(targetField.presentableTypeName())
+				.append(" constant with the same name: ").append(String.join(", ", unmappedConstants)).append("\n");
+		}
+		codeBuilder.append("            default:\n");
+		codeBuilder.append("                return null;\n");
+		codeBuilder.append("        }\n");
+		codeBuilder.append("    }\n");
+		return codeBuilder.toString();
+	}
+
+	private static String generateAccessorMethod(MappingFieldModel enumField, String methodName,
+		String valueTypeName, String valueGetterName, String valueDescription, MappingOptions options) {
+		StringBuilder codeBuilder = new StringBuilder(256);
+		if (options.isGenerateMethodComment()) {
+			codeBuilder.append("    /**\n");
+			codeBuilder.append("     * ").append(enumField.presentableTypeName()).append(" 상수의 ")
+				.append(valueDescription).append("을 반환합니다. (null이면 null)\n");
+			codeBuilder.append("     */\n");
+		}
+		codeBuilder.append("    private static ").append(shortTypeName(valueTypeName)).append(" ").append(methodName)
+			.append("(").append(enumField.typeName()).append(" value) {\n");
+		codeBuilder.append("        return value == null ? null : value.").append(valueGetterName).append("();\n");
+		codeBuilder.append("    }\n");
+		return codeBuilder.toString();
+	}
+
+	private static String generateLookupField(MappingFieldModel enumField, String fieldName, String keyTypeName,
+		String keyGetterName, String keyDescription, MappingOptions options) {
+		String enumType = enumField.typeName();
+		StringBuilder codeBuilder = new StringBuilder(384);
+		if (options.isGenerateMethodComment()) {
+			codeBuilder.append("    // ").append(enumField.presentableTypeName()).append(" ").append(keyDescription)
+				.append(" → 상수 조회 맵 (클래스 초기화 시 한 번만 생성, 없는 값은 null)\n");
+		}
+		String keyType = shortTypeName(keyTypeName);
+		codeBuilder.append("    private static final java.util.Map<").append(keyType).append(", ").append(enumType)
+			.append("> ").append(fieldName).append(" = java.util.Arrays.stream(").append(enumType).append(".values())\n");
+		codeBuilder.append("            .collect(java.util.stream.Collectors.toMap(").append(enumType).append("::")
+			.append(keyGetterName).append(", java.util.function.Function.identity(), (first, second) -> first));\n");
+		return codeBuilder.toString();
+	}
+
+	/**
+	 * @return 예: mapOrderStatusToOrderStatusCode (단순 이름이 같은 enum끼리라면 mapStatusToDtoStatus)
+	 */
+	private static String switchMethodName(MappingFieldModel sourceField, MappingFieldModel targetField,
+		MappingOptions options) {
+		MemberNames memberNames = options.getMemberNames();
+		return "map" + memberNames.typeName(sourceField.typeName()) + "To" + memberNames.typeName(targetField.typeName());
+	}
+
+	/**
+	 * @param prefix codeOf 또는 nameOf
+	 * @return 예: codeOfOrderStatus (단순 이름이 같은 다른 enum이 먼저 쓰였다면 codeOfEntityStatus)
+	 */
+	private static String accessorMethodName(MappingFieldModel enumField, String prefix, MappingOptions options) {
+		return prefix + options.getMemberNames().typeName(enumField.typeName());
+	}
+
+	/**
+	 * @return 예: ORDER_STATUS_BY_CODE (단순 이름이 같은 다른 enum이 먼저 쓰였다면 DTO_ORDER_STATUS_BY_CODE)
+	 */
+	private static String lookupFieldName(MappingFieldModel enumField, String keyKind, MappingOptions options) {
+		String simpleName = options.getMemberNames().typeName(enumField.typeName());
+		StringBuilder nameBuilder = new StringBuilder(simpleName.length() + 16);
+		for (int i = 0; i < simpleName.length(); i++) {
+			char c = simpleName.charAt(i);
+			if (i > 0 && Character.isUpperCase(c) && !Character.isUpperCase(simpleName.charAt(i - 1))) {
+				nameBuilder.append('_');
+			}
+			nameBuilder.append(Character.toUpperCase(c));
+		}
+		return nameBuilder.append("_BY_").append(keyKind).toString();
+	}
+
+	private static String shortTypeName(String typeName) {
+		return typeName.startsWith("java.lang.") ? typeName.substring("java.lang.".length()) : typeName;
+	}
+
+	private static boolean isCodeType(MappingEnumModel enumModel, String typeName) {
+		return enumModel.codeTypeName() != null && boxed(enumModel.codeTypeName()).equals(boxed(typeName));
+	}
+
+	private static boolean isPrimitive(String typeName) {
+		return BOXED_TYPE_NAMES.containsKey(typeName);
+	}
+
+	private static String boxed(String typeName) {
+		return BOXED_TYPE_NAMES.getOrDefault(typeName, typeName);
+	}
+}
@@ -0,0 +1,292 @@
+package com.maker.engine;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.maker.entity.CodeType;
+
+/**
+ * 소스 객체 하나를 여러 대상 객체(목록 항목, 상세, 감사 로그, 이벤트 페이로드 등)로 한 번에 변환하는
+ * gen&lt;Source&gt;Views(Source) 메소드와 결과 record를 생성합니다.
+ * 대상마다 변환 메소드를 따로 호출하면 같은 Getter(지연 로딩 확인, 계산 비용이 큰 Getter 포함)를 대상 수만큼 호출하므로,
+ * 필요한 소스 값을 지역 변수로 한 번씩만 읽고 모든 대상이 나누어 씁니다.
+ * 소스 필드 찾기와 보조 멤버(enum 변환, 중첩 객체 하위 매퍼) 생성도 대상 사이에서 한 번만 합니다.
+ */
+public final class FanOutMethodGenerator {
+
+	/**
+	 * 한 번에 만들 대상 하나입니다.
+	 * @param targetClass 대상 클래스 모델
+	 * @param includedTargetFieldNames 매핑할 대상 필드 이름 (순서 유지)
+	 * @param codeType 대상 객체를 만드는 코드 형태 ({@link MappingCodeGenerator#resolveCodeType}으로 다시 확인함)
+	 */
+	public record FanOutTarget(
+		MappingClassModel targetClass,
+		Collection<String> includedTargetFieldNames,
+		CodeType codeType
+	) {
+	}
+
+	private FanOutMethodGenerator() {
+	}
+
+	/**
+	 * @return 결과 record 이름 (소스 클래스 이름 + Views)
+	 */
+	public static String resultName(MappingClassModel sourceClass) {
+		return sourceClass.name() + "Views";
+	}
+
+	/**
+	 * 결과 record, 변환 메소드, 변환 코드가 사용하는 보조 멤버를 순서대로 생성합니다.
+	 * 같은 대상 클래스가 여러 번 있으면 처음 것만 사용합니다.
+	 * @return 멤버별 코드 (필드 선언은 ';'로 끝남)
+	 */
+	public static List<String> generateMembers(MappingClassModel sourceClass, List<FanOutTarget> targets,
+		MappingOptions options) {
+		Runnable cancellationCheck = options.getCancellationCheck();
+		String sourceVariableName = MappingCodeGenerator.uncapitalize(sourceClass.name());
+
+		// 대상별 변수 이름 (단순 이름이 같은 대상이 있으면 번호를 붙임)
+		List<FanOutTarget> distinctTargets = new ArrayList<>(targets.size());
+		List<String> targetVariableNames = new ArrayList<>(targets.size());
+		Set<String> targetQualifiedNames = new HashSet<>();
+		Set<String> usedVariableNames = new HashSet<>();
+		usedVariableNames.add(sourceVariableName);
+		for (FanOutTarget target : targets) {
+			if (!targetQualifiedNames.add(target.targetClass().qualifiedName())) {
+				continue;
+			}
+			String variableName = MappingCodeGenerator.uncapitalize(target.targetClass().name());
+			for (int suffix = 2; !usedVariableNames.add(variableName); suffix++) {
+				variableName = MappingCodeGenerator.uncapitalize(target.targetClass().name()) + suffix;
+			}
+			distinctTargets.add(target);
+			targetVariableNames.add(variableName);
+		}
+
+		// 소스 필드는 이름마다 한 번만 찾고, 어느 대상에서든 읽는 필드만 지역 변수로 선언
+		Map<String, MappingFieldModel> sourceFields = new LinkedHashMap<>();
+		Map<String, String> readFieldVariables = new LinkedHashMap<>();
+		for (FanOutTarget target : distinctTargets) {
+			for (String targetFieldName : target.includedTargetFieldNames()) {
+				cancellationCheck.run();
+				if (!sourceFields.containsKey(targetFieldName)) {
+					sourceFields.put(targetFieldName, sourceClass.findField(targetFieldName, true));
+				}
+				MappingFieldModel sourceField = sourceFields.get(targetFieldName);
+				if (sourceField != null && target.targetClass().findField(targetFieldName, true) != null
+					&& !LazyAssociationGenerator.isSkipped(sourceField, options)) {
+					readFieldVariables.putIfAbsent(targetFieldName,
+						"source" + MappingCodeGenerator.capitalize(targetFieldName));
+				}
+			}
+		}
+
+		List<String> members = new ArrayList<>(4);
+		members.add(generateResultRecord(sourceClass, distinctTargets, targetVariableNames, options));
+
+		StringBuilder codeBuilder = new StringBuilder(1024 + readFieldVariables.size() * 64 * (distinctTargets.size() + 1));
+		appendMethodHeader(codeBuilder, sourceClass, distinctTargets, sourceVariableName, options);
+		if (!readFieldVariables.isEmpty()) {
+			codeBuilder.append("        // Read each source value once (shared by all targets)\n");
+		}
+		for (Map.Entry<String, String> entry : readFieldVariables.entrySet()) {
+			MappingFieldModel sourceField = sourceFields.get(entry.getKey());
+			String accessorCall = sourceVariableName + "."
+				+ (sourceClass.record() ? sourceField.name() : sourceField.getterName()) + "()";
+			codeBuilder.append("        ").append(PatchMethodGenerator.localTypeName(sourceField.typeName()))
+				.append(" ").append(entry.getValue()).append(" = ")
+				.append(LazyAssociationGenerator.guard(sourceField, sourceVariableName, accessorCall, options))
+				.append(";\n");
+		}
+		// 하위 매퍼를 호출하는 대상이 있다면 모든 대상이 함께 쓸 IdentityHashMap을 한 번만 만듦
+		String mappedVariableName = null;
+		for (FanOutTarget target : distinctTargets) {
+			mappedVariableName = MappingCodeGenerator.mappedVariableName(sourceClass, target.targetClass(),
+				target.includedTargetFieldNames(), options);
+			if (mappedVariableName != null) {
+				break;
+			}
+		}
+		MappingCodeGenerator.appendMappedObjectsDeclaration(codeBuilder, mappedVariableName);
+
+		Map<String, String> supportMembers = new LinkedHashMap<>();
+		for (int i = 0; i < distinctTargets.size(); i++) {
+			cancellationCheck.run();
+			FanOutTarget target = distinctTargets.get(i);
+			codeBuilder.append("\n");
+			appendTarget(codeBuilder, sourceClass, target, targetVariableNames.get(i), sourceFields, readFieldVariables,
+				mappedVariableName, options);
+			MappingCodeGenerator.collectSupportMembers(sourceClass, target.targetClass(),
+				target.includedTargetFieldNames(), options, supportMembers);
+			// 대상별 gen 메소드가 없으므로 자기 자신을 참조하는 쌍도 하위 매퍼로 생성
+			NestedMappingGenerator.collectMembers(sourceClass, target.targetClass(), target.includedTargetFieldNames(),
+				options, supportMembers, false);
+		}
+		codeBuilder.append("\n        return new ").append(resultName(sourceClass)).append("(")
+			.append(String.join(", ", targetVariableNames)).append(");\n");
+		codeBuilder.append("    }\n");
+		members.add(codeBuilder.toString());
+		members.addAll(supportMembers.values());
+		return members;
+	}
+
+	private static String generateResultRecord(MappingClassModel sourceClass, List<FanOutTarget> targets,
+		List<String> targetVariableNames, MappingOptions options) {
+		StringBuilder codeBuilder = new StringBuilder(256);
+		if (options.isGenerateMethodComment()) {
+			codeBuilder.append("    // gen").append(resultName(sourceClass)).append("가 한 번에 만든 ")
+				.append(sourceClass.name()).append(" 변환 결과\n");
+		}
+		codeBuilder.append("    public record ").append(resultName(sourceClass)).append("(");
+		for (int i = 0; i < targets.size(); i++) {
+			codeBuilder.append(i == 0 ? "" : ", ").append(targets.get(i).targetClass().name()).append(" ")
+				.append(targetVariableNames.get(i));
+		}
+		codeBuilder.append(") {\n");
+		codeBuilder.append("    }\n");
+		return codeBuilder.toString();
+	}
+
+	private static void appendMethodHeader(StringBuilder codeBuilder, MappingClassModel sourceClass,
+		List<FanOutTarget> targets, String sourceVariableName, MappingOptions options) {
+		String sourceClassName = sourceClass.name();
+		if (options.isGenerateMethodComment()) {
+			List<String> targetClassNames = new ArrayList<>(targets.size());
+			for (FanOutTarget target : targets) {
+				targetClassNames.add(target.targetClass().name());
+			}
+			codeBuilder.append("    /**\n");
+			codeBuilder.append("     * ").append(sourceClassName).append(" 객체를 ")
+				.append(String.join(", ", targetClassNames)).append(" 객체로 한 번에 변환합니다.\n");
+			codeBuilder.append("     * (소스 Getter는 필드마다 한 번만 호출하며, 모든 대상이 읽은 값을 나누어 씁니다.)\n");
+			codeBuilder.append("     * (이 코드는 DTO MAKER 플러그인에 의해 자동 생성되었습니다.)\n");
+			codeBuilder.append("     *\n");
+			codeBuilder.append("     * @param ").append(sourceVariableName).append(" 변환할 ").append(sourceClassName)
+				.append(" 객체\n");
+			codeBuilder.append("     * @return 변환된 객체들\n");
+			codeBuilder.append("     */\n");
+		}
+		codeBuilder.append("    public ").append(resultName(sourceClass)).append(" gen").append(resultName(sourceClass))
+			.append("(").append(sourceClassName).append(" ").append(sourceVariableName).append(") {\n");
+		codeBuilder.append("        // Handle null source object\n");
+		codeBuilder.append("        if (").append(sourceVariableName).append(" == null) {\n");
+		codeBuilder.append("            return null;\n");
+		codeBuilder.append("        }\n\n");
+	}
+
+	/**
+	 * 대상 객체 하나를 만드는 코드를 추가합니다. 값은 미리 읽어 둔 지역 변수에서 가져옵니다.
+	 */
+	private static void appendTarget(StringBuilder codeBuilder, MappingClassModel sourceClass, FanOutTarget target,
+		String targetVariableName, Map<String, MappingFieldModel> sourceFields, Map<String, String> readFieldVariables,
+		String mappedVariableName, MappingOptions options) {
+		MappingClassModel targetClass = target.targetClass();
+		String targetClassName = targetClass.name();
+		CodeType codeType = MappingCodeGenerator.resolveCodeType(target.codeType(), targetClass);
+
+		if (codeType == CodeType.CONSTRUCTOR) {
+			// 정식 생성자에는 모든 인자가 필요하므로 선택하지 않았거나 소스에 없는 매개변수에는 기본값을 넘김
+			codeBuilder.append("        ").append(targetClassName).append(" ").append(targetVariableName)
+				.append(" = new ").append(targetClassName).append("(\n");
+			List<String> parameterNames = targetClass.constructorParameterNames();
+			for (int i = 0; i < parameterNames.size(); i++) {
+				String parameterName = parameterNames.get(i);
+				String separator = i < parameterNames.size() - 1 ? "," : "";
+				MappingFieldModel targetField = targetClass.findField(parameterName, true);
+				String value = target.includedTargetFieldNames().contains(parameterName)
+					? mappedValue(sourceFields.get(parameterName), targetField, readFieldVariables.get(parameterName),
+					mappedVariableName, options) : null;
+				codeBuilder.append("                ");
+				if (value == null) {
+					codeBuilder.append(targetField != null
+						? MappingCodeGenerator.DEFAULT_VALUES.getOrDefault(targetField.typeName(), "null") : "null")
+						.append(separator).append(" // ").append(parameterName).append(" (not mapped)\n");
+				} else {
+					codeBuilder.append(value).append(separator);
+					appendTypeMismatchComment(codeBuilder, sourceFields.get(parameterName), targetField, options);
+					codeBuilder.append("\n");
+				}
+			}
+			for (String targetFieldName : target.includedTargetFieldNames()) {
+				if (!parameterNames.contains(targetFieldName)) {
+					codeBuilder.append(MappingCodeGenerator.notConstructorParameterLine(targetFieldName));
+				}
+			}
+			codeBuilder.append("        );\n");
+			return;
+		}
+
+		boolean builder = codeType == CodeType.BUILDER;
+		codeBuilder.append("        ").append(targetClassName).append(" ").append(targetVariableName)
+			.append(builder ? " = " + targetClassName + ".builder()\n" : " = new " + targetClassName + "();\n");
+		for (String targetFieldName : target.includedTargetFieldNames()) {
+			MappingFieldModel targetField = targetClass.findField(targetFieldName, false);
+			MappingFieldModel sourceField = sourceFields.get(targetFieldName);
+			String value = targetField != null
+				? mappedValue(sourceField, targetField, readFieldVariables.get(targetFieldName), mappedVariableName,
+				options) : null;
+			if (value == null) {
+				if (sourceField != null && targetField != null) {
+					codeBuilder.append("        // ").append(targetFieldName).append(" not mapped.")
+						.append(LazyAssociationGenerator.skippedComment().substring(" //".length())).append("\n");
+				} else if (options.isGenerateAllField()) {
+					codeBuilder.append("        // TODO: Field '").append(targetFieldName).append("' not found in ")
+						.append(targetField == null ? targetClassName : sourceClass.name()).append(" class\n");
+				}
+				continue;
+			}
+			if (builder) {
+				codeBuilder.append("                .").append(targetFieldName).append("(").append(value).append(")");
+			} else {
+				codeBuilder.append("        ").append(targetVariableName).append(".").append(targetField.setterName())
+					.append("(").append(value).append(");");
+			}
+			appendTypeMismatchComment(codeBuilder, sourceField, targetField, options);
+			codeBuilder.append("\n");
+		}
+		if (builder) {
+			codeBuilder.append("                .build();\n");
+		}
+	}
+
+	/**
+	 * 미리 읽어 둔 지역 변수를 대상 필드 타입으로 변환한 값 식을 만듭니다.
+	 * 로딩 여부를 확인한 지연 로딩 연관 값은 null일 수 있으므로 변환 전에 null을 확인합니다.
+	 * @param variableName 소스 값을 담은 지역 변수 이름 (읽지 않은 필드라면 null)
+	 * @param mappedVariableName 하위 매퍼 호출에 넘길 순환 방지용 IdentityHashMap 변수 이름 (없으면 null)
+	 * @return 값 식 (변환기가 없으면 지역 변수 그대로), 매핑할 수 없으면 null
+	 */
+	private static String mappedValue(MappingFieldModel sourceField, MappingFieldModel targetField,
+		String variableName, String mappedVariableName, MappingOptions options) {
+		if (sourceField == null || targetField == null || variableName == null) {
+			return null;
+		}
+		if (sourceField.typeName().equals(targetField.typeName())) {
+			return variableName;
+		}
+		String conversion = MappingCodeGenerator.convertValue(sourceField, targetField, variableName, options,
+			mappedVariableName);
+		if (conversion == null) {
+			return variableName;
+		}
+		return LazyAssociationGenerator.isGuarded(sourceField, options)
+			? variableName + " == null ? null : " + conversion : conversion;
+	}
+
+	private static void appendTypeMismatchComment(StringBuilder codeBuilder, MappingFieldModel sourceField,
+		MappingFieldModel targetField, MappingOptions options) {
+		if (!sourceField.typeName().equals(targetField.typeName())
+			&& MappingCodeGenerator.convertValue(sourceField, targetField, "value", options) == null) {
+			codeBuilder.append(" // Source type: ").append(sourceField.presentableTypeName())
+				.append(", Target type: ").append(targetField.presentableTypeName())
+				.append(" => Type conversion needed");
+		}
+	}
+}
@@ -0,0 +1,177 @@
+package com.maker.engine;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 요청된 필드만 변환하는 gen&lt;Target&gt;(Source, 필드 마스크) 메소드와 필드 이름 → 비트 번호 조회 맵을 생성합니다.
+ * GraphQL 선택 집합이나 REST sparse fieldset처럼 요청마다 일부 필드만 필요할 때, 비트가 켜진 필드의 Getter만 호출하므로
+ * 계산 비용이 큰 Getter나 지연 로딩을 건너뜁니다.
+ * 필드 마스크는 &lt;target&gt;FieldMask(필드 이름 목록)로 한 번 만들어 재사용합니다. (요청마다 이름을 비교하지 않음)
+ * 비트를 부여할 필드가 64개 이하라면 long, 그보다 많으면 java.util.BitSet을 마스크로 사용합니다.
+ */
+final class FieldMaskMethodGenerator {
+
+	// long 비트 마스크로 표현할 수 있는 최대 필드 수
+	private static final int LONG_MASK_BITS = Long.SIZE;
+
+	private FieldMaskMethodGenerator() {
+	}
+
+	/**
+	 * 조회 맵 필드, 마스크 생성 메소드, 필드 마스크를 받는 변환 메소드를 순서대로 생성합니다.
+	 * 대상 객체는 기본 생성자와 Setter로 만듭니다. (Record 대상은 호출하는 쪽에서 제외)
+	 * @return 멤버별 코드 (필드 선언은 ';'로 끝남)
+	 */
+	static List<String> generateMembers(MappingClassModel sourceClass, MappingClassModel targetClass,
+		Collection<String> includedTargetFieldNames, MappingOptions options) {
+		// 비트를 부여할 필드(소스/대상 모두 있고 매핑하는 필드)를 먼저 골라 비트 번호를 촘촘하게 매김
+		List<String> maskedFieldNames = new ArrayList<>(includedTargetFieldNames.size());
+		Runnable cancellationCheck = options.getCancellationCheck();
+		for (String targetFieldName : includedTargetFieldNames) {
+			cancellationCheck.run();
+			MappingFieldModel targetField = targetClass.findField(targetFieldName, false);
+			MappingFieldModel sourceField = sourceClass.findField(targetFieldName, true);
+			if (targetField != null && sourceField != null
+				&& !LazyAssociationGenerator.isSkipped(sourceField, options)) {
+				maskedFieldNames.add(targetFieldName);
+			}
+		}
+		boolean useBitSet = maskedFieldNames.size() > LONG_MASK_BITS;
+		String bitsFieldName = constantName(targetClass.name()) + "_FIELD_BITS";
+
+		List<String> members = new ArrayList<>(3);
+		members.add(generateBitsField(targetClass, maskedFieldNames, bitsFieldName, options));
+		members.add(generateMaskMethod(targetClass, bitsFieldName, useBitSet, options));
+		members.add(generateMaskedMethod(sourceClass, targetClass, includedTargetFieldNames, maskedFieldNames,
+			useBitSet, options));
+		return members;
+	}
+
+	private static String generateBitsField(MappingClassModel targetClass, List<String> maskedFieldNames,
+		String bitsFieldName, MappingOptions options) {
+		StringBuilder codeBuilder = new StringBuilder(128 + maskedFieldNames.size() * 48);
+		if (options.isGenerateMethodComment()) {
+			codeBuilder.append("    // ").append(targetClass.name()).append(" 필드 이름 → 필드 마스크의 비트 번호\n");
+		}
+		codeBuilder.append("    public static final java.util.Map<String, Integer> ").append(bitsFieldName)
+			.append(" = java.util.Map.ofEntries(");
+		for (int bit = 0; bit < maskedFieldNames.size(); bit++) {
+			codeBuilder.append(bit == 0 ? "\n" : ",\n").append("            java.util.Map.entry(\"")
+				.append(maskedFieldNames.get(bit)).append("\", ").append(bit).append(")");
+		}
+		codeBuilder.append(");\n");
+		return codeBuilder.toString();
+	}
+
+	private static String generateMaskMethod(MappingClassModel targetClass, String bitsFieldName, boolean useBitSet,
+		MappingOptions options) {
+		String targetClassName = targetClass.name();
+		StringBuilder codeBuilder = new StringBuilder(1024);
+		if (options.isGenerateMethodComment()) {
+			codeBuilder.append("    /**\n");
+			codeBuilder.append("     * 필드 이름 목록을 gen").append(targetClassName)
+				.append(" 메소드에 넘길 필드 마스크로 변환합니다. 한 번 만들어 재사용하세요.\n");
+			codeBuilder.append("     * (이 코드는 DTO MAKER 플러그인에 의해 자동 생성되었습니다.)\n");
+			codeBuilder.append("     *\n");
+			codeBuilder.append("     * @param fieldNames 변환할 ").append(targetClassName).append(" 필드 이름\n");
+			codeBuilder.append("     * @return 필드 마스크\n");
+			codeBuilder.append("     * @throws IllegalArgumentException 매핑하지 않는 필드 이름이 있는 경우\n");
+			codeBuilder.append("     */\n");
+		}
+		codeBuilder.append("    public static ").append(useBitSet ? "java.util.BitSet " : "long ")
+			.append(MappingCodeGenerator.uncapitalize(targetClassName))
+			.append("FieldMask(java.util.Collection<String> fieldNames) {\n");
+		codeBuilder.append(useBitSet ? "        java.util.BitSet mask = new java.util.BitSet();\n"
+			: "        long mask = 0L;\n");
+		codeBuilder.append("        for (String fieldName : fieldNames) {\n");
+		codeBuilder.append("            Integer bit = ").append(bitsFieldName).append(".get(fieldName);\n");
+		codeBuilder.append("            if (bit == null) {\n");
+		codeBuilder.append("                throw new IllegalArgumentException(\"Unknown ").append(targetClassName)
+			.append(" field: \" + fieldName);\n");
+		codeBuilder.append("            }\n");
+		codeBuilder.append(useBitSet ? "            mask.set(bit);\n" : "            mask |= 1L << bit;\n");
+		codeBuilder.append("        }\n");
+		codeBuilder.append("        return mask;\n");
+		codeBuilder.append("    }\n");
+		return codeBuilder.toString();
+	}
+
+	private static String generateMaskedMethod(MappingClassModel sourceClass, MappingClassModel targetClass,
+		Collection<String> includedTargetFieldNames, List<String> maskedFieldNames, boolean useBitSet,
+		MappingOptions options) {
+		String sourceClassName = sourceClass.name();
+		String targetClassName = targetClass.name();
+		String sourceVariableName = MappingCodeGenerator.uncapitalize(sourceClassName);
+		String targetVariableName = MappingCodeGenerator.uncapitalize(targetClassName);
+
+		StringBuilder codeBuilder = new StringBuilder(512 + includedTargetFieldNames.size() * 160);
+		if (options.isGenerateMethodComment()) {
+			codeBuilder.append("    /**\n");
+			codeBuilder.append("     * ").append(sourceClassName).append(" 객체를 ").append(targetClassName)
+				.append(" 객체로 변환하되, 필드 마스크에 포함된 필드만 복사합니다. (나머지 필드의 Getter는 호출하지 않음)\n");
+			codeBuilder.append("     * (이 코드는 DTO MAKER 플러그인에 의해 자동 생성되었습니다.)\n");
+			codeBuilder.append("     *\n");
+			codeBuilder.append("     * @param ").append(sourceVariableName).append(" 변환할 ").append(sourceClassName)
+				.append(" 객체\n");
+			codeBuilder.append("     * @param fieldMask ").append(MappingCodeGenerator.uncapitalize(targetClassName))
+				.append("FieldMask로 만든 필드 마스크\n");
+			codeBuilder.append("     * @return 변환된 ").append(targetClassName).append(" 객체\n");
+			codeBuilder.append("     */\n");
+		}
+		codeBuilder.append("    public ").append(targetClassName).append(" gen").append(targetClassName).append("(")
+			.append(sourceClassName).append(" ").append(sourceVariableName).append(", ")
+			.append(useBitSet ? "java.util.BitSet" : "long").append(" fieldMask) {\n");
+		codeBuilder.append("        // Handle null source object\n");
+		codeBuilder.append("        if (").append(sourceVariableName).append(" == null) {\n");
+		codeBuilder.append("            return null;\n");
+		codeBuilder.append("        }\n");
+		MappingCodeGenerator.appendMappedObjectsDeclaration(codeBuilder,
+			MappingCodeGenerator.mappedVariableName(sourceClass, targetClass, includedTargetFieldNames, options));
+		codeBuilder.append("\n");
+		codeBuilder.append("        ").append(targetClassName).append(" ").append(targetVariableName).append(" = new ")
+			.append(targetClassName).append("();\n\n");
+
+		Runnable cancellationCheck = options.getCancellationCheck();
+		// 비트 번호는 포함된 필드 순서대로 매겼으므로 다음 비트의 필드와 같은지만 확인
+		int bit = 0;
+		for (String targetFieldName : includedTargetFieldNames) {
+			cancellationCheck.run();
+			String fieldLine = MappingCodeGenerator.generateGetterSetterFieldLine(sourceClass, targetClass,
+				targetFieldName, options);
+			if (bit >= maskedFieldNames.size() || !maskedFieldNames.get(bit).equals(targetFieldName)) {
+				// 비트가 없는 필드(없는 필드, 건너뛴 지연 로딩 연관 필드)는 주석 줄만 남음
+				codeBuilder.append(fieldLine);
+				continue;
+			}
+			codeBuilder.append("        if (")
+				.append(useBitSet ? "fieldMask.get(" + bit + ")" : "(fieldMask & 1L << " + bit + ") != 0L")
+				.append(") { // ").append(targetFieldName).append("\n");
+			// 필드 줄(여러 줄일 수 있음)을 if 블록 안으로 한 단계 들여씀
+			for (String line : fieldLine.split("\n")) {
+				codeBuilder.append(line.isEmpty() ? "" : "    ").append(line).append("\n");
+			}
+			codeBuilder.append("        }\n");
+			bit++;
+		}
+		codeBuilder.append("        return ").append(targetVariableName).append(";\n");
+		codeBuilder.append("    }\n");
+		return codeBuilder.toString();
+	}
+
+	/**
+	 * @return 클래스 이름의 상수 이름 형식 (예: UserDto → USER_DTO)
+	 */
+	private static String constantName(String className) {
+		StringBuilder nameBuilder = new StringBuilder(className.length() + 4);
+		for (int i = 0; i < className.length(); i++) {
+			char c = className.charAt(i);
+			if (i > 0 && Character.isUpperCase(c) && !Character.isUpperCase(className.charAt(i - 1))) {
+				nameBuilder.append('_');
+			}
+			nameBuilder.append(Character.toUpperCase(c));
+		}
+		return nameBuilder.toString();
+	}
+}
@@ -0,0 +1,79 @@
+package com.maker.engine;
+
+import java.util.Map;
+
+import com.maker.entity.LazyAssociationPolicy;
+
+/**
+ * JPA 엔티티의 지연 로딩 연관 필드를 읽는 코드를 {@link LazyAssociationPolicy}에 따라 생성합니다.
+ * Getter를 그대로 호출하면 엔티티마다 연관 데이터를 조회하므로 List 변환이 N+1 쿼리가 됩니다.
+ * GUARD는 PersistenceUtil.isLoaded(엔티티, 속성 이름)로 이미 로딩된 경우에만 값을 읽습니다. (확인 자체는 로딩하지 않음)
+ */
+final class LazyAssociationGenerator {
+
+	// 로딩 여부 확인에 사용하는 정적 필드 이름 (Mapper 클래스마다 한 번 생성)
+	private static final String PERSISTENCE_UTIL_FIELD_NAME = "PERSISTENCE_UTIL";
+
+	private LazyAssociationGenerator() {
+	}
+
+	/**
+	 * @return 정책상 매핑하지 않을 지연 로딩 연관 필드인지 여부
+	 */
+	static boolean isSkipped(MappingFieldModel sourceField, MappingOptions options) {
+		return sourceField.lazyAssociation() && options.getLazyAssociationPolicy() == LazyAssociationPolicy.SKIP;
+	}
+
+	/**
+	 * @return 값을 읽기 전에 로딩 여부를 확인할 지연 로딩 연관 필드인지 여부
+	 */
+	static boolean isGuarded(MappingFieldModel sourceField, MappingOptions options) {
+		return sourceField.lazyAssociation() && options.getLazyAssociationPolicy() == LazyAssociationPolicy.GUARD;
+	}
+
+	/**
+	 * 지연 로딩 연관 필드의 값 식을 로딩 여부 확인으로 감쌉니다. 로딩되지 않았다면 null입니다.
+	 * 필요한 정적 필드는 {@link #collectSupportMembers}로 함께 생성해야 합니다.
+	 * @param sourceVariableName 소스 엔티티 변수 이름
+	 * @return 확인 식, 확인할 필드가 아니면 valueExpression 그대로
+	 */
+	static String guard(MappingFieldModel sourceField, String sourceVariableName, String valueExpression,
+		MappingOptions options) {
+		if (!isGuarded(sourceField, options)) {
+			return valueExpression;
+		}
+		// 값 식에 삼항 연산이 있으면(중첩 컬렉션 변환 등) 괄호로 묶어 읽기 쉽게 함
+		String value = valueExpression.indexOf('?') >= 0 ? "(" + valueExpression + ")" : valueExpression;
+		return PERSISTENCE_UTIL_FIELD_NAME + ".isLoaded(" + sourceVariableName + ", \"" + sourceField.name() + "\") ? "
+			+ value + " : null";
+	}
+
+	/**
+	 * @return 매핑하지 않은 지연 로딩 연관 필드를 알리는 주석 (줄바꿈 없음)
+	 */
+	static String skippedComment() {
+		return " // Lazy association skipped (reading it would trigger a lazy load per entity, N+1)";
+	}
+
+	/**
+	 * {@link #guard}가 만든 식이 사용하는 PersistenceUtil 정적 필드를 추가합니다. (이미 있으면 다시 만들지 않음)
+	 * @param members 멤버 이름 → 멤버 코드 (생성 순서 유지)
+	 */
+	static void collectSupportMembers(MappingFieldModel sourceField, MappingOptions options,
+		Map<String, String> members) {
+		if (!isGuarded(sourceField, options)) {
+			return;
+		}
+		members.computeIfAbsent(PERSISTENCE_UTIL_FIELD_NAME, key -> {
+			String persistencePackage = sourceField.lazyPersistencePackage();
+			StringBuilder codeBuilder = new StringBuilder(256);
+			if (options.isGenerateMethodComment()) {
+				codeBuilder.append("    // 지연 로딩 연관 필드가 이미 로딩되었는지 확인 (확인 자체는 로딩하지 않음)\n");
+			}
+			codeBuilder.append("    private static final ").append(persistencePackage).append(".PersistenceUtil ")
+				.append(PERSISTENCE_UTIL_FIELD_NAME).append(" = ").append(persistencePackage)
+				.append(".Persistence.getPersistenceUtil();\n");
+			return codeBuilder.toString();
+		});
+	}
+}
@@ -0,0 +1,54 @@
+package com.maker.engine;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 매핑 엔진이 사용하는 클래스 모델입니다. IntelliJ PSI에 의존하지 않으므로
+ * IDE 밖(벤치마크, 명령행 도구)에서도 코드 생성에 사용할 수 있습니다.
+ *
+ * @param name 클래스 단순 이름
+ * @param qualifiedName 클래스 정규화된 이름
+ * @param record Record 클래스 여부
+ * @param fields 필드 이름 → 필드 모델 (직접 선언된 필드가 먼저 오며, 상속받은 필드를 포함)
+ * @param builderTypeName builder() 메소드의 반환 타입 (Builder가 없거나 알 수 없으면 null)
+ * @param constructorParameterNames 정식 생성자(Record canonical 생성자 또는 모든 인스턴스 필드를 받는 생성자)의
+ *                                  매개변수 이름 (매개변수 순서, 각 이름은 필드 이름과 같음), 그런 생성자가 없으면 null
+ */
+public record MappingClassModel(
+	String name,
+	String qualifiedName,
+	boolean record,
+	Map<String, MappingFieldModel> fields,
+	String builderTypeName,
+	List<String> constructorParameterNames
+) {
+
+	public MappingClassModel(String name, String qualifiedName, boolean record, Map<String, MappingFieldModel> fields) {
+		this(name, qualifiedName, record, fields, null, null);
+	}
+
+	public MappingClassModel(String name, String qualifiedName, boolean record, Map<String, MappingFieldModel> fields,
+		String builderTypeName) {
+		this(name, qualifiedName, record, fields, builderTypeName, null);
+	}
+
+	/**
+	 * 이름으로 필드를 찾습니다. (PsiClass#findFieldByName과 같은 의미)
+	 * @param fieldName 필드 이름
+	 * @param checkBases 상속받은 필드까지 포함할지 여부
+	 * @return 필드 모델, 없으면 null
+	 */
+	public MappingFieldModel findField(String fieldName, boolean checkBases) {
+		MappingFieldModel field = fields.get(fieldName);
+		if (field == null || (!checkBases && !field.declaredInClass())) {
+			return null;
+		}
+		return field;
+	}
+
+	public Collection<MappingFieldModel> getFields() {
+		return fields.values();
+	}
+}
@@ -0,0 +1,1288 @@
+package com.maker.engine;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.maker.entity.CodeType;
+import com.maker.entity.MethodResult;
+
+/**
+ * 매핑 코드 생성 엔진입니다. {@link MappingClassModel}만 사용하며 IntelliJ PSI에 의존하지 않습니다.
+ * 메소드는 머리(주석, 시그니처, null 체크) / 필드별 줄 / 꼬리로 나누어 생성할 수 있어,
+ * 라이브 미리보기에서는 변경된 필드의 줄만 다시 생성합니다.
+ */
+public final class MappingCodeGenerator {
+
+	// 필드 한 줄의 대략적인 길이 (StringBuilder 초기 용량 계산용)
+	private static final int ESTIMATED_LINE_LENGTH = 64;
+
+	// 매핑하지 않는 생성자 인자에 넘길 기본형 기본값 (참조 타입은 null)
+	static final Map<String, String> DEFAULT_VALUES = Map.of(
+		"boolean", "false", "byte", "(byte) 0", "short", "(short) 0", "char", "(char) 0", "int", "0", "long", "0L",
+		"float", "0F", "double", "0D");
+
+	// 순환 방지용 IdentityHashMap 변수 이름 (최상위 메소드에서 한 번 만들어 모든 하위 매퍼 호출에 넘김)
+	static final String MAPPED_VARIABLE_NAME = "mapped";
+
+	private MappingCodeGenerator() {
+	}
+
+	// ===================== Builder 패턴 =====================
+
+	/**
+	 * Builder 패턴 변환 메소드 전체를 생성합니다.
+	 * @param sourceClass 소스 클래스 모델
+	 * @param targetClass 대상 클래스 모델
+	 * @param includedTargetFieldNames 포함할 대상 필드 이름 목록 (순서 유지)
+	 * @param options 생성 옵션
+	 * @return 메소드 이름과 생성된 코드
+	 */
+	public static MethodResult generateBuilderMethod(MappingClassModel sourceClass, MappingClassModel targetClass,
+		Collection<String> includedTargetFieldNames, MappingOptions options) {
+		Names names = new Names(sourceClass, targetClass, targetClass.fields().keySet(), options);
+		List<String> fieldLines = generateFieldLines(names, sourceClass, targetClass, includedTargetFieldNames,
+			CodeType.BUILDER, options);
+		return new MethodResult(names.methodName,
+			String.join("\n", assembleMethods(names, targetClass, CodeType.BUILDER, fieldLines, options)));
+	}
+
+	/**
+	 * Builder 변환 메소드의 필드 매핑 이전 부분을 생성합니다.
+	 * @return 메소드 이름과 머리 부분 코드
+	 */
+	public static MethodResult generateBuilderHeader(MappingClassModel sourceClass, MappingClassModel targetClass,
+		MappingOptions options) {
+		Names names = new Names(sourceClass, targetClass, targetClass.fields().keySet(), options);
+		StringBuilder codeBuilder = new StringBuilder(512);
+		appendBuilderHeader(codeBuilder, names, options);
+		return new MethodResult(names.methodName, codeBuilder.toString());
+	}
+
+	/**
+	 * 대상 필드 하나에 대한 Builder 호출 줄을 생성합니다. 매핑할 수 없는 필드라면 빈 문자열 또는 TODO 주석을 반환합니다.
+	 */
+	public static String generateBuilderFieldLine(MappingClassModel sourceClass, MappingClassModel targetClass,
+		String targetFieldName, MappingOptions options) {
+		StringBuilder codeBuilder = new StringBuilder(ESTIMATED_LINE_LENGTH);
+		appendBuilderFieldLine(codeBuilder, new Names(sourceClass, targetClass, List.of(targetFieldName),
+			options), sourceClass, targetClass, targetFieldName, options);
+		return codeBuilder.toString();
+	}
+
+	/**
+	 * Builder 변환 메소드의 필드 매핑 이후 부분(build() 호출과 메소드 종료)을 생성합니다.
+	 */
+	public static String builderFooter() {
+		return "                .build();\n"
+			+ "    }\n";
+	}
+
+	private static void appendBuilderHeader(StringBuilder codeBuilder, Names names, MappingOptions options) {
+		appendBuilderComment(codeBuilder, names, options);
+		appendSignatureAndNullCheck(codeBuilder, names);
+
+		// 대상 클래스 Builder 호출 시작
+		codeBuilder.append("        // Use Builder pattern for target object creation\n");
+		codeBuilder.append("        return ").append(names.targetClassName).append(".builder()\n");
+	}
+
+	private static void appendBuilderComment(StringBuilder codeBuilder, Names names, MappingOptions options) {
+		if (options.isGenerateMethodComment()) {
+			codeBuilder.append("    /**\n");
+			codeBuilder.append("     * ")
+				.append(names.sourceClassName)
+				.append(" 객체를 ")
+				.append(names.targetClassName)
+				.append(" 객체로 변환합니다.\n");
+			appendChainComment(codeBuilder, options);
+			codeBuilder.append("     * (이 코드는 DTO MAKER 플러그인에 의해 자동 생성되었습니다.)\n");
+			codeBuilder.append("     *\n");
+			codeBuilder.append("     * @param source 변환할 ").append(names.sourceClassName).append(" 객체\n");
+			codeBuilder.append("     * @return 변환된 ").append(names.targetClassName).append(" 객체\n");
+			codeBuilder.append("     */\n");
+		}
+	}
+
+	private static void appendBuilderFieldLine(StringBuilder codeBuilder, Names names, MappingClassModel sourceClass,
+		MappingClassModel targetClass, String targetFieldName, MappingOptions options) {
+		// 대상 클래스에서 필드 찾기
+		MappingFieldModel targetField = targetClass.findField(targetFieldName, false);
+		if (targetField == null) {
+			// 필드를 찾을 수 없는 경우 (이름 변경 등) - 주석 처리
+			if (options.isGenerateAllField()) {
+				codeBuilder
+					.append("                // .")
+					.append(targetFieldName)
+					.append("()");
+				MappingFieldModel targetFieldInHierarchy = targetClass.findField(targetFieldName, true);
+				if (targetFieldInHierarchy != null) {
+					// 상속받은 필드인 경우
+					codeBuilder
+						.append(" // TODO: Field '")
+						.append(targetFieldName)
+						.append("' not found in ")
+						.append(names.targetClassName)
+						.append(" class, but found in superclass (")
+						.append(targetFieldInHierarchy.declaringClassName())
+						.append("). Mapping might be needed.\n");
+				} else {
+					// 상속 포함하여도 필드를 찾을 수 없는 경우
+					codeBuilder
+						.append(" // TODO: Field '")
+						.append(targetFieldName)
+						.append("' not found in ")
+						.append(names.targetClassName)
+						.append(" class\n");
+				}
+			}
+			return;
+		}
+
+		// 소스 클래스에서 동일 이름 필드 찾기 (상속 포함)
+		MappingFieldModel sourceField = sourceClass.findField(targetFieldName, true);
+		if (sourceField == null) {
+			// 소스에 동일 이름 필드가 없는 경우
+			if (options.isGenerateAllField()) {
+				codeBuilder
+					.append("                // .")
+					.append(targetFieldName)
+					.append("() // TODO: Field '")
+					.append(targetFieldName)
+					.append("' not found in ")
+					.append(names.sourceClassName)
+					.append(" class\n");
+			}
+			return;
+		}
+
+		if (LazyAssociationGenerator.isSkipped(sourceField, options)) {
+			codeBuilder
+				.append("                // .")
+				.append(targetFieldName)
+				.append("()")
+				.append(LazyAssociationGenerator.skippedComment())
+				.append("\n");
+			return;
+		}
+
+		codeBuilder.append("                .")
+			.append(targetFieldName)
+			.append("(");
+		boolean converted = appendMappedValue(codeBuilder, names, sourceClass, sourceField, targetField, options);
+		codeBuilder.append(")");
+		if (!converted) {
+			appendTypeMismatchComment(codeBuilder, sourceField, targetField);
+		}
+		codeBuilder.append("\n");
+	}
+
+	// ===================== Getter/Setter 패턴 =====================
+
+	/**
+	 * Getter/Setter 변환 메소드 전체를 생성합니다.
+	 * @param sourceClass 소스 클래스 모델
+	 * @param targetClass 대상 클래스 모델
+	 * @param includedTargetFieldNames 포함할 대상 필드 이름 목록 (순서 유지)
+	 * @param options 생성 옵션
+	 * @return 메소드 이름과 생성된 코드
+	 */
+	public static MethodResult generateGetterSetterMethod(MappingClassModel sourceClass, MappingClassModel targetClass,
+		Collection<String> includedTargetFieldNames, MappingOptions options) {
+		Names names = new Names(sourceClass, targetClass, targetClass.fields().keySet(), options);
+		List<String> fieldLines = generateFieldLines(names, sourceClass, targetClass, includedTargetFieldNames,
+			CodeType.GETTER_SETTER, options);
+		return new MethodResult(names.methodName,
+			String.join("\n", assembleMethods(names, targetClass, CodeType.GETTER_SETTER, fieldLines, options)));
+	}
+
+	/**
+	 * Getter/Setter 변환 메소드의 필드 매핑 이전 부분을 생성합니다.
+	 * @return 메소드 이름과 머리 부분 코드
+	 */
+	public static MethodResult generateGetterSetterHeader(MappingClassModel sourceClass, MappingClassModel targetClass,
+		MappingOptions options) {
+		Names names = new Names(sourceClass, targetClass, targetClass.fields().keySet(), options);
+		StringBuilder codeBuilder = new StringBuilder(512);
+		appendGetterSetterHeader(codeBuilder, names, options);
+		return new MethodResult(names.methodName, codeBuilder.toString());
+	}
+
+	/**
+	 * 대상 필드 하나에 대한 Setter 호출 줄을 생성합니다. 매핑할 수 없는 필드라면 빈 문자열 또는 TODO 주석을 반환합니다.
+	 */
+	public static String generateGetterSetterFieldLine(MappingClassModel sourceClass, MappingClassModel targetClass,
+		String targetFieldName, MappingOptions options) {
+		StringBuilder codeBuilder = new StringBuilder(ESTIMATED_LINE_LENGTH);
+		appendGetterSetterFieldLine(codeBuilder, new Names(sourceClass, targetClass, List.of(targetFieldName),
+			options), sourceClass, targetClass, targetFieldName, options);
+		return codeBuilder.toString();
+	}
+
+	/**
+	 * Getter/Setter 변환 메소드의 필드 매핑 이후 부분(대상 객체 반환과 메소드 종료)을 생성합니다.
+	 */
+	public static String getterSetterFooter(MappingClassModel targetClass) {
+		return "\n        return " + uncapitalize(targetClass.name()) + ";\n"
+			+ "    }\n";
+	}
+
+	private static void appendGetterSetterHeader(StringBuilder codeBuilder, Names names, MappingOptions options) {
+		if (options.isGenerateMethodComment()) {
+			codeBuilder.append("    /**\n");
+			codeBuilder.append("     * ")
+				.append(names.sourceClassName)
+				.append(" 객체를 ")
+				.append(names.targetClassName)
+				.append(" 객체로 변환합니다.\n");
+			appendChainComment(codeBuilder, options);
+			codeBuilder.append("     * (이 코드는 DTO MAKER 플러그인에 의해 자동 생성되었습니다 - Getter/Setter).\n");
+			codeBuilder.append("     *\n");
+			codeBuilder.append("     * @param source 변환할 ").append(names.sourceClassName).append(" 객체\n");
+			codeBuilder.append("     * @return 변환된 ").append(names.targetClassName).append(" 객체\n");
+			codeBuilder.append("     */\n");
+		}
+		appendSignatureAndNullCheck(codeBuilder, names);
+
+		// 대상 객체 생성 (기본 생성자)
+		codeBuilder.append("    ")
+			.append(names.targetClassName)
+			.append(" ")
+			.append(names.targetVariableName)
+			.append(" = new ")
+			.append(names.targetClassName)
+			.append("();\n\n");
+	}
+
+	private static void appendGetterSetterFieldLine(StringBuilder codeBuilder, Names names,
+		MappingClassModel sourceClass, MappingClassModel targetClass, String targetFieldName, MappingOptions options) {
+		// 대상 클래스에서 필드 찾기
+		MappingFieldModel targetField = targetClass.findField(targetFieldName, false);
+		if (targetField == null) {
+			if (options.isGenerateAllField()) {
+				// 필드를 찾을 수 없는 경우 - 주석 처리
+				codeBuilder
+					.append("        // ")
+					.append(names.targetVariableName)
+					.append(".set")
+					.append(capitalize(targetFieldName))
+					.append("()");
+				MappingFieldModel targetFieldInHierarchy = targetClass.findField(targetFieldName, true);
+				if (targetFieldInHierarchy != null) {
+					// 상속받은 필드인 경우
+					codeBuilder
+						.append("        // TODO: Field '")
+						.append(targetFieldName)
+						.append("' not found in ")
+						.append(names.targetClassName)
+						.append(" class, but found in superclass (")
+						.append(targetFieldInHierarchy.declaringClassName())
+						.append("). Mapping might be needed.\n");
+				} else {
+					// 상속 포함하여도 필드를 찾을 수 없는 경우
+					codeBuilder
+						.append("    // TODO: Field '")
+						.append(targetFieldName)
+						.append("' not found in ")
+						.append(names.targetClassName)
+						.append(" class\n");
+				}
+			}
+			return;
+		}
+
+		// 소스 클래스에서 동일 이름 필드 찾기 (상속 포함)
+		MappingFieldModel sourceField = sourceClass.findField(targetFieldName, true);
+		if (sourceField == null) {
+			// 소스에 동일 이름 필드가 없는 경우
+			if (options.isGenerateAllField()) {
+				codeBuilder
+					.append("        // target.set")
+					.append(capitalize(targetFieldName))
+					.append("(); // TODO: Field '")
+					.append(targetFieldName)
+					.append("' not found in ")
+					.append(names.sourceClassName)
+					.append(" class\n");
+			}
+			return;
+		}
+
+		if (LazyAssociationGenerator.isSkipped(sourceField, options)) {
+			codeBuilder
+				.append("        // ")
+				.append(names.targetVariableName)
+				.append(".")
+				.append(targetField.setterName())
+				.append("()")
+				.append(LazyAssociationGenerator.skippedComment())
+				.append("\n");
+			return;
+		}
+
+		codeBuilder.append("        ")
+			.append(names.targetVariableName)
+			.append(".")
+			.append(targetField.setterName())
+			.append("(");
+		boolean converted = appendMappedValue(codeBuilder, names, sourceClass, sourceField, targetField, options);
+		codeBuilder.append(");");
+		if (!converted) {
+			appendTypeMismatchComment(codeBuilder, sourceField, targetField);
+		}
+		codeBuilder.append("\n");
+	}
+
+	// ===================== 생성자 호출 =====================
+
+	/**
+	 * 대상 클래스의 정식 생성자를 직접 호출하는 변환 메소드 전체를 생성합니다.
+	 * Builder 객체를 만들지 않고 값을 한 번만 복사하며, 인자는 생성자 매개변수 순서를 따릅니다.
+	 * 선택하지 않은 매개변수에는 타입의 기본값(null, 0, false)을 넘깁니다.
+	 * 대상 클래스에 알맞은 생성자가 없을 수 있다면 {@link #generateMethod}를 사용해야 합니다.
+	 * @return 메소드 이름과 생성된 코드
+	 */
+	public static MethodResult generateConstructorMethod(MappingClassModel sourceClass, MappingClassModel targetClass,
+		Collection<String> includedTargetFieldNames, MappingOptions options) {
+		Names names = new Names(sourceClass, targetClass, targetClass.fields().keySet(), options);
+		List<String> fieldLines = generateFieldLines(names, sourceClass, targetClass, includedTargetFieldNames,
+			CodeType.CONSTRUCTOR, options);
+		return new MethodResult(names.methodName,
+			String.join("\n", assembleMethods(names, targetClass, CodeType.CONSTRUCTOR, fieldLines, options)));
+	}
+
+	/**
+	 * 생성자 호출 변환 메소드의 인자 이전 부분을 생성합니다.
+	 * @return 메소드 이름과 머리 부분 코드
+	 */
+	public static MethodResult generateConstructorHeader(MappingClassModel sourceClass, MappingClassModel targetClass,
+		MappingOptions options) {
+		Names names = new Names(sourceClass, targetClass, targetClass.fields().keySet(), options);
+		StringBuilder codeBuilder = new StringBuilder(512);
+		appendConstructorHeader(codeBuilder, names, options);
+		return new MethodResult(names.methodName, codeBuilder.toString());
+	}
+
+	/**
+	 * 생성자 매개변수 하나에 넘길 인자 줄을 생성합니다. 마지막 매개변수가 아니면 ','로 끝납니다.
+	 * 생성자 매개변수가 아닌 선택된 필드라면 값을 넘길 수 없다는 주석 줄을 생성합니다.
+	 * @param parameterName 생성자 매개변수(= 대상 필드) 이름
+	 * @param included 매핑할 필드로 선택되었는지 여부 (선택하지 않았다면 기본값을 넘김)
+	 */
+	public static String generateConstructorArgumentLine(MappingClassModel sourceClass, MappingClassModel targetClass,
+		String parameterName, boolean included, MappingOptions options) {
+		if (!targetClass.constructorParameterNames().contains(parameterName)) {
+			return notConstructorParameterLine(parameterName);
+		}
+		StringBuilder codeBuilder = new StringBuilder(ESTIMATED_LINE_LENGTH);
+		appendConstructorArgumentLine(codeBuilder, new Names(sourceClass, targetClass,
+			included ? List.of(parameterName) : List.of(), options), sourceClass, targetClass, parameterName, included,
+			options);
+		return codeBuilder.toString();
+	}
+
+	/**
+	 * 생성자 호출의 줄을 만들 필드를 고릅니다. 모든 생성자 매개변수(선택하지 않은 것 포함) 다음에
+	 * 생성자 매개변수가 아니어서 값을 넘길 수 없는 선택된 필드가 옵니다.
+	 * @return 필드 이름 (생성자 매개변수 순서, 그다음 선택 순서)
+	 */
+	public static List<String> constructorLineFieldNames(MappingClassModel targetClass,
+		Collection<String> includedTargetFieldNames) {
+		List<String> parameterNames = targetClass.constructorParameterNames();
+		List<String> lineFieldNames = new ArrayList<>(parameterNames);
+		Set<String> parameterNameSet = new HashSet<>(parameterNames);
+		for (String targetFieldName : includedTargetFieldNames) {
+			if (!parameterNameSet.contains(targetFieldName)) {
+				lineFieldNames.add(targetFieldName);
+			}
+		}
+		return lineFieldNames;
+	}
+
+	/**
+	 * 생성자 호출 변환 메소드의 인자 이후 부분(호출 종료와 메소드 종료)을 생성합니다.
+	 */
+	public static String constructorFooter() {
+		return "        );\n"
+			+ "    }\n";
+	}
+
+	/**
+	 * 사용자가 고른 코드 형태를 대상 클래스에서 쓸 수 있는 형태로 바꿉니다.
+	 * <ul>
+	 *   <li>생성자 호출: 정식 생성자가 없으면 Builder(builder() 메소드가 있을 때) 또는 Getter/Setter</li>
+	 *   <li>Record 대상: Setter가 없으므로 Getter/Setter 대신, Builder가 없다면 Builder 대신 생성자 호출</li>
+	 * </ul>
+	 */
+	public static CodeType resolveCodeType(CodeType codeType, MappingClassModel targetClass) {
+		boolean hasConstructor = targetClass.constructorParameterNames() != null;
+		if (codeType == CodeType.CONSTRUCTOR && !hasConstructor) {
+			return targetClass.builderTypeName() != null ? CodeType.BUILDER : CodeType.GETTER_SETTER;
+		}
+		if (targetClass.record() && hasConstructor
+			&& (codeType == CodeType.GETTER_SETTER || targetClass.builderTypeName() == null)) {
+			return CodeType.CONSTRUCTOR;
+		}
+		return codeType;
+	}
+
+	/**
+	 * 중간 클래스를 거치는 변환 체인(Source → 중간 → ... → Target)을 중간 객체 없이 Source → Target으로 한 번에 변환할 때
+	 * 매핑할 대상 필드를 고릅니다. 값은 모든 중간 클래스에 같은 이름의 필드가 있을 때만 체인을 따라 전달되므로,
+	 * 중간 클래스 중 하나라도 없는 필드는 제외합니다.
+	 * @param intermediateClasses 체인 순서대로의 중간 클래스
+	 * @return 한 번에 변환할 대상 필드 이름 (순서 유지)
+	 */
+	public static List<String> resolveChainFieldNames(List<MappingClassModel> intermediateClasses,
+		Collection<String> includedTargetFieldNames) {
+		List<String> chainFieldNames = new ArrayList<>(includedTargetFieldNames.size());
+		for (String targetFieldName : includedTargetFieldNames) {
+			boolean passesThrough = true;
+			for (MappingClassModel intermediateClass : intermediateClasses) {
+				if (intermediateClass.findField(targetFieldName, true) == null) {
+					passesThrough = false;
+					break;
+				}
+			}
+			if (passesThrough) {
+				chainFieldNames.add(targetFieldName);
+			}
+		}
+		return chainFieldNames;
+	}
+
+	/**
+	 * 코드 형태를 자동으로 고릅니다. (패키지 일괄 생성, 클래스에 쓰기, 중첩 객체 하위 매퍼)
+	 * 생성자 우선 옵션을 켰거나 Builder가 없는 Record라면 정식 생성자, 그 외에는 Builder 또는 Getter/Setter입니다.
+	 * @param hasBuilder 대상 클래스가 Builder를 제공하는지 여부 (Lombok 어노테이션 포함)
+	 */
+	public static CodeType chooseCodeType(boolean hasBuilder, MappingClassModel targetClass, MappingOptions options) {
+		if (targetClass.constructorParameterNames() != null
+			&& (options.isPreferConstructor() || (targetClass.record() && !hasBuilder))) {
+			return CodeType.CONSTRUCTOR;
+		}
+		return hasBuilder ? CodeType.BUILDER : CodeType.GETTER_SETTER;
+	}
+
+	/**
+	 * {@link #resolveCodeType}로 바꾼 코드 형태의 변환 메소드 전체를 생성합니다.
+	 * @return 메소드 이름과 생성된 코드
+	 */
+	public static MethodResult generateMethod(MappingClassModel sourceClass, MappingClassModel targetClass,
+		Collection<String> includedTargetFieldNames, CodeType codeType, MappingOptions options) {
+		CodeType resolvedCodeType = resolveCodeType(codeType, targetClass);
+		if (resolvedCodeType == CodeType.CONSTRUCTOR) {
+			return generateConstructorMethod(sourceClass, targetClass, includedTargetFieldNames, options);
+		}
+		return resolvedCodeType == CodeType.BUILDER
+			? generateBuilderMethod(sourceClass, targetClass, includedTargetFieldNames, options)
+			: generateGetterSetterMethod(sourceClass, targetClass, includedTargetFieldNames, options);
+	}
+
+	private static void appendConstructorHeader(StringBuilder codeBuilder, Names names, MappingOptions options) {
+		appendBuilderComment(codeBuilder, names, options);
+		appendSignatureAndNullCheck(codeBuilder, names);
+
+		// 정식 생성자 호출 시작
+		codeBuilder.append("        // Call the constructor directly (no Builder allocation)\n");
+		codeBuilder.append("        return new ").append(names.targetClassName).append("(\n");
+	}
+
+	/**
+	 * @return 생성자 매개변수가 아니어서 생성자 호출로 값을 넘길 수 없는 선택된 필드의 주석 줄
+	 */
+	static String notConstructorParameterLine(String targetFieldName) {
+		return "                // " + targetFieldName + " not a constructor parameter\n";
+	}
+
+	private static void appendConstructorArgumentLine(StringBuilder codeBuilder, Names names,
+		MappingClassModel sourceClass, MappingClassModel targetClass, String parameterName, boolean included,
+		MappingOptions options) {
+		List<String> parameterNames = targetClass.constructorParameterNames();
+		String separator = parameterName.equals(parameterNames.get(parameterNames.size() - 1)) ? "" : ",";
+		MappingFieldModel targetField = targetClass.findField(parameterName, true);
+		MappingFieldModel sourceField = included ? sourceClass.findField(parameterName, true) : null;
+
+		codeBuilder.append("                ");
+		if (targetField == null || sourceField == null) {
+			// 생성자에는 모든 인자가 필요하므로 주석 대신 기본값을 넘김
+			codeBuilder.append(targetField != null ? DEFAULT_VALUES.getOrDefault(targetField.typeName(), "null") : "null")
+				.append(separator);
+			if (!included) {
+				codeBuilder.append(" // ").append(parameterName).append(" (not selected)");
+			} else {
+				codeBuilder
+					.append(" // TODO: Field '")
+					.append(parameterName)
+					.append("' not found in ")
+					.append(targetField == null ? names.targetClassName : names.sourceClassName)
+					.append(" class");
+			}
+			codeBuilder.append("\n");
+			return;
+		}
+		if (LazyAssociationGenerator.isSkipped(sourceField, options)) {
+			codeBuilder.append("null").append(separator).append(LazyAssociationGenerator.skippedComment()).append("\n");
+			return;
+		}
+
+		boolean converted = appendMappedValue(codeBuilder, names, sourceClass, sourceField, targetField, options);
+		codeBuilder.append(separator);
+		if (!converted) {
+			appendTypeMismatchComment(codeBuilder, sourceField, targetField);
+		}
+		codeBuilder.append("\n");
+	}
+
+	// ===================== 메소드 분할 =====================
+
+	/**
+	 * 필드별 매핑 줄로 만든 변환 메소드의 예상 바이트코드 크기를 계산합니다. (Tool Window 표시용 근사값)
+	 * @param fieldLines {@link #generateBuilderFieldLine} 또는 {@link #generateGetterSetterFieldLine}이 만든 줄
+	 */
+	public static int estimateBytecodeSize(Collection<String> fieldLines) {
+		return MethodSplitter.estimateMethodBytes(fieldLines);
+	}
+
+	/**
+	 * HotSpot이 JIT 컴파일하지 않는 메소드 크기 기준(8000바이트)입니다.
+	 */
+	public static int hugeMethodLimit() {
+		return MethodSplitter.HUGE_METHOD_LIMIT;
+	}
+
+	/**
+	 * 필드별 매핑 줄로 변환 메소드를 조립합니다. 라이브 미리보기처럼 줄을 따로 보관하는 경우에 사용합니다.
+	 * 예상 크기가 {@link MappingOptions#getMethodSizeLimit()}를 넘으면 보조 메소드로 나눈 코드를 반환합니다.
+	 * @return 변환 메소드 (분할했다면 보조 메소드 포함) 코드
+	 */
+	public static String assembleMethod(MappingClassModel sourceClass, MappingClassModel targetClass,
+		CodeType codeType, List<String> fieldLines, MappingOptions options) {
+		return String.join("\n", assembleMethods(new Names(sourceClass, targetClass,
+			targetClass.fields().keySet(), options), targetClass, codeType,
+			fieldLines, options));
+	}
+
+	/**
+	 * 변환 메소드와 (분할했다면) 보조 메소드를 각각 생성합니다. 메소드를 하나씩 PSI로 만들어 추가할 때 사용합니다.
+	 * 코드 형태는 {@link #resolveCodeType}으로 바꾼 형태를 사용합니다.
+	 * @return 변환 메소드가 먼저 오는 메소드별 코드
+	 */
+	public static List<String> generateMethods(MappingClassModel sourceClass, MappingClassModel targetClass,
+		Collection<String> includedTargetFieldNames, CodeType codeType, MappingOptions options) {
+		Names names = new Names(sourceClass, targetClass, targetClass.fields().keySet(), options);
+		CodeType resolvedCodeType = resolveCodeType(codeType, targetClass);
+		return assembleMethods(names, targetClass, resolvedCodeType,
+			generateFieldLines(names, sourceClass, targetClass, includedTargetFieldNames, resolvedCodeType, options),
+			options);
+	}
+
+	private static List<String> generateFieldLines(Names names, MappingClassModel sourceClass,
+		MappingClassModel targetClass, Collection<String> includedTargetFieldNames, CodeType codeType,
+		MappingOptions options) {
+		StringBuilder lineBuilder = new StringBuilder(ESTIMATED_LINE_LENGTH * 2);
+		Runnable cancellationCheck = options.getCancellationCheck();
+		if (codeType == CodeType.CONSTRUCTOR) {
+			// 생성자에는 모든 매개변수가 필요하므로 선택하지 않은 필드도 매개변수 순서대로 줄을 만듦
+			Set<String> includedNames = new HashSet<>(includedTargetFieldNames);
+			List<String> argumentLines = new ArrayList<>(targetClass.constructorParameterNames().size());
+			for (String parameterName : targetClass.constructorParameterNames()) {
+				cancellationCheck.run();
+				lineBuilder.setLength(0);
+				appendConstructorArgumentLine(lineBuilder, names, sourceClass, targetClass, parameterName,
+					includedNames.contains(parameterName), options);
+				argumentLines.add(lineBuilder.toString());
+			}
+			// 생성자 매개변수가 아닌 선택된 필드는 값을 넘길 수 없으므로 빠졌음을 주석으로 남김
+			Set<String> parameterNames = new HashSet<>(targetClass.constructorParameterNames());
+			for (String targetFieldName : includedTargetFieldNames) {
+				if (!parameterNames.contains(targetFieldName)) {
+					argumentLines.add(notConstructorParameterLine(targetFieldName));
+				}
+			}
+			return argumentLines;
+		}
+		List<String> fieldLines = new ArrayList<>(includedTargetFieldNames.size());
+		for (String targetFieldName : includedTargetFieldNames) {
+			cancellationCheck.run();
+			lineBuilder.setLength(0);
+			if (codeType == CodeType.BUILDER) {
+				appendBuilderFieldLine(lineBuilder, names, sourceClass, targetClass, targetFieldName, options);
+			} else {
+				appendGetterSetterFieldLine(lineBuilder, names, sourceClass, targetClass, targetFieldName, options);
+			}
+			fieldLines.add(lineBuilder.toString());
+		}
+		return fieldLines;
+	}
+
+	/**
+	 * 머리 + 필드별 줄 + 꼬리로 변환 메소드를 만듭니다. 예상 크기가 한도를 넘으면 필드 줄을 크기 순서대로 묶어
+	 * private 보조 메소드(gen&lt;Target&gt;Part1, 2, ...)로 옮기고, 변환 메소드는 대상 객체(또는 Builder)를 넘겨 차례로 호출합니다.
+	 * 생성자 호출은 인자 목록을 나눌 수 없으므로 나누지 않습니다.
+	 */
+	private static List<String> assembleMethods(Names names, MappingClassModel targetClass, CodeType codeType,
+		List<String> fieldLines, MappingOptions options) {
+		int sizeLimit = options.getMethodSizeLimit();
+		int totalLength = 0;
+		for (String fieldLine : fieldLines) {
+			totalLength += fieldLine.length();
+		}
+		StringBuilder codeBuilder = new StringBuilder(512 + totalLength);
+		if (codeType == CodeType.CONSTRUCTOR) {
+			appendConstructorHeader(codeBuilder, names, options);
+			for (String fieldLine : fieldLines) {
+				codeBuilder.append(fieldLine);
+			}
+			codeBuilder.append(constructorFooter());
+			return List.of(codeBuilder.toString());
+		}
+		if (sizeLimit <= 0 || MethodSplitter.estimateMethodBytes(fieldLines) <= sizeLimit) {
+			if (codeType == CodeType.BUILDER) {
+				appendBuilderHeader(codeBuilder, names, options);
+			} else {
+				appendGetterSetterHeader(codeBuilder, names, options);
+			}
+			for (String fieldLine : fieldLines) {
+				codeBuilder.append(fieldLine);
+			}
+			codeBuilder.append(codeType == CodeType.BUILDER ? builderFooter() : getterSetterFooter(targetClass));
+			return List.of(codeBuilder.toString());
+		}
+
+		// 보조 메소드는 한도의 절반씩 담아 각각도 충분히 작게 유지
+		List<List<String>> chunks = MethodSplitter.chunk(fieldLines, sizeLimit / 2);
+		String builderTypeName = targetClass.builderTypeName() != null ? targetClass.builderTypeName()
+			: names.targetClassName + "." + names.targetClassName + "Builder";
+		String builderVariableName = "builder";
+		String parameterTypeName = codeType == CodeType.BUILDER ? builderTypeName : names.targetClassName;
+		String parameterName = codeType == CodeType.BUILDER ? builderVariableName : names.targetVariableName;
+
+		// 1. 변환 메소드: 대상 객체(또는 Builder)를 만들고 보조 메소드를 차례로 호출
+		if (codeType == CodeType.BUILDER) {
+			appendBuilderComment(codeBuilder, names, options);
+			appendSignatureAndNullCheck(codeBuilder, names);
+		} else {
+			appendGetterSetterHeader(codeBuilder, names, options);
+		}
+		codeBuilder.append("        // Mapping is split into helper methods to stay under the JIT huge-method limit\n");
+		if (codeType == CodeType.BUILDER) {
+			codeBuilder.append("        ").append(builderTypeName).append(" ").append(builderVariableName).append(" = ")
+				.append(names.targetClassName).append(".builder();\n");
+		}
+		for (int part = 1; part <= chunks.size(); part++) {
+			codeBuilder.append("        ").append(names.methodName).append("Part").append(part).append("(")
+				.append(names.sourceVariableName).append(", ").append(parameterName);
+			if (names.mappedVariableName != null) {
+				codeBuilder.append(", ").append(names.mappedVariableName);
+			}
+			codeBuilder.append(");\n");
+		}
+		if (codeType == CodeType.BUILDER) {
+			codeBuilder.append("        return ").append(builderVariableName).append(".build();\n");
+			codeBuilder.append("    }\n");
+		} else {
+			codeBuilder.append(getterSetterFooter(targetClass));
+		}
+		List<String> methods = new ArrayList<>(chunks.size() + 1);
+		methods.add(codeBuilder.toString());
+
+		// 2. 보조 메소드: 필드 묶음 하나씩
+		for (int part = 1; part <= chunks.size(); part++) {
+			List<String> chunk = chunks.get(part - 1);
+			StringBuilder helperBuilder = new StringBuilder(256 + chunk.size() * ESTIMATED_LINE_LENGTH);
+			if (options.isGenerateMethodComment()) {
+				helperBuilder.append("    /**\n");
+				helperBuilder.append("     * ").append(names.methodName).append("의 필드 매핑 ").append(part).append("/")
+					.append(chunks.size()).append(" (메소드 크기가 JIT 컴파일 한도를 넘지 않도록 나눈 부분)\n");
+				helperBuilder.append("     */\n");
+			}
+			helperBuilder.append("    private void ").append(names.methodName).append("Part").append(part).append("(")
+				.append(names.sourceClassName).append(" ").append(names.sourceVariableName).append(", ")
+				.append(parameterTypeName).append(" ").append(parameterName);
+			if (names.mappedVariableName != null) {
+				helperBuilder.append(", java.util.IdentityHashMap<Object, Object> ").append(names.mappedVariableName);
+			}
+			helperBuilder.append(") {\n");
+			for (String fieldLine : chunk) {
+				helperBuilder.append(codeType == CodeType.BUILDER
+					? MethodSplitter.toBuilderStatement(fieldLine, builderVariableName) : fieldLine);
+			}
+			helperBuilder.append("    }\n");
+			methods.add(helperBuilder.toString());
+		}
+		return methods;
+	}
+
+	// ===================== 제자리 갱신 (update) =====================
+
+	/**
+	 * 단일 객체 변환 메소드 외에 옵션으로 선택한 부가 메소드(제자리 갱신, patch, 필드 마스크 변환)와
+	 * 변환 코드가 사용하는 보조 멤버(enum 변환 메소드, 정적 조회 맵, 중첩 객체 하위 매퍼)를 생성합니다.
+	 * 포함할 대상 필드 목록에 따라 내용이 달라지는 멤버들입니다.
+	 * @return 멤버별 코드 (생성 순서 유지, 필드 선언은 ';'로 끝남), 생성할 멤버가 없으면 빈 목록
+	 */
+	public static List<String> generateAdditionalMethods(MappingClassModel sourceClass, MappingClassModel targetClass,
+		Collection<String> includedTargetFieldNames, MappingOptions options) {
+		List<String> methods = new ArrayList<>(4);
+		// Record는 불변이므로 제자리 갱신/patch 메소드를 만들 수 없음 (필드 마스크 변환도 Setter로 채움)
+		if (!targetClass.record()) {
+			if (options.isGenerateUpdateMethod()) {
+				methods.add(generateUpdateMethod(sourceClass, targetClass, includedTargetFieldNames, options));
+				methods.add(generateUpdateListMethod(sourceClass, targetClass, options));
+			}
+			if (options.isGeneratePatchMethod()) {
+				methods.add(PatchMethodGenerator.generatePatchMethod(sourceClass, targetClass, includedTargetFieldNames,
+					options));
+			}
+			if (options.isGenerateFieldMaskMethod()) {
+				methods.addAll(FieldMaskMethodGenerator.generateMembers(sourceClass, targetClass,
+					includedTargetFieldNames, options));
+			}
+		}
+		Map<String, String> members = new LinkedHashMap<>();
+		collectSupportMembers(sourceClass, targetClass, includedTargetFieldNames, options, members);
+		NestedMappingGenerator.collectMembers(sourceClass, targetClass, includedTargetFieldNames, options, members);
+		methods.addAll(members.values());
+		return methods;
+	}
+
+	/**
+	 * 필드 변환 코드가 사용하는 보조 멤버를 추가합니다. 같은 멤버는 한 번만 생성합니다.
+	 * null 안전 변환 메소드, enum 필드 변환의 switch 메소드와 정적 조회 맵, 지연 로딩 연관 필드 확인용 PersistenceUtil 필드입니다.
+	 * @param members 멤버 이름 → 멤버 코드 (생성 순서 유지)
+	 */
+	static void collectSupportMembers(MappingClassModel sourceClass, MappingClassModel targetClass,
+		Collection<String> includedTargetFieldNames, MappingOptions options, Map<String, String> members) {
+		for (String targetFieldName : includedTargetFieldNames) {
+			MappingFieldModel targetField = targetClass.findField(targetFieldName, false);
+			MappingFieldModel sourceField = sourceClass.findField(targetFieldName, true);
+			if (targetField == null || sourceField == null) {
+				continue;
+			}
+			LazyAssociationGenerator.collectSupportMembers(sourceField, options, members);
+			if (sourceField.typeName().equals(targetField.typeName())) {
+				continue;
+			}
+			TypeConverterRegistry typeConverters = options.getTypeConverters();
+			if (typeConverters.convert(sourceField.typeName(), targetField.typeName(), "value") != null) {
+				typeConverters.collectSupportMembers(sourceField.typeName(), targetField.typeName(), options, members);
+				continue;
+			}
+			EnumMappingGenerator.collectSupportMembers(sourceField, targetField, options, members);
+		}
+	}
+
+	/**
+	 * 기존 대상 객체에 선택된 필드를 복사하는 void update&lt;Target&gt;(Source, Target) 메소드를 생성합니다.
+	 * 새 객체를 만들지 않으므로 대상 객체를 재사용(풀링)할 수 있습니다.
+	 */
+	public static String generateUpdateMethod(MappingClassModel sourceClass, MappingClassModel targetClass,
+		Collection<String> includedTargetFieldNames, MappingOptions options) {
+		Names names = new Names(sourceClass, targetClass, includedTargetFieldNames, options);
+		StringBuilder codeBuilder = new StringBuilder(512 + includedTargetFieldNames.size() * ESTIMATED_LINE_LENGTH);
+
+		if (options.isGenerateMethodComment()) {
+			codeBuilder.append("    /**\n");
+			codeBuilder.append("     * ").append(names.sourceClassName).append(" 객체의 값을 기존 ")
+				.append(names.targetClassName).append(" 객체에 복사합니다. (새 객체를 만들지 않음)\n");
+			codeBuilder.append("     * (이 코드는 DTO MAKER 플러그인에 의해 자동 생성되었습니다.)\n");
+			codeBuilder.append("     *\n");
+			codeBuilder.append("     * @param ").append(names.sourceVariableName).append(" 복사할 ")
+				.append(names.sourceClassName).append(" 객체\n");
+			codeBuilder.append("     * @param ").append(names.targetVariableName).append(" 값을 갱신할 ")
+				.append(names.targetClassName).append(" 객체\n");
+			codeBuilder.append("     */\n");
+		}
+		codeBuilder.append("    public void ").append(names.updateMethodName).append("(")
+			.append(names.sourceClassName).append(" ").append(names.sourceVariableName).append(", ")
+			.append(names.targetClassName).append(" ").append(names.targetVariableName).append(") {\n");
+		codeBuilder.append("        // Handle null source or target object\n");
+		codeBuilder.append("        if (").append(names.sourceVariableName).append(" == null || ")
+			.append(names.targetVariableName).append(" == null) {\n");
+		codeBuilder.append("            return;\n");
+		codeBuilder.append("        }\n");
+		appendMappedObjectsDeclaration(codeBuilder, names.mappedVariableName);
+		codeBuilder.append("\n");
+
+		Runnable cancellationCheck = options.getCancellationCheck();
+		for (String targetFieldName : includedTargetFieldNames) {
+			cancellationCheck.run();
+			appendGetterSetterFieldLine(codeBuilder, names, sourceClass, targetClass, targetFieldName, options);
+		}
+		codeBuilder.append("    }\n");
+		return codeBuilder.toString();
+	}
+
+	/**
+	 * 같은 위치의 소스/대상 요소끼리 update 메소드를 호출하는 List 변형을 생성합니다. (두 List의 크기가 같아야 함)
+	 */
+	private static String generateUpdateListMethod(MappingClassModel sourceClass, MappingClassModel targetClass,
+		MappingOptions options) {
+		Names names = new Names(sourceClass, targetClass, List.of(), options);
+		String sourceListName = names.sourceVariableName + "List";
+		String targetListName = names.targetVariableName + "List";
+		StringBuilder codeBuilder = new StringBuilder(1024);
+
+		if (options.isGenerateMethodComment()) {
+			codeBuilder.append("    /**\n");
+			codeBuilder.append("     * 같은 위치의 ").append(names.sourceClassName).append(" 값을 기존 ")
+				.append(names.targetClassName).append(" 객체에 복사합니다. (새 객체를 만들지 않음)\n");
+			codeBuilder.append("     *\n");
+			codeBuilder.append("     * @param ").append(sourceListName).append(" 복사할 List<")
+				.append(names.sourceClassName).append("> 객체\n");
+			codeBuilder.append("     * @param ").append(targetListName).append(" 값을 갱신할 List<")
+				.append(names.targetClassName).append("> 객체 (소스와 크기가 같아야 함)\n");
+			codeBuilder.append("     */\n");
+		}
+		codeBuilder.append("    public void ").append(names.updateMethodName).append("List(List<")
+			.append(names.sourceClassName).append("> ").append(sourceListName).append(", List<")
+			.append(names.targetClassName).append("> ").append(targetListName).append(") {\n");
+		codeBuilder.append("        // Handle null source or target list\n");
+		codeBuilder.append("        if (").append(sourceListName).append(" == null || ").append(targetListName)
+			.append(" == null) {\n");
+		codeBuilder.append("            return;\n");
+		codeBuilder.append("        }\n");
+		codeBuilder.append("        if (").append(sourceListName).append(".size() != ").append(targetListName)
+			.append(".size()) {\n");
+		codeBuilder.append("            throw new IllegalArgumentException(\"Source and target lists must have the same size: \"\n");
+		codeBuilder.append("                    + ").append(sourceListName).append(".size() + \" != \" + ")
+			.append(targetListName).append(".size());\n");
+		codeBuilder.append("        }\n\n");
+
+		codeBuilder.append("        // Indexed loop for RandomAccess lists (no iterator allocation), iterators otherwise\n");
+		codeBuilder.append("        if (").append(sourceListName).append(" instanceof java.util.RandomAccess && ")
+			.append(targetListName).append(" instanceof java.util.RandomAccess) {\n");
+		codeBuilder.append("            for (int i = 0, size = ").append(sourceListName).append(".size(); i < size; i++) {\n");
+		codeBuilder.append("                ").append(names.updateMethodName).append("(").append(sourceListName)
+			.append(".get(i), ").append(targetListName).append(".get(i));\n");
+		codeBuilder.append("            }\n");
+		codeBuilder.append("        } else {\n");
+		codeBuilder.append("            java.util.Iterator<").append(names.targetClassName).append("> targetIterator = ")
+			.append(targetListName).append(".iterator();\n");
+		codeBuilder.append("            for (").append(names.sourceClassName).append(" ").append(names.sourceVariableName)
+			.append(" : ").append(sourceListName).append(") {\n");
+		codeBuilder.append("                ").append(names.updateMethodName).append("(")
+			.append(names.sourceVariableName).append(", targetIterator.next());\n");
+		codeBuilder.append("            }\n");
+		codeBuilder.append("        }\n");
+		codeBuilder.append("    }\n");
+		return codeBuilder.toString();
+	}
+
+	// ===================== 중첩 객체 하위 매퍼 =====================
+
+	/**
+	 * 중첩 객체 쌍 하나의 하위 매퍼 메소드를 생성합니다. 다른 패키지의 클래스일 수 있으므로 타입은 정규화된 이름으로 씁니다.
+	 * 개별 모드라면 Mapper 클래스의 private 메소드, 공유 모드라면 공유 클래스의 public static 메소드입니다.
+	 * 순환 방지를 켜면 IdentityHashMap 매개변수로 이미 변환한 소스 객체의 대상 인스턴스를 재사용합니다.
+	 * @param codeType 대상 객체 생성 방식 (Builder, 기본 생성자와 Setter, 정식 생성자 호출)
+	 */
+	static String generateNestedMapperMethod(MappingClassModel sourceClass, MappingClassModel targetClass,
+		Collection<String> targetFieldNames, CodeType codeType, MappingOptions options) {
+		NestedMapperRegistry registry = options.getNestedMappers();
+		boolean cycleGuard = registry.isCycleGuard();
+		Names names = new Names(sourceClass, targetClass, cycleGuard ? MAPPED_VARIABLE_NAME : null);
+		StringBuilder codeBuilder = new StringBuilder(512 + targetFieldNames.size() * ESTIMATED_LINE_LENGTH);
+
+		if (options.isGenerateMethodComment()) {
+			codeBuilder.append("    /**\n");
+			codeBuilder.append("     * 중첩된 ").append(sourceClass.name()).append(" 객체를 ").append(targetClass.name())
+				.append(" 객체로 변환합니다.").append(cycleGuard ? " (이미 변환한 객체는 같은 인스턴스를 재사용)" : "")
+				.append("\n");
+			codeBuilder.append("     * (이 코드는 DTO MAKER 플러그인에 의해 자동 생성되었습니다.)\n");
+			codeBuilder.append("     */\n");
+		}
+		codeBuilder.append(registry.isShared() ? "    public static " : "    private ").append(names.targetClassName)
+			.append(" ").append(names.methodName).append("(").append(names.sourceClassName).append(" ")
+			.append(names.sourceVariableName);
+		if (cycleGuard) {
+			codeBuilder.append(", java.util.IdentityHashMap<Object, Object> ").append(names.mappedVariableName);
+		}
+		codeBuilder.append(") {\n");
+		codeBuilder.append("        if (").append(names.sourceVariableName).append(" == null) {\n");
+		codeBuilder.append("            return null;\n");
+		codeBuilder.append("        }\n");
+		if (cycleGuard) {
+			codeBuilder.append("        // Cycle guard: reuse the instance already mapped from this source (null while still being built)\n");
+			codeBuilder.append("        if (").append(names.mappedVariableName).append(".containsKey(")
+				.append(names.sourceVariableName).append(")) {\n");
+			codeBuilder.append("            return (").append(names.targetClassName).append(") ")
+				.append(names.mappedVariableName).append(".get(").append(names.sourceVariableName).append(");\n");
+			codeBuilder.append("        }\n");
+		}
+		codeBuilder.append("\n");
+
+		Runnable cancellationCheck = options.getCancellationCheck();
+		if (codeType == CodeType.CONSTRUCTOR) {
+			if (cycleGuard) {
+				// 생성자 호출이 끝나기 전까지 인스턴스가 없으므로 변환 중임을 null로 표시
+				codeBuilder.append("        ").append(names.mappedVariableName).append(".put(")
+					.append(names.sourceVariableName).append(", null);\n");
+				codeBuilder.append("        ").append(names.targetClassName).append(" ").append(names.targetVariableName)
+					.append(" = new ").append(names.targetClassName).append("(\n");
+			} else {
+				codeBuilder.append("        return new ").append(names.targetClassName).append("(\n");
+			}
+			for (String parameterName : targetClass.constructorParameterNames()) {
+				cancellationCheck.run();
+				appendConstructorArgumentLine(codeBuilder, names, sourceClass, targetClass, parameterName,
+					targetFieldNames.contains(parameterName), options);
+			}
+			Set<String> parameterNames = new HashSet<>(targetClass.constructorParameterNames());
+			for (String targetFieldName : targetFieldNames) {
+				if (!parameterNames.contains(targetFieldName)) {
+					codeBuilder.append(notConstructorParameterLine(targetFieldName));
+				}
+			}
+			codeBuilder.append("        );\n");
+			if (cycleGuard) {
+				codeBuilder.append("        ").append(names.mappedVariableName).append(".put(")
+					.append(names.sourceVariableName).append(", ").append(names.targetVariableName).append(");\n");
+				codeBuilder.append("        return ").append(names.targetVariableName).append(";\n");
+			}
+		} else if (codeType == CodeType.BUILDER) {
+			if (cycleGuard) {
+				// Builder는 build() 전까지 인스턴스가 없으므로 변환 중임을 null로 표시
+				codeBuilder.append("        ").append(names.mappedVariableName).append(".put(")
+					.append(names.sourceVariableName).append(", null);\n");
+				codeBuilder.append("        ").append(names.targetClassName).append(" ").append(names.targetVariableName)
+					.append(" = ").append(names.targetClassName).append(".builder()\n");
+			} else {
+				codeBuilder.append("        return ").append(names.targetClassName).append(".builder()\n");
+			}
+			for (String targetFieldName : targetFieldNames) {
+				cancellationCheck.run();
+				appendBuilderFieldLine(codeBuilder, names, sourceClass, targetClass, targetFieldName, options);
+			}
+			codeBuilder.append("                .build();\n");
+			if (cycleGuard) {
+				codeBuilder.append("        ").append(names.mappedVariableName).append(".put(")
+					.append(names.sourceVariableName).append(", ").append(names.targetVariableName).append(");\n");
+				codeBuilder.append("        return ").append(names.targetVariableName).append(";\n");
+			}
+		} else {
+			codeBuilder.append("        ").append(names.targetClassName).append(" ").append(names.targetVariableName)
+				.append(" = new ").append(names.targetClassName).append("();\n");
+			if (cycleGuard) {
+				// 필드를 채우기 전에 등록하므로 순환 참조는 채우는 중인 같은 인스턴스를 가리킴
+				codeBuilder.append("        ").append(names.mappedVariableName).append(".put(")
+					.append(names.sourceVariableName).append(", ").append(names.targetVariableName).append(");\n");
+			}
+			codeBuilder.append("\n");
+			for (String targetFieldName : targetFieldNames) {
+				cancellationCheck.run();
+				appendGetterSetterFieldLine(codeBuilder, names, sourceClass, targetClass, targetFieldName, options);
+			}
+			codeBuilder.append("        return ").append(names.targetVariableName).append(";\n");
+		}
+		codeBuilder.append("    }\n");
+		return codeBuilder.toString();
+	}
+
+	// ===================== List 변환 =====================
+
+	/**
+	 * List&lt;Source&gt; → List&lt;Target&gt; 변환 메소드를 생성합니다. 단일 객체 변환 메소드를 호출합니다.
+	 * @param singleMethodName 단일 객체 변환 메소드 이름
+	 * @return 생성된 List 변환 메소드 코드
+	 */
+	public static String generateListMethod(MappingClassModel sourceClass, MappingClassModel targetClass,
+		MappingOptions options, String singleMethodName) {
+		return CollectionMethodGenerator.generateListMethod(sourceClass, targetClass, options, singleMethodName);
+	}
+
+	/**
+	 * List 변환 메소드와 옵션에서 선택한 컬렉션 변환 메소드(Set, Map 값, 배열)와
+	 * 지연 변환 메소드(Stream, Iterator, Spliterator)를 모두 생성합니다.
+	 * 구현 방식(스트림/반복문)과 수정 불가능한 결과 여부는 {@link MappingOptions}를 따릅니다.
+	 * @param singleMethodName 단일 객체 변환 메소드 이름
+	 * @return 메소드별 코드 (생성 순서 유지)
+	 */
+	public static List<String> generateCollectionMethods(MappingClassModel sourceClass, MappingClassModel targetClass,
+		MappingOptions options, String singleMethodName) {
+		return CollectionMethodGenerator.generateCollectionMethods(sourceClass, targetClass, options, singleMethodName);
+	}
+
+	// ===================== Mapper 클래스 =====================
+
+	/**
+	 * 단일 객체 변환 메소드(와 선택 시 List 변환 메소드)를 담은 Mapper 클래스 소스 파일 전체를 생성합니다.
+	 * 패키지 단위 일괄 생성과 헤드리스 생성기에서 사용합니다.
+	 * 소스와 대상 클래스를 단순 이름으로 import하므로 두 클래스의 단순 이름이 달라야 합니다.
+	 * @param packageName Mapper 클래스의 패키지 (기본 패키지라면 빈 문자열)
+	 * @param mapperClassName Mapper 클래스 이름
+	 * @param codeType Builder, Getter/Setter 또는 생성자 호출 ({@link #resolveCodeType}으로 바꾼 형태 사용)
+	 * @param batchOptions 일괄 생성 옵션 (보조 멤버 이름은 이 Mapper 클래스 안에서 새로 정함)
+	 * @return Java 소스 파일 내용
+	 */
+	public static String generateMapperClass(String packageName, String mapperClassName,
+		MappingClassModel sourceClass, MappingClassModel targetClass, Collection<String> includedTargetFieldNames,
+		CodeType codeType, boolean generateListMethod, MappingOptions batchOptions) {
+		MappingOptions options = batchOptions.forMapperClass();
+		MethodResult methodResult = generateMethod(sourceClass, targetClass, includedTargetFieldNames, codeType,
+			options);
+
+		StringBuilder codeBuilder = new StringBuilder(methodResult.generatedCode().length() + 1024);
+		if (packageName != null && !packageName.isEmpty()) {
+			codeBuilder.append("package ").append(packageName).append(";\n\n");
+		}
+		// 단순 이름 List를 쓰는 메소드(List 변환, List 제자리 갱신)가 있을 때만 import
+		boolean usesList = generateListMethod || options.isGenerateUpdateMethod() && !targetClass.record();
+		if (usesList) {
+			codeBuilder.append("import java.util.List;\n\n");
+		}
+		codeBuilder.append("import ").append(sourceClass.qualifiedName()).append(";\n");
+		codeBuilder.append("import ").append(targetClass.qualifiedName()).append(";\n\n");
+		codeBuilder.append("public class ").append(mapperClassName).append(" {\n\n");
+		codeBuilder.append(methodResult.generatedCode());
+		for (String additionalMethod : generateAdditionalMethods(sourceClass, targetClass, includedTargetFieldNames,
+			options)) {
+			codeBuilder.append("\n");
+			codeBuilder.append(additionalMethod);
+		}
+		if (generateListMethod) {
+			for (String collectionMethod : generateCollectionMethods(sourceClass, targetClass, options,
+				methodResult.methodName())) {
+				codeBuilder.append("\n");
+				codeBuilder.append(collectionMethod);
+			}
+		}
+		codeBuilder.append("}\n");
+		return codeBuilder.toString();
+	}
+
+	// ===================== 공통 =====================
+
+	private static void appendSignatureAndNullCheck(StringBuilder codeBuilder, Names names) {
+		codeBuilder.append("    public ")
+			.append(names.targetClassName)
+			.append(" ")
+			.append(names.methodName)
+			.append("(")
+			.append(names.sourceClassName)
+			.append(" ")
+			.append(names.sourceVariableName).append(") {\n");
+
+		// 소스 객체 null 체크
+		codeBuilder.append("        // Handle null source object\n");
+		codeBuilder.append("        if (").append(names.sourceVariableName).append(" == null) {\n");
+		codeBuilder.append("            return null;\n");
+		codeBuilder.append("        }\n");
+		appendMappedObjectsDeclaration(codeBuilder, names.mappedVariableName);
+		codeBuilder.append("\n");
+	}
+
+	/**
+	 * 순환 방지를 켠 중첩 매핑에서 필드 중 하나라도 하위 매퍼를 호출한다면, 최상위 메소드가 한 번 만들어
+	 * 모든 하위 매퍼 호출에 넘길 IdentityHashMap 변수 이름을 반환합니다.
+	 * @param targetFieldNames 메소드가 매핑하는 대상 필드
+	 * @return 변수 이름, 하위 매퍼를 호출하지 않거나 순환 방지가 꺼져 있으면 null
+	 */
+	static String mappedVariableName(MappingClassModel sourceClass, MappingClassModel targetClass,
+		Collection<String> targetFieldNames, MappingOptions options) {
+		NestedMapperRegistry registry = options.getNestedMappers();
+		if (registry == null || !registry.isCycleGuard()) {
+			return null;
+		}
+		for (String targetFieldName : targetFieldNames) {
+			MappingFieldModel targetField = targetClass.findField(targetFieldName, true);
+			MappingFieldModel sourceField = sourceClass.findField(targetFieldName, true);
+			if (targetField != null && sourceField != null && !sourceField.typeName().equals(targetField.typeName())
+				&& !LazyAssociationGenerator.isSkipped(sourceField, options)
+				&& options.getTypeConverters().convert(sourceField.typeName(), targetField.typeName(), "value") == null
+				&& EnumMappingGenerator.convert(sourceField, targetField, "value", options) == null
+				&& NestedMappingGenerator.convert(sourceField, targetField, "value", options, MAPPED_VARIABLE_NAME)
+				!= null) {
+				return MAPPED_VARIABLE_NAME;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * @return 순환 방지용 IdentityHashMap을 만들어 하위 매퍼 호출에 넘기는지 여부 (머리 부분이 그 변수를 선언함)
+	 */
+	public static boolean usesMappedObjects(MappingClassModel sourceClass, MappingClassModel targetClass,
+		Collection<String> targetFieldNames, MappingOptions options) {
+		return mappedVariableName(sourceClass, targetClass, targetFieldNames, options) != null;
+	}
+
+	/**
+	 * {@link #mappedVariableName}이 null이 아니면 IdentityHashMap 지역 변수 선언을 추가합니다.
+	 */
+	static void appendMappedObjectsDeclaration(StringBuilder codeBuilder, String mappedVariableName) {
+		if (mappedVariableName != null) {
+			codeBuilder.append("        // Cycle guard: one identity map shared by every nested mapper call\n");
+			codeBuilder.append("        java.util.IdentityHashMap<Object, Object> ").append(mappedVariableName)
+				.append(" = new java.util.IdentityHashMap<>();\n");
+		}
+	}
+
+	/**
+	 * 소스 필드 접근자 호출 코드 (Record라면 컴포넌트 접근자, 클래스라면 Getter)
+	 */
+	private static void appendAccessorCall(StringBuilder codeBuilder, Names names, MappingClassModel sourceClass,
+		MappingFieldModel sourceField) {
+		codeBuilder.append(names.sourceVariableName)
+			.append(".")
+			.append(sourceClass.record() ? sourceField.name() : sourceField.getterName())
+			.append("()");
+	}
+
+	/**
+	 * 대상 필드에 넣을 값 식을 추가합니다. 타입이 다르면 변환 레지스트리의 변환 식을 사용합니다.
+	 * 지연 로딩 연관 필드는 정책(GUARD)에 따라 로딩 여부 확인으로 감쌉니다.
+	 * @return 타입이 같거나 변환 식을 사용했다면 true, 변환기가 없어 Getter 호출만 추가했다면 false
+	 */
+	private static boolean appendMappedValue(StringBuilder codeBuilder, Names names, MappingClassModel sourceClass,
+		MappingFieldModel sourceField, MappingFieldModel targetField, MappingOptions options) {
+		if (LazyAssociationGenerator.isGuarded(sourceField, options)) {
+			StringBuilder valueBuilder = new StringBuilder(ESTIMATED_LINE_LENGTH * 2);
+			boolean converted = appendUnguardedValue(valueBuilder, names, sourceClass, sourceField, targetField,
+				options);
+			codeBuilder.append(LazyAssociationGenerator.guard(sourceField, names.sourceVariableName,
+				valueBuilder.toString(), options));
+			return converted;
+		}
+		return appendUnguardedValue(codeBuilder, names, sourceClass, sourceField, targetField, options);
+	}
+
+	private static boolean appendUnguardedValue(StringBuilder codeBuilder, Names names, MappingClassModel sourceClass,
+		MappingFieldModel sourceField, MappingFieldModel targetField, MappingOptions options) {
+		if (sourceField.typeName().equals(targetField.typeName())) {
+			appendAccessorCall(codeBuilder, names, sourceClass, sourceField);
+			return true;
+		}
+		StringBuilder accessorBuilder = new StringBuilder(ESTIMATED_LINE_LENGTH);
+		appendAccessorCall(accessorBuilder, names, sourceClass, sourceField);
+		String conversion = convertValue(sourceField, targetField, accessorBuilder.toString(), options,
+			names.mappedVariableName);
+		codeBuilder.append(conversion != null ? conversion : accessorBuilder);
+		return conversion != null;
+	}
+
+	/**
+	 * 타입이 다른 필드의 값 식을 대상 타입으로 변환합니다.
+	 * 변환 레지스트리(사용자 변환기 우선)를 먼저 찾고, 없으면 enum 변환, 중첩 객체 하위 매퍼 호출 순으로 사용합니다.
+	 * @return 변환 식, 변환할 수 없으면 null
+	 */
+	static String convertValue(MappingFieldModel sourceField, MappingFieldModel targetField, String valueExpression,
+		MappingOptions options) {
+		return convertValue(sourceField, targetField, valueExpression, options, MAPPED_VARIABLE_NAME);
+	}
+
+	/**
+	 * @param mappedVariableName 하위 매퍼 호출에 넘길 순환 방지용 IdentityHashMap 변수 이름 ({@link #mappedVariableName})
+	 */
+	static String convertValue(MappingFieldModel sourceField, MappingFieldModel targetField,
+		String valueExpression, MappingOptions options, String mappedVariableName) {
+		String conversion = options.getTypeConverters().convert(sourceField.typeName(), targetField.typeName(),
+			valueExpression);
+		if (conversion == null) {
+			conversion = EnumMappingGenerator.convert(sourceField, targetField, valueExpression, options);
+		}
+		if (conversion == null) {
+			conversion = NestedMappingGenerator.convert(sourceField, targetField, valueExpression, options,
+				mappedVariableName);
+		}
+		return conversion;
+	}
+
+	/**
+	 * null이 아님을 이미 확인한 값 식을 대상 타입으로 변환합니다. {@link #convertValue}와 같지만 값의 null 확인을 다시 하지 않습니다.
+	 * @return 변환 식, 변환할 수 없으면 null
+	 */
+	static String convertNonNullValue(MappingFieldModel sourceField, MappingFieldModel targetField,
+		String valueExpression, MappingOptions options, String mappedVariableName) {
+		String conversion = options.getTypeConverters().convertNonNull(sourceField.typeName(),
+			targetField.typeName(), valueExpression);
+		if (conversion == null) {
+			conversion = EnumMappingGenerator.convertNonNull(sourceField, targetField, valueExpression, options);
+		}
+		if (conversion == null) {
+			conversion = NestedMappingGenerator.convert(sourceField, targetField, valueExpression, options,
+				mappedVariableName);
+		}
+		return conversion;
+	}
+
+	private static void appendTypeMismatchComment(StringBuilder codeBuilder, MappingFieldModel sourceField,
+		MappingFieldModel targetField) {
+		if (!sourceField.typeName().equals(targetField.typeName())) {
+			codeBuilder.append(" // Source type: ")
+				.append(sourceField.presentableTypeName())
+				.append(", Target type: ")
+				.append(targetField.presentableTypeName())
+				.append(" => Type conversion needed");
+		}
+	}
+
+	private static void appendChainComment(StringBuilder codeBuilder, MappingOptions options) {
+		if (!options.getIntermediateClassNames().isEmpty()) {
+			codeBuilder.append("     * (")
+				.append(String.join(", ", options.getIntermediateClassNames()))
+				.append(" 중간 객체를 만들지 않고 한 번에 변환합니다.)\n");
+		}
+	}
+
+	static String capitalize(String value) {
+		if (value == null || value.isEmpty() || Character.isUpperCase(value.charAt(0))) {
+			return value;
+		}
+		return Character.toUpperCase(value.charAt(0)) + value.substring(1);
+	}
+
+	static String uncapitalize(String value) {
+		if (value == null || value.isEmpty() || Character.isLowerCase(value.charAt(0))) {
+			return value;
+		}
+		return Character.toLowerCase(value.charAt(0)) + value.substring(1);
+	}
+
+	/**
+	 * 메소드 하나를 생성하는 동안 반복해서 쓰이는 이름들 (필드마다 다시 계산하지 않음)
+	 */
+	private static final class Names {
+		private final String sourceClassName;
+		private final String sourceVariableName;
+		private final String targetClassName;
+		private final String targetVariableName;
+		private final String methodName;
+		private final String updateMethodName;
+		// 순환 방지용 IdentityHashMap 변수 이름 (하위 매퍼를 호출하지 않으면 null)
+		private final String mappedVariableName;
+
+		/**
+		 * @param mappedFieldNames 메소드가 매핑하는 대상 필드 (하위 매퍼 호출이 있으면 IdentityHashMap을 한 번 만들어 넘김)
+		 */
+		private Names(MappingClassModel sourceClass, MappingClassModel targetClass,
+			Collection<String> mappedFieldNames, MappingOptions options) {
+			this.sourceClassName = sourceClass.name();
+			this.sourceVariableName = uncapitalize(sourceClassName);
+			this.targetClassName = targetClass.name();
+			this.targetVariableName = uncapitalize(targetClassName);
+			this.methodName = "gen" + targetClassName;
+			this.updateMethodName = "update" + targetClassName;
+			this.mappedVariableName = mappedVariableName(sourceClass, targetClass, mappedFieldNames, options);
+		}
+
+		/**
+		 * 하위 매퍼용 이름 (Mapper 클래스가 import하지 않은 타입이므로 정규화된 클래스 이름 사용)
+		 * 단순 이름이 같은 쌍(예: entity.Address → dto.Address)도 있으므로 변수 이름은 고정된 이름을 사용합니다.
+		 */
+		private Names(MappingClassModel sourceClass, MappingClassModel targetClass, String mappedVariableName) {
+			this.sourceClassName = sourceClass.qualifiedName();
+			this.sourceVariableName = "source";
+			this.targetClassName = targetClass.qualifiedName();
+			this.targetVariableName = "target";
+			this.methodName = NestedMappingGenerator.methodName(targetClass);
+			this.updateMethodName = "update" + targetClass.name();
+			this.mappedVariableName = mappedVariableName;
+		}
+	}
+}
@@ -0,0 +1,17 @@
+package com.maker.engine;
+
+import java.util.List;
+
+/**
+ * 필드 타입이 enum일 때 매핑 엔진이 사용하는 enum 모델입니다. IntelliJ PSI에 의존하지 않습니다.
+ *
+ * @param constants enum 상수 이름 (선언 순서)
+ * @param codeGetterName DB 등에 저장되는 코드 값의 Getter 이름 (예: getCode, 없으면 null)
+ * @param codeTypeName 코드 값의 정규화된 타입 이름 (예: java.lang.String, 없으면 null)
+ */
+public record MappingEnumModel(
+	List<String> constants,
+	String codeGetterName,
+	String codeTypeName
+) {
+}
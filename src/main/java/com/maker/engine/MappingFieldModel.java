@@ -0,0 +1,53 @@
+package com.maker.engine;
+
+/**
+ * 매핑 엔진이 사용하는 필드 모델입니다. IntelliJ PSI에 의존하지 않습니다.
+ *
+ * @param name 필드 이름
+ * @param typeName 정규화된 타입 이름 (타입 일치 여부 비교에 사용, 예: java.util.List&lt;java.lang.String&gt;)
+ * @param presentableTypeName 화면/주석에 표시할 타입 이름 (예: List&lt;String&gt;)
+ * @param declaringClassName 필드를 선언한 클래스의 단순 이름
+ * @param declaredInClass 모델 대상 클래스에 직접 선언된 필드인지 여부
+ * @param getterName Getter 이름 (Record라면 컴포넌트 접근자 이름)
+ * @param setterName Setter 이름
+ * @param enumModel 필드 타입이 enum이라면 enum 모델, 아니면 null
+ * @param lazyPersistencePackage 지연 로딩되는 JPA 연관 필드라면 매핑 어노테이션의 패키지
+ *                               (jakarta.persistence 또는 javax.persistence), 아니면 null
+ */
+public record MappingFieldModel(
+	String name,
+	String typeName,
+	String presentableTypeName,
+	String declaringClassName,
+	boolean declaredInClass,
+	String getterName,
+	String setterName,
+	MappingEnumModel enumModel,
+	String lazyPersistencePackage
+) {
+
+	/**
+	 * enum이 아닌 필드 모델을 만듭니다.
+	 */
+	public MappingFieldModel(String name, String typeName, String presentableTypeName, String declaringClassName,
+		boolean declaredInClass, String getterName, String setterName) {
+		this(name, typeName, presentableTypeName, declaringClassName, declaredInClass, getterName, setterName, null,
+			null);
+	}
+
+	/**
+	 * JPA 연관 필드가 아닌 필드 모델을 만듭니다.
+	 */
+	public MappingFieldModel(String name, String typeName, String presentableTypeName, String declaringClassName,
+		boolean declaredInClass, String getterName, String setterName, MappingEnumModel enumModel) {
+		this(name, typeName, presentableTypeName, declaringClassName, declaredInClass, getterName, setterName,
+			enumModel, null);
+	}
+
+	/**
+	 * @return 지연 로딩되는 JPA 연관 필드인지 여부
+	 */
+	public boolean lazyAssociation() {
+		return lazyPersistencePackage != null;
+	}
+}
@@ -0,0 +1,296 @@
+package com.maker.engine;
+
+import java.util.List;
+
+import com.maker.entity.LazyAssociationPolicy;
+import com.maker.entity.ListMappingStrategy;
+
+/**
+ * 코드 생성 옵션입니다. 기본값은 Tool Window의 체크박스 기본값과 같습니다.
+ */
+public final class MappingOptions {
+
+	// 병렬 List 변환 메소드가 청크로 나누기 시작하는 입력 크기 기본값
+	public static final int DEFAULT_PARALLEL_THRESHOLD = 10_000;
+
+	// 변환 메소드를 보조 메소드로 나누기 시작하는 예상 바이트코드 크기 기본값 (JIT 한도 8000바이트보다 여유 있게)
+	public static final int DEFAULT_METHOD_SIZE_LIMIT = 7_000;
+
+	private static final Runnable NO_CANCELLATION_CHECK = () -> {
+	};
+
+	private boolean generateMethodComment = true;
+	private boolean generateAllField;
+	private Runnable cancellationCheck = NO_CANCELLATION_CHECK;
+	private ListMappingStrategy listMappingStrategy = ListMappingStrategy.STREAM;
+	private boolean unmodifiableCollections;
+	private boolean generateCollectionVariants;
+	private boolean generateStreamingMethods;
+	private boolean generateParallelListMethod;
+	private int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+	private boolean generateUpdateMethod;
+	private boolean generatePatchMethod;
+	private boolean generateFieldMaskMethod;
+	private TypeConverterRegistry typeConverters = new TypeConverterRegistry();
+	private NestedMapperRegistry nestedMappers;
+	private int methodSizeLimit = DEFAULT_METHOD_SIZE_LIMIT;
+	private boolean preferConstructor;
+	// 한 번에 변환하는 체인의 중간 클래스 이름 (메소드 주석 표시용, 체인이 아니면 빈 목록)
+	private List<String> intermediateClassNames = List.of();
+	private LazyAssociationPolicy lazyAssociationPolicy = LazyAssociationPolicy.GUARD;
+	// 보조 멤버 이름 (이 옵션으로 생성하는 한 클래스 안에서 같은 타입은 같은 이름)
+	private final MemberNames memberNames = MemberNames.forClass();
+
+	public MappingOptions() {
+	}
+
+	private MappingOptions(MappingOptions other) {
+		this.generateMethodComment = other.generateMethodComment;
+		this.generateAllField = other.generateAllField;
+		this.cancellationCheck = other.cancellationCheck;
+		this.listMappingStrategy = other.listMappingStrategy;
+		this.unmodifiableCollections = other.unmodifiableCollections;
+		this.generateCollectionVariants = other.generateCollectionVariants;
+		this.generateStreamingMethods = other.generateStreamingMethods;
+		this.generateParallelListMethod = other.generateParallelListMethod;
+		this.parallelThreshold = other.parallelThreshold;
+		this.generateUpdateMethod = other.generateUpdateMethod;
+		this.generatePatchMethod = other.generatePatchMethod;
+		this.generateFieldMaskMethod = other.generateFieldMaskMethod;
+		this.typeConverters = other.typeConverters;
+		this.nestedMappers = other.nestedMappers;
+		this.methodSizeLimit = other.methodSizeLimit;
+		this.preferConstructor = other.preferConstructor;
+		this.intermediateClassNames = other.intermediateClassNames;
+		this.lazyAssociationPolicy = other.lazyAssociationPolicy;
+	}
+
+	public boolean isGenerateMethodComment() {
+		return generateMethodComment;
+	}
+
+	public MappingOptions setGenerateMethodComment(boolean generateMethodComment) {
+		this.generateMethodComment = generateMethodComment;
+		return this;
+	}
+
+	public boolean isGenerateAllField() {
+		return generateAllField;
+	}
+
+	public MappingOptions setGenerateAllField(boolean generateAllField) {
+		this.generateAllField = generateAllField;
+		return this;
+	}
+
+	public Runnable getCancellationCheck() {
+		return cancellationCheck;
+	}
+
+	/**
+	 * 필드마다 호출되는 취소 확인 콜백을 지정합니다. (IDE에서는 ProgressManager::checkCanceled)
+	 */
+	public MappingOptions setCancellationCheck(Runnable cancellationCheck) {
+		this.cancellationCheck = cancellationCheck != null ? cancellationCheck : NO_CANCELLATION_CHECK;
+		return this;
+	}
+
+	public ListMappingStrategy getListMappingStrategy() {
+		return listMappingStrategy;
+	}
+
+	/**
+	 * List 변환 메소드(와 Set/Map/배열 변형)의 구현 방식을 지정합니다. (기본값 STREAM)
+	 */
+	public MappingOptions setListMappingStrategy(ListMappingStrategy listMappingStrategy) {
+		this.listMappingStrategy = listMappingStrategy != null ? listMappingStrategy : ListMappingStrategy.STREAM;
+		return this;
+	}
+
+	public boolean isUnmodifiableCollections() {
+		return unmodifiableCollections;
+	}
+
+	/**
+	 * 컬렉션 변환 결과를 수정 불가능한 컬렉션으로 감싸서 반환할지 지정합니다.
+	 */
+	public MappingOptions setUnmodifiableCollections(boolean unmodifiableCollections) {
+		this.unmodifiableCollections = unmodifiableCollections;
+		return this;
+	}
+
+	public boolean isGenerateCollectionVariants() {
+		return generateCollectionVariants;
+	}
+
+	/**
+	 * List 변환 메소드와 함께 Set, Map 값, 배열 입력용 변환 메소드도 생성할지 지정합니다.
+	 */
+	public MappingOptions setGenerateCollectionVariants(boolean generateCollectionVariants) {
+		this.generateCollectionVariants = generateCollectionVariants;
+		return this;
+	}
+
+	public boolean isGenerateStreamingMethods() {
+		return generateStreamingMethods;
+	}
+
+	/**
+	 * List 변환 메소드와 함께 Stream/Iterator/Spliterator 지연 변환 메소드도 생성할지 지정합니다.
+	 */
+	public MappingOptions setGenerateStreamingMethods(boolean generateStreamingMethods) {
+		this.generateStreamingMethods = generateStreamingMethods;
+		return this;
+	}
+
+	public boolean isGenerateParallelListMethod() {
+		return generateParallelListMethod;
+	}
+
+	/**
+	 * List 변환 메소드와 함께 큰 입력을 청크로 나누어 병렬 변환하는 메소드도 생성할지 지정합니다.
+	 * 병렬 변환 메소드는 결과 배열을 감싼 고정 크기 List를 돌려줍니다.
+	 */
+	public MappingOptions setGenerateParallelListMethod(boolean generateParallelListMethod) {
+		this.generateParallelListMethod = generateParallelListMethod;
+		return this;
+	}
+
+	public int getParallelThreshold() {
+		return parallelThreshold;
+	}
+
+	/**
+	 * 병렬 List 변환 메소드가 청크 병렬 처리로 전환하는 입력 크기입니다. 이보다 작으면 순차 반복문을 사용합니다.
+	 */
+	public MappingOptions setParallelThreshold(int parallelThreshold) {
+		this.parallelThreshold = parallelThreshold > 0 ? parallelThreshold : DEFAULT_PARALLEL_THRESHOLD;
+		return this;
+	}
+
+	public boolean isGenerateUpdateMethod() {
+		return generateUpdateMethod;
+	}
+
+	/**
+	 * 기존 대상 객체에 값을 복사하는 update&lt;Target&gt;(Source, Target) 메소드와 List 변형도 생성할지 지정합니다.
+	 */
+	public MappingOptions setGenerateUpdateMethod(boolean generateUpdateMethod) {
+		this.generateUpdateMethod = generateUpdateMethod;
+		return this;
+	}
+
+	public boolean isGeneratePatchMethod() {
+		return generatePatchMethod;
+	}
+
+	/**
+	 * null이 아니고 값이 다른 필드만 복사하고 바뀐 필드를 비트 마스크로 반환하는 patch&lt;Target&gt; 메소드도 생성할지 지정합니다.
+	 */
+	public MappingOptions setGeneratePatchMethod(boolean generatePatchMethod) {
+		this.generatePatchMethod = generatePatchMethod;
+		return this;
+	}
+
+	public boolean isGenerateFieldMaskMethod() {
+		return generateFieldMaskMethod;
+	}
+
+	/**
+	 * 필드 마스크에 포함된 필드의 Getter만 호출하는 gen&lt;Target&gt;(Source, 필드 마스크) 메소드와
+	 * 필드 이름 → 비트 번호 조회 맵도 생성할지 지정합니다.
+	 */
+	public MappingOptions setGenerateFieldMaskMethod(boolean generateFieldMaskMethod) {
+		this.generateFieldMaskMethod = generateFieldMaskMethod;
+		return this;
+	}
+
+	public TypeConverterRegistry getTypeConverters() {
+		return typeConverters;
+	}
+
+	/**
+	 * 소스/대상 타입이 다른 필드에 사용할 변환 레지스트리를 지정합니다. (기본값: 기본 변환기만 있는 레지스트리)
+	 */
+	public MappingOptions setTypeConverters(TypeConverterRegistry typeConverters) {
+		this.typeConverters = typeConverters;
+		return this;
+	}
+
+	public NestedMapperRegistry getNestedMappers() {
+		return nestedMappers;
+	}
+
+	/**
+	 * 중첩 객체 필드를 하위 매퍼로 변환할 설정을 지정합니다. (기본값 null: 중첩 객체는 타입 변환 필요 주석으로 남김)
+	 */
+	public MappingOptions setNestedMappers(NestedMapperRegistry nestedMappers) {
+		this.nestedMappers = nestedMappers;
+		return this;
+	}
+
+	public int getMethodSizeLimit() {
+		return methodSizeLimit;
+	}
+
+	/**
+	 * 변환 메소드의 예상 바이트코드 크기가 이 값을 넘으면 필드 묶음별 보조 메소드로 나눕니다. (0 이하라면 나누지 않음)
+	 */
+	public MappingOptions setMethodSizeLimit(int methodSizeLimit) {
+		this.methodSizeLimit = methodSizeLimit;
+		return this;
+	}
+
+	public boolean isPreferConstructor() {
+		return preferConstructor;
+	}
+
+	/**
+	 * 코드 형태를 자동으로 고르는 곳(패키지 일괄 생성, 클래스에 쓰기, 중첩 객체 하위 매퍼)에서
+	 * 대상 클래스에 정식 생성자가 있으면 Builder/Setter 대신 생성자를 직접 호출합니다.
+	 */
+	public MappingOptions setPreferConstructor(boolean preferConstructor) {
+		this.preferConstructor = preferConstructor;
+		return this;
+	}
+
+	public List<String> getIntermediateClassNames() {
+		return intermediateClassNames;
+	}
+
+	/**
+	 * 변환 메소드가 중간 클래스를 거치는 체인(Entity → DTO → Response)을 한 번에 변환한다면 그 중간 클래스 이름을 지정합니다.
+	 * 메소드 주석에만 사용하며, 매핑할 필드는 {@link MappingCodeGenerator#resolveChainFieldNames}로 고릅니다.
+	 */
+	public MappingOptions setIntermediateClassNames(List<String> intermediateClassNames) {
+		this.intermediateClassNames = intermediateClassNames != null ? List.copyOf(intermediateClassNames) : List.of();
+		return this;
+	}
+
+	public LazyAssociationPolicy getLazyAssociationPolicy() {
+		return lazyAssociationPolicy;
+	}
+
+	/**
+	 * JPA 지연 로딩 연관 필드를 다루는 방식을 지정합니다. (null이면 GUARD)
+	 */
+	public MappingOptions setLazyAssociationPolicy(LazyAssociationPolicy lazyAssociationPolicy) {
+		this.lazyAssociationPolicy = lazyAssociationPolicy != null ? lazyAssociationPolicy : LazyAssociationPolicy.GUARD;
+		return this;
+	}
+
+	/**
+	 * 같은 설정으로 Mapper 클래스 하나를 생성할 옵션을 만듭니다. 보조 멤버 이름은 이 클래스 안에서만 정하므로
+	 * 여러 Mapper를 병렬로 생성해도 다른 Mapper의 생성 순서에 따라 이름이 바뀌지 않습니다.
+	 */
+	MappingOptions forMapperClass() {
+		return new MappingOptions(this);
+	}
+
+	/**
+	 * @return 보조 멤버 이름 (공유 하위 매퍼 클래스를 쓴다면 모든 Mapper가 함께 쓰는 그 클래스의 이름)
+	 */
+	MemberNames getMemberNames() {
+		return nestedMappers != null && nestedMappers.isShared() ? nestedMappers.getMemberNames() : memberNames;
+	}
+}
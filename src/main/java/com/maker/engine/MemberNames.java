@@ -0,0 +1,75 @@
+package com.maker.engine;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 생성되는 보조 멤버(enum 변환 메소드, 정적 조회 맵, 컬렉션 변환 메소드) 이름에 쓸 타입 이름을 정합니다.
+ * 멤버는 정규화된 타입 이름으로 구분하며, 이름은 멤버가 들어갈 클래스 하나 안에서만 겹치지 않으면 됩니다.
+ * <ul>
+ *   <li>Mapper 클래스: 클래스마다 새로 만들어 필드 순서대로 이름을 정합니다. 먼저 쓰인 타입은 단순 이름을 그대로 쓰고,
+ *       단순 이름이 같은 다른 타입은 겹치지 않을 때까지 패키지 이름을 앞에 붙입니다. (예: Status, DtoStatus)</li>
+ *   <li>공유 하위 매퍼 클래스: 여러 Mapper가 여러 스레드에서 함께 채우므로 먼저 쓰인 순서에 기대지 않고
+ *       항상 패키지 이름 전체를 붙입니다. (예: ComFooEntityStatus)</li>
+ * </ul>
+ * 어느 쪽이든 같은 입력이라면 실행할 때마다 같은 이름이 나옵니다.
+ */
+final class MemberNames {
+
+	private final boolean packageQualified;
+	// 정규화된 타입 이름 → 멤버 이름에 쓸 타입 이름
+	private final Map<String, String> namesByType = new HashMap<>();
+	private final Set<String> usedNames = new HashSet<>();
+
+	private MemberNames(boolean packageQualified) {
+		this.packageQualified = packageQualified;
+	}
+
+	/**
+	 * @return Mapper 클래스 하나의 이름 (단순 이름 우선)
+	 */
+	static MemberNames forClass() {
+		return new MemberNames(false);
+	}
+
+	/**
+	 * @return 공유 하위 매퍼 클래스의 이름 (항상 패키지 이름 포함)
+	 */
+	static MemberNames packageQualified() {
+		return new MemberNames(true);
+	}
+
+	/**
+	 * @param qualifiedTypeName 정규화된 타입 이름
+	 * @return 같은 클래스의 다른 타입과 겹치지 않는 타입 이름
+	 */
+	synchronized String typeName(String qualifiedTypeName) {
+		String name = namesByType.get(qualifiedTypeName);
+		if (name != null) {
+			return name;
+		}
+		String[] segments = qualifiedTypeName.split("\\.");
+		int segmentIndex = segments.length - 1;
+		name = segments[segmentIndex];
+		if (packageQualified) {
+			while (segmentIndex > 0) {
+				name = capitalize(segments[--segmentIndex]) + name;
+			}
+		}
+		// 단순 이름이 같은 타입이 이미 있다면 가까운 패키지 이름부터 하나씩 붙임
+		while (!usedNames.add(name)) {
+			if (segmentIndex == 0) {
+				throw new IllegalStateException("No unique member name for " + qualifiedTypeName);
+			}
+			name = capitalize(segments[--segmentIndex]) + name;
+		}
+		namesByType.put(qualifiedTypeName, name);
+		return name;
+	}
+
+	private static String capitalize(String segment) {
+		return Character.toUpperCase(segment.charAt(0)) + segment.substring(1);
+	}
+}
@@ -0,0 +1,125 @@
+package com.maker.engine;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 생성된 변환 메소드의 바이트코드 크기를 추정하고, 한도를 넘으면 필드 매핑 줄을 보조 메소드 단위로 나눕니다.
+ * HotSpot은 8000바이트(HugeMethodLimit)를 넘는 메소드를 JIT 컴파일하지 않으므로(DontCompileHugeMethods)
+ * 필드가 수백 개인 DTO의 변환 메소드는 나누지 않으면 계속 인터프리터로 실행됩니다.
+ * 추정치는 생성 코드의 메소드 호출, null 삼항식, 객체 생성, 람다 수로 계산한 근사값이며 실제보다 약간 크게 잡습니다.
+ */
+final class MethodSplitter {
+
+	// HotSpot이 JIT 컴파일하지 않는 메소드 바이트코드 크기 기준
+	static final int HUGE_METHOD_LIMIT = 8000;
+
+	// 메소드 머리/꼬리(null 체크, 대상 객체/Builder 생성, return)의 대략적인 바이트 수
+	private static final int METHOD_OVERHEAD_BYTES = 16;
+
+	// 메소드 호출 한 번 (수신 객체 또는 인자 적재 1바이트 + invoke 명령 3바이트)
+	private static final Pattern INVOCATION = Pattern.compile("[A-Za-z_$][\\w$]*\\s*\\(");
+
+	// Builder 체인 줄과 주석 처리된 줄의 접두사 (MappingCodeGenerator의 Builder 필드 줄 형식)
+	private static final String CHAIN_LINE_PREFIX = "                .";
+	private static final String COMMENTED_CHAIN_LINE_PREFIX = "                // .";
+	private static final String TYPE_MISMATCH_COMMENT = " // Source type: ";
+
+	private MethodSplitter() {
+	}
+
+	/**
+	 * @param fieldLines 필드별 매핑 줄
+	 * @return 메소드 전체의 예상 바이트코드 크기
+	 */
+	static int estimateMethodBytes(Collection<String> fieldLines) {
+		int bytes = METHOD_OVERHEAD_BYTES;
+		for (String fieldLine : fieldLines) {
+			bytes += estimateLineBytes(fieldLine);
+		}
+		return bytes;
+	}
+
+	/**
+	 * 필드 매핑 줄 하나의 예상 바이트코드 크기입니다. 주석은 세지 않습니다.
+	 */
+	static int estimateLineBytes(String fieldLine) {
+		int bytes = 0;
+		for (String line : fieldLine.split("\n")) {
+			String code = line.trim();
+			if (code.isEmpty() || code.startsWith("//")) {
+				continue;
+			}
+			int commentStart = code.indexOf(" // ");
+			if (commentStart >= 0) {
+				code = code.substring(0, commentStart);
+			}
+			bytes += 1;
+			Matcher invocation = INVOCATION.matcher(code);
+			while (invocation.find()) {
+				bytes += 4;
+			}
+			// ifnonnull + aconst_null + goto
+			bytes += 7 * count(code, "== null ?");
+			// new + dup (생성자 호출은 위에서 셈)
+			bytes += 4 * count(code, "new ");
+			// invokedynamic
+			bytes += 5 * (count(code, "->") + count(code, "::"));
+		}
+		return bytes;
+	}
+
+	/**
+	 * 필드 매핑 줄을 순서대로 묶습니다. 각 묶음의 예상 크기는 chunkBytes를 넘지 않습니다. (줄 하나가 더 크면 그 줄만 담음)
+	 */
+	static List<List<String>> chunk(List<String> fieldLines, int chunkBytes) {
+		List<List<String>> chunks = new ArrayList<>();
+		List<String> current = new ArrayList<>();
+		int currentBytes = METHOD_OVERHEAD_BYTES;
+		for (String fieldLine : fieldLines) {
+			int lineBytes = estimateLineBytes(fieldLine);
+			if (!current.isEmpty() && currentBytes + lineBytes > chunkBytes) {
+				chunks.add(current);
+				current = new ArrayList<>();
+				currentBytes = METHOD_OVERHEAD_BYTES;
+			}
+			current.add(fieldLine);
+			currentBytes += lineBytes;
+		}
+		if (!current.isEmpty()) {
+			chunks.add(current);
+		}
+		return chunks;
+	}
+
+	/**
+	 * Builder 체인 줄(.field(value))을 보조 메소드에서 쓸 문장(builder.field(value);)으로 바꿉니다.
+	 * @param builderVariableName 보조 메소드의 Builder 매개변수 이름
+	 */
+	static String toBuilderStatement(String chainLine, String builderVariableName) {
+		if (chainLine.startsWith(COMMENTED_CHAIN_LINE_PREFIX)) {
+			return "        // " + builderVariableName + "." + chainLine.substring(COMMENTED_CHAIN_LINE_PREFIX.length());
+		}
+		if (!chainLine.startsWith(CHAIN_LINE_PREFIX)) {
+			return chainLine;
+		}
+		String statement = "        " + builderVariableName + "." + chainLine.substring(CHAIN_LINE_PREFIX.length());
+		// 호출 끝(타입 변환 필요 주석 앞 또는 줄 끝)에 세미콜론 추가
+		int end = statement.lastIndexOf(TYPE_MISMATCH_COMMENT);
+		if (end < 0) {
+			end = statement.endsWith("\n") ? statement.length() - 1 : statement.length();
+		}
+		return statement.substring(0, end) + ";" + statement.substring(end);
+	}
+
+	private static int count(String text, String token) {
+		int count = 0;
+		for (int index = text.indexOf(token); index >= 0; index = text.indexOf(token, index + token.length())) {
+			count++;
+		}
+		return count;
+	}
+}
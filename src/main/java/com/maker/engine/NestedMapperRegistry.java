@@ -0,0 +1,132 @@
+package com.maker.engine;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 중첩 객체 매핑 설정입니다. 소스/대상 필드 타입이 모두 매핑할 수 있는 클래스라면(예: Address → AddressDto)
+ * 타입 변환 필요 주석 대신 하위 매퍼 메소드를 생성하고 부모 매퍼에서 호출합니다. List/Set/Collection 필드는 요소마다 호출합니다.
+ * <ul>
+ *   <li>개별 모드: 하위 매퍼를 각 Mapper 클래스의 private 메소드로 생성합니다. (한 클래스 안에서 쌍마다 한 번)</li>
+ *   <li>공유 모드: 일괄 생성되는 모든 Mapper가 하나의 공유 클래스의 public static 메소드를 호출하며,
+ *       하위 매퍼는 일괄 생성 전체에서 쌍마다 한 번만 생성합니다. (여러 스레드에서 동시에 사용 가능)</li>
+ * </ul>
+ * 순환 방지를 켜면 하위 매퍼가 IdentityHashMap으로 이미 변환한 소스 객체를 기억하여, 양방향 연관처럼
+ * 객체 그래프에 순환이 있어도 무한 재귀 없이 같은 대상 인스턴스를 재사용합니다.
+ */
+public final class NestedMapperRegistry {
+
+	/**
+	 * 타입 이름으로 중첩 매핑할 클래스를 찾습니다. (IDE에서는 프로젝트의 PSI 클래스)
+	 */
+	public interface ClassResolver {
+
+		/**
+		 * @param qualifiedName 필드의 정규화된 타입 이름
+		 * @return 중첩 매핑할 수 있는 클래스의 모델, JDK 타입이나 enum, 인터페이스 등이라면 null
+		 */
+		MappingClassModel resolve(String qualifiedName);
+
+		/**
+		 * @return 클래스가 Builder를 제공하는지 여부 (없으면 정식 생성자 또는 기본 생성자와 Setter 사용)
+		 */
+		boolean hasBuilder(String qualifiedName);
+	}
+
+	private final ClassResolver classResolver;
+	private final boolean cycleGuard;
+	// 공유 클래스의 정규화된 이름 (개별 모드라면 null)
+	private final String sharedClassQualifiedName;
+	// 공유 모드에서 생성된 멤버 (쌍 또는 멤버 이름 → 코드)
+	private final Map<String, String> sharedMembers = new ConcurrentHashMap<>();
+	// 공유 모드에서 공유 클래스와 그 하위 매퍼를 호출하는 모든 Mapper가 쓰는 보조 멤버 이름
+	private final MemberNames sharedMemberNames = MemberNames.packageQualified();
+
+	private NestedMapperRegistry(ClassResolver classResolver, boolean cycleGuard, String sharedClassQualifiedName) {
+		this.classResolver = classResolver;
+		this.cycleGuard = cycleGuard;
+		this.sharedClassQualifiedName = sharedClassQualifiedName;
+	}
+
+	/**
+	 * 하위 매퍼를 각 Mapper 클래스 안에 생성하는 설정을 만듭니다.
+	 */
+	public static NestedMapperRegistry perMapper(ClassResolver classResolver, boolean cycleGuard) {
+		return new NestedMapperRegistry(classResolver, cycleGuard, null);
+	}
+
+	/**
+	 * 일괄 생성 전체가 하나의 공유 클래스에 하위 매퍼를 모으는 설정을 만듭니다.
+	 * 일괄 생성이 끝나면 {@link #generateSharedClass()}로 공유 클래스 파일을 만들어야 합니다.
+	 * @param sharedClassQualifiedName 공유 클래스의 정규화된 이름 (예: com.foo.mapper.NestedMappers)
+	 */
+	public static NestedMapperRegistry shared(ClassResolver classResolver, boolean cycleGuard,
+		String sharedClassQualifiedName) {
+		return new NestedMapperRegistry(classResolver, cycleGuard, sharedClassQualifiedName);
+	}
+
+	public boolean isCycleGuard() {
+		return cycleGuard;
+	}
+
+	public boolean isShared() {
+		return sharedClassQualifiedName != null;
+	}
+
+	public String getSharedClassQualifiedName() {
+		return sharedClassQualifiedName;
+	}
+
+	public boolean hasSharedMembers() {
+		return !sharedMembers.isEmpty();
+	}
+
+	/**
+	 * 공유 모드에서 지금까지 생성된 하위 매퍼를 담은 공유 클래스 소스 파일 전체를 생성합니다.
+	 * 생성 순서와 관계없이 같은 결과가 나오도록 멤버를 키 순서로 정렬합니다.
+	 */
+	public String generateSharedClass() {
+		int lastDot = sharedClassQualifiedName.lastIndexOf('.');
+		String packageName = lastDot < 0 ? "" : sharedClassQualifiedName.substring(0, lastDot);
+		String className = sharedClassQualifiedName.substring(lastDot + 1);
+		Map<String, String> sortedMembers = new TreeMap<>(sharedMembers);
+
+		StringBuilder codeBuilder = new StringBuilder(1024 + sortedMembers.size() * 1024);
+		if (!packageName.isEmpty()) {
+			codeBuilder.append("package ").append(packageName).append(";\n\n");
+		}
+		codeBuilder.append("/**\n");
+		codeBuilder.append(" * 생성된 Mapper들이 함께 사용하는 중첩 객체 하위 매퍼입니다.\n");
+		codeBuilder.append(" * (이 코드는 DTO MAKER 플러그인에 의해 자동 생성되었습니다.)\n");
+		codeBuilder.append(" */\n");
+		codeBuilder.append("public final class ").append(className).append(" {\n\n");
+		codeBuilder.append("    private ").append(className).append("() {\n");
+		codeBuilder.append("    }\n");
+		for (String member : sortedMembers.values()) {
+			codeBuilder.append("\n");
+			codeBuilder.append(member);
+		}
+		codeBuilder.append("}\n");
+		return codeBuilder.toString();
+	}
+
+	ClassResolver getClassResolver() {
+		return classResolver;
+	}
+
+	MemberNames getMemberNames() {
+		return sharedMemberNames;
+	}
+
+	Map<String, String> getSharedMembers() {
+		return sharedMembers;
+	}
+
+	/**
+	 * @return 하위 매퍼 호출 앞에 붙일 식 (공유 모드라면 공유 클래스 이름과 '.', 개별 모드라면 빈 문자열)
+	 */
+	String callPrefix() {
+		return isShared() ? sharedClassQualifiedName + "." : "";
+	}
+}
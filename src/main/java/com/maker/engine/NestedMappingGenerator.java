@@ -0,0 +1,267 @@
+package com.maker.engine;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import com.maker.entity.CodeType;
+
+/**
+ * 중첩 객체 필드의 하위 매퍼 호출 식과 하위 매퍼 메소드를 생성합니다. 설정은 {@link NestedMapperRegistry}를 따릅니다.
+ * 하위 매퍼의 필드가 다시 중첩 객체라면 그 쌍의 하위 매퍼도 만들며, 이미 만든 쌍은 건너뛰므로
+ * 자기 자신을 참조하는 타입(예: 트리 노드)도 메소드 하나로 끝납니다.
+ */
+final class NestedMappingGenerator {
+
+	// 요소마다 하위 매퍼를 호출할 수 있는 컬렉션 타입 → 결과 수집 식
+	private static final Map<String, String> COLLECTORS = Map.of(
+		"java.util.List", "java.util.stream.Collectors.toList()",
+		"java.util.Collection", "java.util.stream.Collectors.toList()",
+		"java.util.Set", "java.util.stream.Collectors.toCollection(java.util.LinkedHashSet::new)");
+
+	private NestedMappingGenerator() {
+	}
+
+	/**
+	 * 중첩 객체(또는 중첩 객체 컬렉션) 필드의 변환 식을 만듭니다.
+	 * @param mappedVariableName 하위 매퍼 호출에 넘길 순환 방지용 IdentityHashMap 변수 이름
+	 *                           (하위 매퍼의 매개변수 또는 최상위 메소드가 한 번 만든 지역 변수, 순환 방지가 꺼져 있으면 무시)
+	 * @return 하위 매퍼 호출 식, 중첩 매핑 대상이 아니면 null
+	 */
+	static String convert(MappingFieldModel sourceField, MappingFieldModel targetField, String valueExpression,
+		MappingOptions options, String mappedVariableName) {
+		NestedMapperRegistry registry = options.getNestedMappers();
+		if (registry == null) {
+			return null;
+		}
+		MappingClassModel[] pair = resolvePair(registry, sourceField.typeName(), targetField.typeName());
+		if (pair != null) {
+			return callExpression(registry, pair[1], valueExpression, mappedVariableName);
+		}
+
+		String collectionType = rawTypeName(sourceField.typeName());
+		String collector = COLLECTORS.get(collectionType);
+		if (collector == null || !collectionType.equals(rawTypeName(targetField.typeName()))) {
+			return null;
+		}
+		MappingClassModel[] elementPair = resolvePair(registry, elementTypeName(sourceField.typeName()),
+			elementTypeName(targetField.typeName()));
+		if (elementPair == null) {
+			return null;
+		}
+		StringBuilder callBuilder = new StringBuilder(64);
+		callBuilder.append(registry.callPrefix()).append(collectionMethodName(elementPair, collectionType, options))
+			.append("(").append(valueExpression);
+		if (registry.isCycleGuard()) {
+			callBuilder.append(", ").append(mappedVariableName);
+		}
+		return callBuilder.append(")").toString();
+	}
+
+	/**
+	 * 포함된 필드에서 출발해 필요한 하위 매퍼를 모두 생성합니다.
+	 * 개별 모드라면 members에, 공유 모드라면 공유 클래스에 추가하며, 컬렉션 요소를 변환하는 메소드와
+	 * 하위 매퍼가 쓰는 보조 멤버(null 안전 변환, enum 변환, 지연 로딩 확인)도 함께 추가합니다.
+	 * @param members Mapper 클래스에 추가할 멤버 (키 → 코드, 생성 순서 유지)
+	 */
+	static void collectMembers(MappingClassModel sourceClass, MappingClassModel targetClass,
+		Collection<String> includedTargetFieldNames, MappingOptions options, Map<String, String> members) {
+		collectMembers(sourceClass, targetClass, includedTargetFieldNames, options, members, true);
+	}
+
+	/**
+	 * @param rootMethodGenerated 최상위 변환 메소드(gen + 대상 클래스 이름)를 함께 생성하는지 여부
+	 *                            (false라면 최상위 쌍도 하위 매퍼로 생성, 예: 여러 대상 한 번에 변환)
+	 */
+	static void collectMembers(MappingClassModel sourceClass, MappingClassModel targetClass,
+		Collection<String> includedTargetFieldNames, MappingOptions options, Map<String, String> members,
+		boolean rootMethodGenerated) {
+		NestedMapperRegistry registry = options.getNestedMappers();
+		if (registry == null) {
+			return;
+		}
+		Deque<MappingClassModel[]> pendingPairs = new ArrayDeque<>();
+		addFieldPairs(registry, sourceClass, targetClass, includedTargetFieldNames, pendingPairs);
+
+		String rootKey = pairKey(sourceClass, targetClass);
+		Map<String, String> destination = registry.isShared() ? registry.getSharedMembers() : members;
+		addCollectionMethods(registry, sourceClass, targetClass, includedTargetFieldNames, options, destination);
+		Set<String> visitedKeys = new HashSet<>();
+		Runnable cancellationCheck = options.getCancellationCheck();
+		while (!pendingPairs.isEmpty()) {
+			cancellationCheck.run();
+			MappingClassModel[] pair = pendingPairs.poll();
+			String key = pairKey(pair[0], pair[1]);
+			if (!visitedKeys.add(key)) {
+				continue;
+			}
+			// 개별 모드에서 순환 방지가 없다면 최상위 변환 메소드와 시그니처가 같으므로 그대로 호출
+			if (rootMethodGenerated && !registry.isShared() && !registry.isCycleGuard() && key.equals(rootKey)) {
+				continue;
+			}
+			// 공유 모드에서 다른 Mapper가 이미 만든 쌍은 그 하위 쌍까지 만들어져 있음
+			if (destination.containsKey(key)) {
+				continue;
+			}
+
+			Collection<String> fieldNames = pair[1].fields().keySet();
+			CodeType codeType = MappingCodeGenerator.chooseCodeType(
+				registry.getClassResolver().hasBuilder(pair[1].qualifiedName()), pair[1], options);
+			String code = MappingCodeGenerator.generateNestedMapperMethod(pair[0], pair[1], fieldNames, codeType,
+				options);
+			MappingCodeGenerator.collectSupportMembers(pair[0], pair[1], fieldNames, options, destination);
+			addCollectionMethods(registry, pair[0], pair[1], fieldNames, options, destination);
+			destination.putIfAbsent(key, code);
+			addFieldPairs(registry, pair[0], pair[1], fieldNames, pendingPairs);
+		}
+	}
+
+	/**
+	 * @return 하위 매퍼 메소드 이름 (최상위 변환 메소드와 같은 규칙: gen + 대상 클래스 이름)
+	 */
+	static String methodName(MappingClassModel targetClass) {
+		return "gen" + targetClass.name();
+	}
+
+	/**
+	 * 중첩 객체 컬렉션 필드마다 요소를 하위 매퍼로 변환하는 메소드를 추가합니다. 이미 추가된 메소드는 다시 만들지 않습니다.
+	 */
+	private static void addCollectionMethods(NestedMapperRegistry registry, MappingClassModel sourceClass,
+		MappingClassModel targetClass, Collection<String> targetFieldNames, MappingOptions options,
+		Map<String, String> destination) {
+		for (String targetFieldName : targetFieldNames) {
+			MappingFieldModel targetField = targetClass.findField(targetFieldName, false);
+			MappingFieldModel sourceField = sourceClass.findField(targetFieldName, true);
+			if (targetField == null || sourceField == null
+				|| resolvePair(registry, sourceField.typeName(), targetField.typeName()) != null) {
+				continue;
+			}
+			String collectionType = rawTypeName(sourceField.typeName());
+			if (!COLLECTORS.containsKey(collectionType) || !collectionType.equals(rawTypeName(targetField.typeName()))) {
+				continue;
+			}
+			MappingClassModel[] elementPair = resolvePair(registry, elementTypeName(sourceField.typeName()),
+				elementTypeName(targetField.typeName()));
+			if (elementPair != null) {
+				destination.computeIfAbsent(sourceField.typeName() + "->" + targetField.typeName(),
+					key -> generateCollectionMethod(registry, sourceField, targetField, elementPair, collectionType,
+						options));
+			}
+		}
+	}
+
+	private static String generateCollectionMethod(NestedMapperRegistry registry, MappingFieldModel sourceField,
+		MappingFieldModel targetField, MappingClassModel[] elementPair, String collectionType, MappingOptions options) {
+		StringBuilder codeBuilder = new StringBuilder(512);
+		if (options.isGenerateMethodComment()) {
+			codeBuilder.append("    /**\n");
+			codeBuilder.append("     * ").append(elementPair[0].name()).append(" 컬렉션의 요소를 ")
+				.append(elementPair[1].name()).append(" 객체로 변환합니다. (null이면 null)\n");
+			codeBuilder.append("     * (이 코드는 DTO MAKER 플러그인에 의해 자동 생성되었습니다.)\n");
+			codeBuilder.append("     */\n");
+		}
+		codeBuilder.append(registry.isShared() ? "    public static " : "    private ").append(targetField.typeName())
+			.append(" ").append(collectionMethodName(elementPair, collectionType, options)).append("(")
+			.append(sourceField.typeName()).append(" value");
+		if (registry.isCycleGuard()) {
+			codeBuilder.append(", java.util.IdentityHashMap<Object, Object> ")
+				.append(MappingCodeGenerator.MAPPED_VARIABLE_NAME);
+		}
+		codeBuilder.append(") {\n");
+		codeBuilder.append("        if (value == null) {\n");
+		codeBuilder.append("            return null;\n");
+		codeBuilder.append("        }\n");
+		codeBuilder.append("        return value.stream()\n");
+		codeBuilder.append("                .map(element -> ")
+			.append(callExpression(registry, elementPair[1], "element", MappingCodeGenerator.MAPPED_VARIABLE_NAME))
+			.append(")\n");
+		codeBuilder.append("                .collect(").append(COLLECTORS.get(collectionType)).append(");\n");
+		codeBuilder.append("    }\n");
+		return codeBuilder.toString();
+	}
+
+	/**
+	 * @return 예: mapOrderItemListToOrderItemDtoList (단순 이름이 같은 타입끼리라면 mapAddressListToDtoAddressList)
+	 */
+	private static String collectionMethodName(MappingClassModel[] elementPair, String collectionType,
+		MappingOptions options) {
+		MemberNames memberNames = options.getMemberNames();
+		String collectionName = collectionType.substring(collectionType.lastIndexOf('.') + 1);
+		return "map" + memberNames.typeName(elementPair[0].qualifiedName()) + collectionName + "To"
+			+ memberNames.typeName(elementPair[1].qualifiedName()) + collectionName;
+	}
+
+	private static void addFieldPairs(NestedMapperRegistry registry, MappingClassModel sourceClass,
+		MappingClassModel targetClass, Collection<String> targetFieldNames, Deque<MappingClassModel[]> pendingPairs) {
+		for (String targetFieldName : targetFieldNames) {
+			MappingFieldModel targetField = targetClass.findField(targetFieldName, false);
+			MappingFieldModel sourceField = sourceClass.findField(targetFieldName, true);
+			if (targetField == null || sourceField == null) {
+				continue;
+			}
+			MappingClassModel[] pair = resolvePair(registry, sourceField.typeName(), targetField.typeName());
+			if (pair == null && COLLECTORS.containsKey(rawTypeName(sourceField.typeName()))) {
+				pair = resolvePair(registry, elementTypeName(sourceField.typeName()),
+					elementTypeName(targetField.typeName()));
+			}
+			if (pair != null) {
+				pendingPairs.add(pair);
+			}
+		}
+	}
+
+	/**
+	 * @return {소스 클래스 모델, 대상 클래스 모델}, 두 타입 중 하나라도 중첩 매핑할 수 없으면 null
+	 */
+	private static MappingClassModel[] resolvePair(NestedMapperRegistry registry, String sourceTypeName,
+		String targetTypeName) {
+		if (sourceTypeName == null || targetTypeName == null || sourceTypeName.indexOf('<') >= 0
+			|| targetTypeName.indexOf('<') >= 0) {
+			return null;
+		}
+		MappingClassModel targetClass = registry.getClassResolver().resolve(targetTypeName);
+		// Record 대상은 Setter가 없으므로 정식 생성자를 알 수 있을 때만 매핑
+		if (targetClass == null || (targetClass.record() && targetClass.constructorParameterNames() == null)) {
+			return null;
+		}
+		MappingClassModel sourceClass = registry.getClassResolver().resolve(sourceTypeName);
+		return sourceClass != null ? new MappingClassModel[] {sourceClass, targetClass} : null;
+	}
+
+	private static String callExpression(NestedMapperRegistry registry, MappingClassModel targetClass,
+		String valueExpression, String mappedVariableName) {
+		StringBuilder callBuilder = new StringBuilder(64);
+		callBuilder.append(registry.callPrefix()).append(methodName(targetClass)).append("(").append(valueExpression);
+		if (registry.isCycleGuard()) {
+			callBuilder.append(", ").append(mappedVariableName);
+		}
+		return callBuilder.append(")").toString();
+	}
+
+	private static String pairKey(MappingClassModel sourceClass, MappingClassModel targetClass) {
+		return sourceClass.qualifiedName() + "->" + targetClass.qualifiedName();
+	}
+
+	/**
+	 * @return 제네릭 인자를 뺀 타입 이름 (예: java.util.List&lt;com.foo.Item&gt; → java.util.List)
+	 */
+	private static String rawTypeName(String typeName) {
+		int genericStart = typeName.indexOf('<');
+		return genericStart < 0 ? typeName : typeName.substring(0, genericStart);
+	}
+
+	/**
+	 * @return 단일 타입 인자 (예: java.util.List&lt;com.foo.Item&gt; → com.foo.Item), 없으면 null
+	 */
+	private static String elementTypeName(String typeName) {
+		int genericStart = typeName.indexOf('<');
+		if (genericStart < 0 || !typeName.endsWith(">")) {
+			return null;
+		}
+		String elementTypeName = typeName.substring(genericStart + 1, typeName.length() - 1).trim();
+		return elementTypeName.startsWith("?") || elementTypeName.indexOf(',') >= 0 ? null : elementTypeName;
+	}
+}
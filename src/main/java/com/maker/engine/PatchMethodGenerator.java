@@ -0,0 +1,188 @@
+package com.maker.engine;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * PATCH 요청용 patch&lt;Target&gt;(Source, Target) 메소드를 생성합니다.
+ * 소스 값이 null이 아니고 대상의 현재 값과 다른 필드만 대상에 복사하며, 실제로 바뀐 필드를 비트 마스크로 반환합니다.
+ * 포함된 필드가 64개 이하라면 long, 그보다 많으면 java.util.BitSet을 반환합니다.
+ * 호출하는 쪽은 반환값이 비어 있으면 DB 쓰기나 캐시 무효화를 건너뛸 수 있습니다.
+ */
+final class PatchMethodGenerator {
+
+	// long 비트 마스크로 표현할 수 있는 최대 필드 수
+	private static final int LONG_MASK_BITS = Long.SIZE;
+
+	private static final Set<String> PRIMITIVE_TYPE_NAMES = Set.of(
+		"boolean", "byte", "short", "char", "int", "long", "float", "double");
+
+	private PatchMethodGenerator() {
+	}
+
+	/**
+	 * @return patch 메소드 코드
+	 */
+	static String generatePatchMethod(MappingClassModel sourceClass, MappingClassModel targetClass,
+		Collection<String> includedTargetFieldNames, MappingOptions options) {
+		String sourceClassName = sourceClass.name();
+		String targetClassName = targetClass.name();
+		String sourceVariableName = MappingCodeGenerator.uncapitalize(sourceClassName);
+		String targetVariableName = MappingCodeGenerator.uncapitalize(targetClassName);
+
+		// 비트를 부여할 필드(소스/대상 모두 있고 타입이 같거나 변환 가능한 필드)를 먼저 골라 비트 번호를 촘촘하게 매김
+		List<MappingFieldModel[]> patchableFields = new ArrayList<>(includedTargetFieldNames.size());
+		List<String> skippedFieldComments = new ArrayList<>();
+		Runnable cancellationCheck = options.getCancellationCheck();
+		for (String targetFieldName : includedTargetFieldNames) {
+			cancellationCheck.run();
+			MappingFieldModel targetField = targetClass.findField(targetFieldName, false);
+			MappingFieldModel sourceField = sourceClass.findField(targetFieldName, true);
+			if (targetField == null || sourceField == null) {
+				if (options.isGenerateAllField()) {
+					skippedFieldComments.add("        // TODO: Field '" + targetFieldName + "' not found in "
+						+ (targetField == null ? targetClassName : sourceClassName) + " class\n");
+				}
+			} else if (LazyAssociationGenerator.isSkipped(sourceField, options)) {
+				skippedFieldComments.add("        // " + targetFieldName + " not patched."
+					+ LazyAssociationGenerator.skippedComment().substring(" //".length()) + "\n");
+			} else if (!sourceField.typeName().equals(targetField.typeName())
+				&& MappingCodeGenerator.convertValue(sourceField, targetField, "value", options) == null) {
+				skippedFieldComments.add("        // " + targetFieldName + " not patched. Source type: "
+					+ sourceField.presentableTypeName() + ", Target type: " + targetField.presentableTypeName()
+					+ " => Type conversion needed\n");
+			} else {
+				patchableFields.add(new MappingFieldModel[] {sourceField, targetField});
+			}
+		}
+		boolean useBitSet = patchableFields.size() > LONG_MASK_BITS;
+		String maskType = useBitSet ? "java.util.BitSet" : "long";
+
+		StringBuilder codeBuilder = new StringBuilder(512 + patchableFields.size() * 256);
+		if (options.isGenerateMethodComment()) {
+			codeBuilder.append("    /**\n");
+			codeBuilder.append("     * ").append(sourceClassName).append(" 객체의 null이 아닌 값 중 현재 값과 다른 필드만 기존 ")
+				.append(targetClassName).append(" 객체에 복사합니다.\n");
+			codeBuilder.append("     * (기본 타입 필드는 항상 값이 있으므로 값이 다를 때 복사합니다.)\n");
+			codeBuilder.append("     * (이 코드는 DTO MAKER 플러그인에 의해 자동 생성되었습니다.)\n");
+			codeBuilder.append("     *\n");
+			codeBuilder.append("     * @param ").append(sourceVariableName).append(" 변경할 값을 담은 ")
+				.append(sourceClassName).append(" 객체\n");
+			codeBuilder.append("     * @param ").append(targetVariableName).append(" 값을 갱신할 ")
+				.append(targetClassName).append(" 객체\n");
+			codeBuilder.append("     * @return 실제로 바뀐 필드의 비트 ").append(useBitSet ? "집합" : "마스크")
+				.append(" (비트 번호: ");
+			for (int bit = 0; bit < patchableFields.size(); bit++) {
+				codeBuilder.append(bit == 0 ? "" : ", ").append(bit).append("=").append(patchableFields.get(bit)[1].name());
+			}
+			codeBuilder.append(")\n");
+			codeBuilder.append("     */\n");
+		}
+		codeBuilder.append("    public ").append(maskType).append(" patch").append(targetClassName).append("(")
+			.append(sourceClassName).append(" ").append(sourceVariableName).append(", ")
+			.append(targetClassName).append(" ").append(targetVariableName).append(") {\n");
+		codeBuilder.append("        // Handle null source or target object (nothing changed)\n");
+		codeBuilder.append("        if (").append(sourceVariableName).append(" == null || ")
+			.append(targetVariableName).append(" == null) {\n");
+		codeBuilder.append("            return ").append(useBitSet ? "new java.util.BitSet()" : "0L").append(";\n");
+		codeBuilder.append("        }\n");
+		String mappedVariableName = MappingCodeGenerator.mappedVariableName(sourceClass, targetClass,
+			includedTargetFieldNames, options);
+		MappingCodeGenerator.appendMappedObjectsDeclaration(codeBuilder, mappedVariableName);
+		codeBuilder.append("\n");
+		if (useBitSet) {
+			codeBuilder.append("        java.util.BitSet changed = new java.util.BitSet(").append(patchableFields.size())
+				.append(");\n");
+		} else {
+			codeBuilder.append("        long changed = 0L;\n");
+		}
+
+		for (int bit = 0; bit < patchableFields.size(); bit++) {
+			cancellationCheck.run();
+			appendPatchField(codeBuilder, sourceClass, sourceVariableName, targetVariableName, mappedVariableName,
+				patchableFields.get(bit)[0], patchableFields.get(bit)[1], bit, useBitSet, options);
+		}
+		for (String skippedFieldComment : skippedFieldComments) {
+			codeBuilder.append(skippedFieldComment);
+		}
+		codeBuilder.append("        return changed;\n");
+		codeBuilder.append("    }\n");
+		return codeBuilder.toString();
+	}
+
+	/**
+	 * 필드 하나의 비교/복사 블록을 추가합니다. 소스 Getter는 한 번만 호출하며, 타입이 다르면 변환한 값을 비교합니다.
+	 */
+	private static void appendPatchField(StringBuilder codeBuilder, MappingClassModel sourceClass,
+		String sourceVariableName, String targetVariableName, String mappedVariableName, MappingFieldModel sourceField,
+		MappingFieldModel targetField, int bit, boolean useBitSet, MappingOptions options) {
+		boolean primitive = PRIMITIVE_TYPE_NAMES.contains(targetField.typeName());
+		String valueName = "new" + MappingCodeGenerator.capitalize(targetField.name());
+		String currentValue = targetVariableName + "." + targetField.getterName() + "()";
+
+		// 로딩되지 않은 지연 로딩 연관 필드는 null이 되어 아래의 null 건너뛰기로 복사하지 않음
+		String valueExpression = LazyAssociationGenerator.guard(sourceField, sourceVariableName, sourceVariableName
+			+ "." + (sourceClass.record() ? sourceField.name() : sourceField.getterName()) + "()", options);
+		String indent = "        ";
+
+		codeBuilder.append("\n");
+		if (!sourceField.typeName().equals(targetField.typeName())) {
+			if (!PRIMITIVE_TYPE_NAMES.contains(sourceField.typeName())) {
+				// 변환기가 null을 기본값으로 바꾸지 않도록 변환 전에 소스 값의 null을 먼저 건너뜀
+				String sourceValueName = "source" + MappingCodeGenerator.capitalize(sourceField.name());
+				codeBuilder.append(indent).append(localTypeName(sourceField.typeName())).append(" ")
+					.append(sourceValueName).append(" = ").append(valueExpression).append(";\n");
+				codeBuilder.append(indent).append("if (").append(sourceValueName).append(" != null) {\n");
+				indent += "    ";
+				valueExpression = MappingCodeGenerator.convertNonNullValue(sourceField, targetField, sourceValueName,
+					options, mappedVariableName);
+			} else {
+				valueExpression = MappingCodeGenerator.convertValue(sourceField, targetField, valueExpression, options,
+					mappedVariableName);
+			}
+		}
+
+		codeBuilder.append(indent).append(localTypeName(targetField.typeName())).append(" ").append(valueName)
+			.append(" = ").append(valueExpression).append(";\n");
+		String floatingType = targetField.typeName().equals("double") ? "Double"
+			: targetField.typeName().equals("float") ? "Float" : null;
+		if (floatingType != null) {
+			// NaN과 -0.0도 값 그대로 비교 (!= 는 NaN을 항상 다르다고, -0.0과 0.0을 같다고 판단)
+			codeBuilder.append(indent).append("if (").append(floatingType).append(".compare(").append(valueName).append(", ").append(currentValue).append(") != 0) {\n");
+		} else if (primitive) {
+			codeBuilder.append(indent).append("if (").append(valueName).append(" != ").append(currentValue)
+				.append(") {\n");
+		} else {
+			codeBuilder.append(indent).append("if (").append(valueName).append(" != null && !java.util.Objects.equals(")
+				.append(valueName).append(", ").append(currentValue).append(")) {\n");
+		}
+		codeBuilder.append(indent).append("    ").append(targetVariableName).append(".")
+			.append(targetField.setterName()).append("(").append(valueName).append(");\n");
+		if (useBitSet) {
+			codeBuilder.append(indent).append("    changed.set(").append(bit).append(");");
+		} else {
+			codeBuilder.append(indent).append("    changed |= 1L << ").append(bit).append(";");
+		}
+		codeBuilder.append(" // ").append(targetField.name()).append("\n");
+		codeBuilder.append(indent).append("}\n");
+		if (!indent.equals("        ")) {
+			codeBuilder.append("        }\n");
+		}
+	}
+
+	/**
+	 * 지역 변수 선언에 쓸 타입 이름입니다. java.lang 패키지의 최상위 타입은 단순 이름으로 줄입니다.
+	 */
+	static String localTypeName(String typeName) {
+		String langPrefix = "java.lang.";
+		if (typeName.startsWith(langPrefix)) {
+			String simpleName = typeName.substring(langPrefix.length());
+			if (simpleName.indexOf('.') < 0 && simpleName.indexOf('<') < 0) {
+				return simpleName;
+			}
+		}
+		return typeName;
+	}
+}
@@ -0,0 +1,143 @@
+package com.maker.engine;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import com.maker.entity.ProjectionStyle;
+
+/**
+ * Lock On에서 선택한 필드만 조회하는 프로젝션 타입과 그에 맞는 JPQL 조회 식을 생성합니다.
+ * 엔티티 전체를 읽은 뒤 변환 메소드에서 대부분의 컬럼을 버리는 대신, DB에서 필요한 컬럼만 가져옵니다.
+ * <ul>
+ *   <li>RECORD: 선택한 필드를 정식 생성자 인자로 받는 record와 JPQL 생성자 표현식 (select new ...(...))</li>
+ *   <li>INTERFACE: Getter만 선언한 Spring Data 인터페이스 기반 프로젝션과 속성 이름을 별칭으로 붙인 JPQL</li>
+ * </ul>
+ * 생성자 표현식과 인터페이스 프로젝션은 단일 값 경로만 조회할 수 있으므로 컬렉션 필드와 지연 로딩 연관 필드는 제외합니다.
+ */
+public final class ProjectionGenerator {
+
+	// JPQL의 엔티티 별칭 (ORDER 같은 예약어와 겹치지 않도록 한 글자 사용)
+	private static final String ENTITY_ALIAS = "e";
+
+	// 생성자 표현식에서 조회할 수 없는 컬렉션 값 타입
+	private static final Set<String> COLLECTION_TYPES = Set.of("java.util.List", "java.util.Set",
+		"java.util.Collection", "java.util.Map", "java.util.SortedSet", "java.util.SortedMap");
+
+	private ProjectionGenerator() {
+	}
+
+	/**
+	 * @return 대상 클래스에 대한 프로젝션 타입 이름 (대상 클래스 이름 + Projection)
+	 */
+	public static String projectionName(MappingClassModel targetClass) {
+		return targetClass.name() + "Projection";
+	}
+
+	/**
+	 * 프로젝션 소스 파일 전체를 생성합니다. 조회 식은 프로젝션 안의 JPQL_SELECT 상수로 함께 생성합니다.
+	 * @param packageName 프로젝션을 둘 패키지 (빈 문자열이면 기본 패키지)
+	 * @param projectionName 프로젝션 타입 이름
+	 * @param sourceClass 조회할 JPA 엔티티
+	 * @param entityName JPQL에서 사용할 엔티티 이름 (@Entity의 name, 없으면 클래스 이름)
+	 * @param includedTargetFieldNames Lock On에서 선택한 필드 이름 (같은 이름의 엔티티 필드를 조회)
+	 * @return 프로젝션 소스 코드
+	 */
+	public static String generateProjection(String packageName, String projectionName, MappingClassModel sourceClass,
+		String entityName, Collection<String> includedTargetFieldNames, ProjectionStyle style, MappingOptions options) {
+		List<MappingFieldModel> selectedFields = new ArrayList<>();
+		List<String> excludedComments = new ArrayList<>();
+		for (String fieldName : includedTargetFieldNames) {
+			options.getCancellationCheck().run();
+			MappingFieldModel sourceField = sourceClass.findField(fieldName, true);
+			if (sourceField == null) {
+				excludedComments.add(fieldName + " (no such field in " + sourceClass.name() + ")");
+			} else if (isCollection(sourceField)) {
+				excludedComments.add(fieldName + " (collection-valued path cannot be selected)");
+			} else if (sourceField.lazyAssociation()) {
+				excludedComments.add(fieldName + " (lazy association, selecting it would load the entity)");
+			} else {
+				selectedFields.add(sourceField);
+			}
+		}
+
+		String qualifiedProjectionName = packageName == null || packageName.isEmpty() ? projectionName
+			: packageName + "." + projectionName;
+		StringBuilder codeBuilder = new StringBuilder(512 + selectedFields.size() * 96);
+		if (packageName != null && !packageName.isEmpty()) {
+			codeBuilder.append("package ").append(packageName).append(";\n\n");
+		}
+		if (options.isGenerateMethodComment()) {
+			codeBuilder.append("/**\n");
+			codeBuilder.append(" * ").append(sourceClass.name()).append("에서 선택한 필드만 조회하는 프로젝션입니다.\n");
+			codeBuilder.append(" * (이 코드는 DTO MAKER 플러그인에 의해 자동 생성되었습니다.)\n");
+			codeBuilder.append(" */\n");
+		}
+		if (style == ProjectionStyle.INTERFACE) {
+			appendInterfaceProjection(codeBuilder, projectionName, entityName, selectedFields);
+		} else {
+			appendRecordProjection(codeBuilder, projectionName, qualifiedProjectionName, entityName, selectedFields);
+		}
+		for (String excludedComment : excludedComments) {
+			codeBuilder.append("\n    // Not selected: ").append(excludedComment);
+		}
+		codeBuilder.append(excludedComments.isEmpty() ? "}\n" : "\n}\n");
+		return codeBuilder.toString();
+	}
+
+	private static void appendRecordProjection(StringBuilder codeBuilder, String projectionName,
+		String qualifiedProjectionName, String entityName, List<MappingFieldModel> selectedFields) {
+		codeBuilder.append("public record ").append(projectionName).append("(\n");
+		StringBuilder selectBuilder = new StringBuilder(64 + selectedFields.size() * 24);
+		selectBuilder.append("select new ").append(qualifiedProjectionName).append("(");
+		for (int i = 0; i < selectedFields.size(); i++) {
+			MappingFieldModel field = selectedFields.get(i);
+			codeBuilder.append("        ").append(typeName(field)).append(" ").append(field.name())
+				.append(i < selectedFields.size() - 1 ? ",\n" : "\n");
+			selectBuilder.append(i > 0 ? ", " : "").append(ENTITY_ALIAS).append(".").append(field.name());
+		}
+		selectBuilder.append(") from ").append(entityName).append(" ").append(ENTITY_ALIAS);
+		codeBuilder.append(") {\n\n");
+		codeBuilder.append("    // JPQL constructor expression selecting only these columns (append \"where ...\" as needed)\n");
+		codeBuilder.append("    public static final String JPQL_SELECT = \"").append(selectBuilder).append("\";\n");
+	}
+
+	private static void appendInterfaceProjection(StringBuilder codeBuilder, String projectionName,
+		String entityName, List<MappingFieldModel> selectedFields) {
+		codeBuilder.append("public interface ").append(projectionName).append(" {\n\n");
+		StringBuilder selectBuilder = new StringBuilder(64 + selectedFields.size() * 32);
+		selectBuilder.append("select ");
+		for (int i = 0; i < selectedFields.size(); i++) {
+			MappingFieldModel field = selectedFields.get(i);
+			String getterPrefix = "boolean".equals(field.typeName()) ? "is" : "get";
+			codeBuilder.append("    ").append(typeName(field)).append(" ").append(getterPrefix)
+				.append(MappingCodeGenerator.capitalize(field.name())).append("();\n\n");
+			selectBuilder.append(i > 0 ? ", " : "").append(ENTITY_ALIAS).append(".").append(field.name())
+				.append(" as ").append(field.name());
+		}
+		selectBuilder.append(" from ").append(entityName).append(" ").append(ENTITY_ALIAS);
+		codeBuilder.append("    // JPQL for @Query returning this projection (aliases must match the getter properties)\n");
+		codeBuilder.append("    String JPQL_SELECT = \"").append(selectBuilder).append("\";\n");
+	}
+
+	/**
+	 * @return 프로젝션에 선언할 타입 이름 (java.lang 타입은 짧은 이름, 그 외에는 정규화된 이름)
+	 */
+	private static String typeName(MappingFieldModel field) {
+		String typeName = field.typeName();
+		if (typeName.startsWith("java.lang.") && typeName.indexOf('.', "java.lang.".length()) < 0
+			&& typeName.indexOf('<') < 0) {
+			return typeName.substring("java.lang.".length());
+		}
+		return typeName;
+	}
+
+	private static boolean isCollection(MappingFieldModel field) {
+		String typeName = field.typeName();
+		int genericStart = typeName.indexOf('<');
+		String rawTypeName = genericStart < 0 ? typeName : typeName.substring(0, genericStart);
+		// byte[]는 단일 컬럼(LOB 등)으로 매핑되므로 조회 가능
+		return (typeName.endsWith("[]") && !"byte[]".equals(typeName)) || COLLECTION_TYPES.contains(rawTypeName);
+	}
+}
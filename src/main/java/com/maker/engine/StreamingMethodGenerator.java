@@ -0,0 +1,185 @@
+package com.maker.engine;
+
+import java.util.List;
+
+/**
+ * 전체 결과를 메모리에 모으지 않고 요소를 하나씩 변환하는 지연(lazy) 변환 메소드를 생성합니다.
+ * Stream, Iterator(커서), Spliterator 입력을 받아 같은 종류의 결과를 반환하며, 소비하는 시점에 단일 객체 변환 메소드를 호출합니다.
+ */
+final class StreamingMethodGenerator {
+
+	private StreamingMethodGenerator() {
+	}
+
+	/**
+	 * @return Stream, Iterator → Stream, Iterator, Spliterator 변환 메소드 코드 (생성 순서 유지)
+	 */
+	static List<String> generateStreamingMethods(MappingClassModel sourceClass, MappingClassModel targetClass,
+		MappingOptions options, String singleMethodName) {
+		return List.of(
+			generateStreamMethod(sourceClass, targetClass, options, singleMethodName),
+			generateCursorStreamMethod(sourceClass, targetClass, options),
+			generateIteratorMethod(sourceClass, targetClass, options, singleMethodName),
+			generateSpliteratorMethod(sourceClass, targetClass, options, singleMethodName));
+	}
+
+	/**
+	 * Stream&lt;Source&gt; → Stream&lt;Target&gt; (중간 연산만 추가하므로 최종 연산 전까지 아무것도 변환하지 않음)
+	 */
+	private static String generateStreamMethod(MappingClassModel sourceClass, MappingClassModel targetClass,
+		MappingOptions options, String singleMethodName) {
+		StringBuilder codeBuilder = new StringBuilder(512);
+		String sourceClassName = sourceClass.name();
+		String targetClassName = targetClass.name();
+		String parameterName = MappingCodeGenerator.uncapitalize(sourceClassName) + "Stream";
+
+		appendMethodComment(codeBuilder, options, "Stream<" + sourceClassName + ">", "Stream<" + targetClassName + ">",
+			parameterName);
+		codeBuilder.append("    public java.util.stream.Stream<").append(targetClassName).append("> gen")
+			.append(targetClassName).append("Stream(java.util.stream.Stream<").append(sourceClassName).append("> ")
+			.append(parameterName).append(") {\n");
+		appendNullCheck(codeBuilder, parameterName, "stream", "java.util.stream.Stream.empty()");
+		codeBuilder.append("        // Lazy: each element is converted when the stream is consumed\n");
+		codeBuilder.append("        return ").append(parameterName).append(".map(this::").append(singleMethodName)
+			.append(");\n");
+		codeBuilder.append("    }\n");
+		return codeBuilder.toString();
+	}
+
+	/**
+	 * Iterator&lt;Source&gt;(DB 커서 등) → Stream&lt;Target&gt; (순차 스트림, 요소 수를 미리 알 필요 없음)
+	 */
+	private static String generateCursorStreamMethod(MappingClassModel sourceClass, MappingClassModel targetClass,
+		MappingOptions options) {
+		StringBuilder codeBuilder = new StringBuilder(512);
+		String sourceClassName = sourceClass.name();
+		String targetClassName = targetClass.name();
+		String parameterName = MappingCodeGenerator.uncapitalize(sourceClassName) + "Iterator";
+
+		appendMethodComment(codeBuilder, options, "Iterator<" + sourceClassName + ">", "Stream<" + targetClassName + ">",
+			parameterName);
+		codeBuilder.append("    public java.util.stream.Stream<").append(targetClassName).append("> gen")
+			.append(targetClassName).append("Stream(java.util.Iterator<").append(sourceClassName).append("> ")
+			.append(parameterName).append(") {\n");
+		appendNullCheck(codeBuilder, parameterName, "iterator", "java.util.stream.Stream.empty()");
+		codeBuilder.append("        // Lazy: rows are pulled from the cursor only as the stream is consumed\n");
+		codeBuilder.append("        return java.util.stream.StreamSupport.stream(\n");
+		codeBuilder.append("                java.util.Spliterators.spliteratorUnknownSize(gen").append(targetClassName)
+			.append("Iterator(").append(parameterName).append("), java.util.Spliterator.ORDERED), false);\n");
+		codeBuilder.append("    }\n");
+		return codeBuilder.toString();
+	}
+
+	/**
+	 * Iterator&lt;Source&gt; → Iterator&lt;Target&gt; (next() 호출 시점에 변환)
+	 */
+	private static String generateIteratorMethod(MappingClassModel sourceClass, MappingClassModel targetClass,
+		MappingOptions options, String singleMethodName) {
+		StringBuilder codeBuilder = new StringBuilder(1024);
+		String sourceClassName = sourceClass.name();
+		String targetClassName = targetClass.name();
+		String parameterName = MappingCodeGenerator.uncapitalize(sourceClassName) + "Iterator";
+
+		appendMethodComment(codeBuilder, options, "Iterator<" + sourceClassName + ">",
+			"Iterator<" + targetClassName + ">", parameterName);
+		codeBuilder.append("    public java.util.Iterator<").append(targetClassName).append("> gen")
+			.append(targetClassName).append("Iterator(java.util.Iterator<").append(sourceClassName).append("> ")
+			.append(parameterName).append(") {\n");
+		appendNullCheck(codeBuilder, parameterName, "iterator", "java.util.Collections.emptyIterator()");
+		codeBuilder.append("        // Lazy: each element is converted on next()\n");
+		codeBuilder.append("        return new java.util.Iterator<").append(targetClassName).append(">() {\n");
+		codeBuilder.append("            @Override\n");
+		codeBuilder.append("            public boolean hasNext() {\n");
+		codeBuilder.append("                return ").append(parameterName).append(".hasNext();\n");
+		codeBuilder.append("            }\n\n");
+		codeBuilder.append("            @Override\n");
+		codeBuilder.append("            public ").append(targetClassName).append(" next() {\n");
+		codeBuilder.append("                return ").append(singleMethodName).append("(").append(parameterName)
+			.append(".next());\n");
+		codeBuilder.append("            }\n\n");
+		codeBuilder.append("            @Override\n");
+		codeBuilder.append("            public void remove() {\n");
+		codeBuilder.append("                ").append(parameterName).append(".remove();\n");
+		codeBuilder.append("            }\n");
+		codeBuilder.append("        };\n");
+		codeBuilder.append("    }\n");
+		return codeBuilder.toString();
+	}
+
+	/**
+	 * Spliterator&lt;Source&gt; → Spliterator&lt;Target&gt; (분할을 지원하므로 병렬 스트림에도 사용 가능)
+	 */
+	private static String generateSpliteratorMethod(MappingClassModel sourceClass, MappingClassModel targetClass,
+		MappingOptions options, String singleMethodName) {
+		StringBuilder codeBuilder = new StringBuilder(1536);
+		String sourceClassName = sourceClass.name();
+		String targetClassName = targetClass.name();
+		String parameterName = MappingCodeGenerator.uncapitalize(sourceClassName) + "Spliterator";
+		String methodName = "gen" + targetClassName + "Spliterator";
+
+		appendMethodComment(codeBuilder, options, "Spliterator<" + sourceClassName + ">",
+			"Spliterator<" + targetClassName + ">", parameterName);
+		codeBuilder.append("    public java.util.Spliterator<").append(targetClassName).append("> ").append(methodName)
+			.append("(java.util.Spliterator<").append(sourceClassName).append("> ").append(parameterName)
+			.append(") {\n");
+		appendNullCheck(codeBuilder, parameterName, "spliterator", "java.util.Spliterators.emptySpliterator()");
+		codeBuilder.append("        // Lazy: each element is converted in tryAdvance/forEachRemaining\n");
+		codeBuilder.append("        return new java.util.Spliterator<").append(targetClassName).append(">() {\n");
+		codeBuilder.append("            @Override\n");
+		codeBuilder.append("            public boolean tryAdvance(java.util.function.Consumer<? super ")
+			.append(targetClassName).append("> action) {\n");
+		codeBuilder.append("                return ").append(parameterName).append(".tryAdvance(element -> action.accept(")
+			.append(singleMethodName).append("(element)));\n");
+		codeBuilder.append("            }\n\n");
+		codeBuilder.append("            @Override\n");
+		codeBuilder.append("            public void forEachRemaining(java.util.function.Consumer<? super ")
+			.append(targetClassName).append("> action) {\n");
+		codeBuilder.append("                ").append(parameterName).append(".forEachRemaining(element -> action.accept(")
+			.append(singleMethodName).append("(element)));\n");
+		codeBuilder.append("            }\n\n");
+		codeBuilder.append("            @Override\n");
+		codeBuilder.append("            public java.util.Spliterator<").append(targetClassName).append("> trySplit() {\n");
+		codeBuilder.append("                java.util.Spliterator<").append(sourceClassName).append("> split = ")
+			.append(parameterName).append(".trySplit();\n");
+		codeBuilder.append("                return split == null ? null : ").append(methodName).append("(split);\n");
+		codeBuilder.append("            }\n\n");
+		codeBuilder.append("            @Override\n");
+		codeBuilder.append("            public long estimateSize() {\n");
+		codeBuilder.append("                return ").append(parameterName).append(".estimateSize();\n");
+		codeBuilder.append("            }\n\n");
+		codeBuilder.append("            @Override\n");
+		codeBuilder.append("            public int characteristics() {\n");
+		codeBuilder.append("                // Mapping keeps order and size, but not sorting, distinctness or non-nullness\n");
+		codeBuilder.append("                return ").append(parameterName).append(".characteristics()\n");
+		codeBuilder.append("                        & ~(java.util.Spliterator.SORTED | java.util.Spliterator.DISTINCT")
+			.append(" | java.util.Spliterator.NONNULL);\n");
+		codeBuilder.append("            }\n");
+		codeBuilder.append("        };\n");
+		codeBuilder.append("    }\n");
+		return codeBuilder.toString();
+	}
+
+	// ===================== 공통 =====================
+
+	private static void appendMethodComment(StringBuilder codeBuilder, MappingOptions options, String sourceType,
+		String targetType, String parameterName) {
+		if (!options.isGenerateMethodComment()) {
+			return;
+		}
+		codeBuilder.append("    /**\n");
+		codeBuilder.append("     * ").append(sourceType).append("의 각 요소를 소비 시점에 ").append(targetType)
+			.append("로 지연 변환합니다.\n");
+		codeBuilder.append("     *\n");
+		codeBuilder.append("     * @param ").append(parameterName).append(" 변환할 ").append(sourceType).append("\n");
+		codeBuilder.append("     * @return 지연 변환되는 ").append(targetType).append("\n");
+		codeBuilder.append("     */\n");
+	}
+
+	private static void appendNullCheck(StringBuilder codeBuilder, String parameterName, String kind,
+		String emptyResult) {
+		codeBuilder.append("        // Handle null source ").append(kind).append("\n");
+		codeBuilder.append("        if (").append(parameterName).append(" == null) {\n");
+		codeBuilder.append("            return ").append(emptyResult).append(";\n");
+		codeBuilder.append("        }\n\n");
+	}
+}
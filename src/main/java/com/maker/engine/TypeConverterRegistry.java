@@ -0,0 +1,240 @@
+package com.maker.engine;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * 소스/대상 필드 타입이 다를 때 사용할 변환 코드 레지스트리입니다.
+ * (소스 타입, 대상 타입) 쌍마다 값 식을 변환 식으로 바꾸는 변환기를 미리 만들어 두므로 필드마다 조회만 합니다.
+ * 기본 변환기(박싱/언박싱, String↔숫자, java.time↔String, Date↔Instant)에 더해
+ * 사용자가 등록한 정적 변환 메소드를 호출하는 코드를 생성할 수 있으며, 사용자 변환기가 기본 변환기보다 우선합니다.
+ * null을 확인해야 하는 기본 변환기(예: String → Integer)는 값을 한 번만 읽도록 null 안전 변환 메소드를 호출합니다.
+ * 변환기가 없는 쌍은 기존처럼 "Type conversion needed" 주석을 남깁니다.
+ */
+public final class TypeConverterRegistry {
+
+	// (기본 타입, 박싱 타입, 기본값 리터럴, String 파싱 메소드)
+	private static final String[][] PRIMITIVES = {
+		{"int", "java.lang.Integer", "0", "Integer.parseInt"},
+		{"long", "java.lang.Long", "0L", "Long.parseLong"},
+		{"double", "java.lang.Double", "0.0", "Double.parseDouble"},
+		{"float", "java.lang.Float", "0.0f", "Float.parseFloat"},
+		{"short", "java.lang.Short", "(short) 0", "Short.parseShort"},
+		{"byte", "java.lang.Byte", "(byte) 0", "Byte.parseByte"},
+		{"boolean", "java.lang.Boolean", "false", "Boolean.parseBoolean"},
+		{"char", "java.lang.Character", "'\\0'", null},
+	};
+
+	// (java.time 타입, JDK가 캐시해 둔 ISO 포매터 상수)
+	private static final String[][] TEMPORALS = {
+		{"java.time.LocalDate", "java.time.format.DateTimeFormatter.ISO_LOCAL_DATE"},
+		{"java.time.LocalDateTime", "java.time.format.DateTimeFormatter.ISO_LOCAL_DATE_TIME"},
+		{"java.time.LocalTime", "java.time.format.DateTimeFormatter.ISO_LOCAL_TIME"},
+		{"java.time.OffsetDateTime", "java.time.format.DateTimeFormatter.ISO_OFFSET_DATE_TIME"},
+		{"java.time.ZonedDateTime", "java.time.format.DateTimeFormatter.ISO_ZONED_DATE_TIME"},
+		{"java.time.Instant", "java.time.format.DateTimeFormatter.ISO_INSTANT"},
+	};
+
+	private static final String STRING = "java.lang.String";
+	private static final String BIG_DECIMAL = "java.math.BigDecimal";
+
+	private static final Map<String, Converter> BUILT_IN_CONVERTERS = createBuiltInConverters();
+
+	// 사용자가 등록한 변환기 (기본 변환기보다 우선)
+	private final Map<String, Converter> registeredConverters = new HashMap<>();
+
+	/**
+	 * @param expression 값 식을 변환 식으로 바꾸는 함수
+	 * @param nullValue 값이 null일 때 변환 대신 돌려줄 식 (null 안전 변환 메소드로 생성), 값 식을 바로 변환하면 null
+	 */
+	private record Converter(UnaryOperator<String> expression, String nullValue) {
+
+		boolean nullChecked() {
+			return nullValue != null;
+		}
+	}
+
+	/**
+	 * 사용자 변환 메소드를 등록합니다. 생성 코드는 값을 인자로 넘겨 이 메소드를 호출하며, null 처리는 메소드에 맡깁니다.
+	 * @param sourceTypeName 메소드 매개변수의 정규화된 타입 이름
+	 * @param targetTypeName 메소드 반환 타입의 정규화된 타입 이름
+	 * @param methodQualifiedName 호출할 정적 메소드 (예: com.foo.Converters.toMoney)
+	 * @return 이 레지스트리
+	 */
+	public TypeConverterRegistry registerMethod(String sourceTypeName, String targetTypeName,
+		String methodQualifiedName) {
+		registeredConverters.put(key(sourceTypeName, targetTypeName),
+			direct(value -> methodQualifiedName + "(" + value + ")"));
+		return this;
+	}
+
+	/**
+	 * 값 식을 대상 타입으로 변환하는 식을 만듭니다.
+	 * null을 확인해야 하는 변환은 {@link #collectSupportMembers}가 만드는 null 안전 변환 메소드 호출 식이 됩니다.
+	 * @param sourceTypeName 소스 필드의 정규화된 타입 이름
+	 * @param targetTypeName 대상 필드의 정규화된 타입 이름
+	 * @param valueExpression 소스 값 식
+	 * @return 변환 식, 변환기가 없으면 null
+	 */
+	public String convert(String sourceTypeName, String targetTypeName, String valueExpression) {
+		Converter converter = find(sourceTypeName, targetTypeName);
+		if (converter == null) {
+			return null;
+		}
+		return converter.nullChecked()
+			? nullSafeMethodName(sourceTypeName, targetTypeName) + "(" + valueExpression + ")"
+			: converter.expression().apply(valueExpression);
+	}
+
+	/**
+	 * null이 아님을 이미 확인한 값 식을 변환하는 식을 만듭니다. null 안전 변환 메소드를 거치지 않습니다.
+	 * @return 변환 식, 변환기가 없으면 null
+	 */
+	String convertNonNull(String sourceTypeName, String targetTypeName, String valueExpression) {
+		Converter converter = find(sourceTypeName, targetTypeName);
+		return converter != null ? converter.expression().apply(valueExpression) : null;
+	}
+
+	/**
+	 * {@link #convert}가 만든 식이 사용하는 null 안전 변환 메소드를 추가합니다. 이미 추가된 메소드는 다시 만들지 않습니다.
+	 * @param members 멤버 키 → 멤버 코드 (생성 순서 유지)
+	 */
+	void collectSupportMembers(String sourceTypeName, String targetTypeName, MappingOptions options,
+		Map<String, String> members) {
+		Converter converter = find(sourceTypeName, targetTypeName);
+		if (converter != null && converter.nullChecked()) {
+			members.computeIfAbsent(key(sourceTypeName, targetTypeName),
+				key -> generateNullSafeMethod(sourceTypeName, targetTypeName, converter, options));
+		}
+	}
+
+	private Converter find(String sourceTypeName, String targetTypeName) {
+		String key = key(sourceTypeName, targetTypeName);
+		Converter converter = registeredConverters.get(key);
+		return converter != null ? converter : BUILT_IN_CONVERTERS.get(key);
+	}
+
+	private static String generateNullSafeMethod(String sourceTypeName, String targetTypeName, Converter converter,
+		MappingOptions options) {
+		String sourceType = shortTypeName(sourceTypeName);
+		String targetType = shortTypeName(targetTypeName);
+		StringBuilder codeBuilder = new StringBuilder(256);
+		if (options.isGenerateMethodComment()) {
+			codeBuilder.append("    /**\n");
+			codeBuilder.append("     * ").append(simpleName(sourceTypeName)).append(" 값을 ")
+				.append(simpleName(targetTypeName)).append(" 값으로 변환합니다. (null이면 ")
+				.append(converter.nullValue()).append(")\n");
+			codeBuilder.append("     */\n");
+		}
+		codeBuilder.append("    private static ").append(targetType).append(" ")
+			.append(nullSafeMethodName(sourceTypeName, targetTypeName)).append("(").append(sourceType)
+			.append(" value) {\n");
+		codeBuilder.append("        return value == null ? ").append(converter.nullValue()).append(" : ")
+			.append(converter.expression().apply("value")).append(";\n");
+		codeBuilder.append("    }\n");
+		return codeBuilder.toString();
+	}
+
+	/**
+	 * null 안전 변환은 단순 이름이 서로 다른 JDK 타입 사이에만 있으므로 단순 이름으로 메소드를 구분합니다.
+	 * @return 예: convertStringToInteger, convertDoubleToDouble (Double → double)
+	 */
+	private static String nullSafeMethodName(String sourceTypeName, String targetTypeName) {
+		return "convert" + capitalize(simpleName(sourceTypeName)) + "To" + capitalize(simpleName(targetTypeName));
+	}
+
+	private static String capitalize(String name) {
+		return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+	}
+
+	private static String simpleName(String typeName) {
+		return typeName.substring(typeName.lastIndexOf('.') + 1);
+	}
+
+	private static String shortTypeName(String typeName) {
+		return typeName.startsWith("java.lang.") ? typeName.substring("java.lang.".length()) : typeName;
+	}
+
+	private static String key(String sourceTypeName, String targetTypeName) {
+		return sourceTypeName + "->" + targetTypeName;
+	}
+
+	private static Converter direct(UnaryOperator<String> expression) {
+		return new Converter(expression, null);
+	}
+
+	private static Converter nullSafe(UnaryOperator<String> expression) {
+		return new Converter(expression, "null");
+	}
+
+	/**
+	 * @param nullValue 값이 null일 때 돌려줄 식 (예: 언박싱의 기본값 리터럴)
+	 */
+	private static Converter nullSafe(UnaryOperator<String> expression, String nullValue) {
+		return new Converter(expression, nullValue);
+	}
+
+	private static Map<String, Converter> createBuiltInConverters() {
+		Map<String, Converter> converters = new HashMap<>();
+
+		for (String[] primitive : PRIMITIVES) {
+			String primitiveType = primitive[0];
+			String boxedType = primitive[1];
+			String defaultValue = primitive[2];
+			String parseMethod = primitive[3];
+			String boxedSimpleName = boxedType.substring("java.lang.".length());
+
+			// 박싱은 자동, 언박싱은 null이면 기본값
+			// (기본값을 박싱하지 않도록 Getter 값을 한 번 받아 비교하는 변환 메소드 사용, null 확인 후라면 바로 언박싱)
+			converters.put(key(primitiveType, boxedType), direct(value -> value));
+			converters.put(key(boxedType, primitiveType), nullSafe(value -> value, defaultValue));
+
+			// 숫자 → String
+			converters.put(key(primitiveType, STRING), direct(value -> "String.valueOf(" + value + ")"));
+			converters.put(key(boxedType, STRING), direct(value -> "java.util.Objects.toString(" + value + ", null)"));
+
+			// String → 숫자 (박싱 타입은 null 유지, valueOf는 작은 값의 캐시를 사용)
+			if (parseMethod != null) {
+				converters.put(key(STRING, primitiveType), direct(value -> parseMethod + "(" + value + ")"));
+				converters.put(key(STRING, boxedType), nullSafe(value -> boxedSimpleName + ".valueOf(" + value + ")"));
+			}
+		}
+
+		// 기본 타입 확대 변환은 그대로 대입
+		for (String[] widening : new String[][] {{"int", "long"}, {"int", "double"}, {"long", "double"},
+			{"float", "double"}, {"short", "int"}, {"byte", "int"}}) {
+			converters.put(key(widening[0], widening[1]), direct(value -> value));
+		}
+
+		// BigDecimal (new BigDecimal(double)의 부정확한 값 대신 valueOf 사용)
+		converters.put(key(STRING, BIG_DECIMAL), nullSafe(value -> "new java.math.BigDecimal(" + value + ")"));
+		converters.put(key(BIG_DECIMAL, STRING), nullSafe(value -> value + ".toPlainString()"));
+		for (String[] primitive : new String[][] {{"int", "java.lang.Integer"}, {"long", "java.lang.Long"},
+			{"double", "java.lang.Double"}}) {
+			converters.put(key(primitive[0], BIG_DECIMAL), direct(value -> "java.math.BigDecimal.valueOf(" + value + ")"));
+			converters.put(key(primitive[1], BIG_DECIMAL),
+				nullSafe(value -> "java.math.BigDecimal.valueOf(" + value + ")"));
+		}
+
+		// java.time ↔ String (호출마다 포매터를 만들지 않고 JDK의 정적 ISO 포매터 상수를 사용)
+		for (String[] temporal : TEMPORALS) {
+			String temporalType = temporal[0];
+			String formatter = temporal[1];
+			converters.put(key(temporalType, STRING), nullSafe(value -> formatter + ".format(" + value + ")"));
+			if (temporalType.equals("java.time.Instant")) {
+				converters.put(key(STRING, temporalType), nullSafe(value -> temporalType + ".parse(" + value + ")"));
+			} else {
+				converters.put(key(STRING, temporalType),
+					nullSafe(value -> temporalType + ".parse(" + value + ", " + formatter + ")"));
+			}
+		}
+
+		// java.util.Date ↔ Instant
+		converters.put(key("java.util.Date", "java.time.Instant"), nullSafe(value -> value + ".toInstant()"));
+		converters.put(key("java.time.Instant", "java.util.Date"), nullSafe(value -> "java.util.Date.from(" + value + ")"));
+
+		return Collections.unmodifiableMap(converters);
+	}
+}
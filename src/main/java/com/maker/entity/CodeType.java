@@ -0,0 +1,11 @@
+package com.maker.entity;
+
+/**
+ * 생성할 매핑 코드의 형태입니다.
+ */
+public enum CodeType {
+	BUILDER,
+	GETTER_SETTER,
+	// 정식 생성자(Record canonical 생성자 또는 모든 필드를 받는 생성자) 직접 호출
+	CONSTRUCTOR
+}
@@ -0,0 +1,14 @@
+package com.maker.entity;
+
+/**
+ * JPA 엔티티의 지연 로딩 연관 필드(@OneToMany, @ManyToMany, @ElementCollection, fetch = LAZY인 @ManyToOne/@OneToOne)를
+ * 변환 코드에서 다루는 방식입니다. Getter를 그대로 호출하면 호출마다 지연 로딩이 일어나 List 변환이 N+1 쿼리가 됩니다.
+ */
+public enum LazyAssociationPolicy {
+	// 이미 로딩된 경우에만 복사하고, 로딩되지 않았다면 null (PersistenceUtil.isLoaded 확인)
+	GUARD,
+	// 매핑하지 않고 주석으로 남김
+	SKIP,
+	// 다른 필드와 같이 Getter를 호출 (지연 로딩 발생 가능)
+	IGNORE
+}
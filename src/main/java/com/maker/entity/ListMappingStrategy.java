@@ -0,0 +1,11 @@
+package com.maker.entity;
+
+/**
+ * 컬렉션 변환 메소드(List/Set/Map/배열)의 구현 방식입니다.
+ */
+public enum ListMappingStrategy {
+	// stream().map(...).collect(...) (기존 방식)
+	STREAM,
+	// 미리 크기를 잡은 결과 컬렉션에 반복문으로 채움 (RandomAccess List는 인덱스 반복)
+	LOOP
+}
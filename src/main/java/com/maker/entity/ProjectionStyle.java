@@ -0,0 +1,11 @@
+package com.maker.entity;
+
+/**
+ * 선택한 필드만 조회하는 프로젝션의 생성 방식입니다.
+ */
+public enum ProjectionStyle {
+	// record + JPQL 생성자 표현식 (select new ...(...))
+	RECORD,
+	// Spring Data 인터페이스 기반 프로젝션 (Getter만 선언) + 별칭을 붙인 JPQL
+	INTERFACE
+}
@@ -0,0 +1,332 @@
+package com.maker.headless;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.jetbrains.annotations.NotNull;
+
+import com.google.gson.Gson;
+import com.intellij.ide.impl.ProjectUtil;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ApplicationStarter;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.project.ex.ProjectManagerEx;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiModifier;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import com.maker.action.GenerateMappingCodeAction;
+import com.maker.engine.MappingCodeGenerator;
+import com.maker.engine.MappingOptions;
+import com.maker.engine.NestedMapperRegistry;
+import com.maker.engine.TypeConverterRegistry;
+import com.maker.entity.CodeType;
+import com.maker.entity.LazyAssociationPolicy;
+import com.maker.entity.ListMappingStrategy;
+import com.maker.psi.ClassFieldIndex;
+import com.maker.psi.ConverterMethods;
+import com.maker.psi.ProjectNestedClassResolver;
+
+/**
+ * UI 없이 매핑 매니페스트에 정의된 Mapper 클래스들을 일괄 생성하는 헤드리스 진입점 (CI용)
+ * <pre>
+ * idea dtomaker &lt;projectDir&gt; &lt;manifest.json&gt;
+ * ./gradlew generateMappers -PmapperProject=&lt;projectDir&gt; -PmapperManifest=&lt;manifest.json&gt;
+ * </pre>
+ * 프로젝트를 열고 인덱싱이 끝나기를 기다린 뒤, 각 매퍼를 병렬로 생성하여 파일로 쓰고 매퍼별 소요 시간을 출력합니다.
+ * 하나라도 실패하면 종료 코드 1로 끝납니다.
+ */
+public class MappingBatchStarter implements ApplicationStarter {
+
+	@Override
+	public void main(@NotNull List<String> args) {
+		// args[0]은 명령어 이름(dtomaker)
+		if (args.size() < 3) {
+			System.err.println("Usage: dtomaker <projectDir> <manifest.json>");
+			System.exit(2);
+			return;
+		}
+		Path projectDir = Path.of(args.get(1)).toAbsolutePath().normalize();
+		Path manifestPath = Path.of(args.get(2)).toAbsolutePath().normalize();
+
+		// 스마트 모드 대기는 EDT에서 할 수 없으므로 풀 스레드에서 실행
+		ApplicationManager.getApplication().executeOnPooledThread(() -> {
+			int exitCode;
+			try {
+				exitCode = run(projectDir, manifestPath);
+			} catch (Throwable t) {
+				t.printStackTrace();
+				exitCode = 1;
+			}
+			System.exit(exitCode);
+		});
+	}
+
+	private static int run(Path projectDir, Path manifestPath) throws Exception {
+		MappingManifest manifest;
+		try (Reader reader = Files.newBufferedReader(manifestPath, StandardCharsets.UTF_8)) {
+			manifest = new Gson().fromJson(reader, MappingManifest.class);
+		}
+		if (manifest == null || manifest.mappers == null || manifest.mappers.isEmpty()) {
+			System.err.println("No mappers defined in " + manifestPath);
+			return 1;
+		}
+
+		Project[] projectHolder = new Project[1];
+		ApplicationManager.getApplication().invokeAndWait(
+			() -> projectHolder[0] = ProjectUtil.openOrImport(projectDir, null, false));
+		Project project = projectHolder[0];
+		if (project == null) {
+			System.err.println("Could not open project: " + projectDir);
+			return 1;
+		}
+
+		try {
+			Path outputRoot = projectDir.resolve(manifest.outputDirectory != null ? manifest.outputDirectory : "src/main/java");
+			return generateAll(project, manifest, outputRoot);
+		} finally {
+			ApplicationManager.getApplication().invokeAndWait(() -> ProjectManagerEx.getInstanceEx().forceCloseProject(project));
+		}
+	}
+
+	/**
+	 * 매니페스트의 모든 매퍼를 병렬로 생성하고 파일로 씁니다. 결과는 매니페스트 순서대로 출력합니다.
+	 * @return 종료 코드 (모두 성공하면 0)
+	 */
+	private static int generateAll(Project project, MappingManifest manifest, Path outputRoot) throws InterruptedException {
+		long startTime = System.nanoTime();
+		// 변환 클래스는 모든 매퍼에 같으므로 한 번만 등록하고 생성 중에는 읽기만 함
+		TypeConverterRegistry typeConverters = new TypeConverterRegistry();
+		String converterError = DumbService.getInstance(project).runReadActionInSmartMode(
+			() -> registerConverters(project, manifest.converterClasses, typeConverters));
+		if (converterError != null) {
+			System.err.println(converterError);
+			return 1;
+		}
+		ExecutorService executor = AppExecutorUtil.createBoundedApplicationPoolExecutor("DTO Maker Headless",
+			Runtime.getRuntime().availableProcessors());
+		List<Future<GenerationResult>> futures = new ArrayList<>();
+		// 공유 클래스를 지정했다면 모든 매퍼가 하나의 하위 매퍼 저장소를 함께 사용 (쌍마다 한 번만 생성)
+		NestedMapperRegistry sharedNestedMappers = manifest.nestedMappersClass != null
+			? NestedMapperRegistry.shared(new ProjectNestedClassResolver(project),
+				Boolean.TRUE.equals(manifest.nestedCycleGuard), manifest.nestedMappersClass)
+			: null;
+		try {
+			for (MappingManifest.Mapper mapper : manifest.mappers) {
+				futures.add(executor.submit(() -> generateMapper(project, manifest, mapper, sharedNestedMappers,
+					typeConverters, outputRoot)));
+			}
+
+			int failed = 0;
+			for (int i = 0; i < futures.size(); i++) {
+				GenerationResult result;
+				try {
+					result = futures.get(i).get();
+				} catch (ExecutionException e) {
+					MappingManifest.Mapper mapper = manifest.mappers.get(i);
+					result = GenerationResult.failure(mapper.source + " -> " + mapper.target, 0, String.valueOf(e.getCause()));
+				}
+				if (result.error() != null) {
+					failed++;
+					System.out.printf("  [FAIL] %-50s %8.1f ms  %s%n", result.name(), result.elapsedNanos() / 1_000_000.0, result.error());
+				} else {
+					System.out.printf("  [ OK ] %-50s %8.1f ms  %s%n", result.name(), result.elapsedNanos() / 1_000_000.0, result.file());
+				}
+			}
+			boolean sharedWriteFailed = false;
+			if (sharedNestedMappers != null && sharedNestedMappers.hasSharedMembers()) {
+				String sharedClassName = sharedNestedMappers.getSharedClassQualifiedName();
+				Path sharedFile = outputRoot.resolve(sharedClassName.replace('.', '/') + ".java");
+				try {
+					Files.createDirectories(sharedFile.getParent());
+					Files.writeString(sharedFile, sharedNestedMappers.generateSharedClass(), StandardCharsets.UTF_8);
+					System.out.printf("  [ OK ] %-50s %8s     %s%n", sharedClassName, "", sharedFile);
+				} catch (IOException e) {
+					sharedWriteFailed = true;
+					System.out.printf("  [FAIL] %-50s %8s     write failed: %s%n", sharedClassName, "", e.getMessage());
+				}
+			}
+			System.out.printf("Generated %d/%d mappers in %.1f ms%n", futures.size() - failed, futures.size(),
+				(System.nanoTime() - startTime) / 1_000_000.0);
+			return failed == 0 && !sharedWriteFailed ? 0 : 1;
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * 매니페스트의 사용자 변환 클래스를 변환 레지스트리에 등록합니다. 읽기 작업 안에서 호출해야 합니다.
+	 * @return 오류 메시지, 모두 등록했으면 null
+	 */
+	private static String registerConverters(Project project, List<String> converterClassNames,
+		TypeConverterRegistry typeConverters) {
+		if (converterClassNames == null) {
+			return null;
+		}
+		GlobalSearchScope scope = GlobalSearchScope.allScope(project);
+		for (String converterClassName : converterClassNames) {
+			PsiClass converterClass = JavaPsiFacade.getInstance(project).findClass(converterClassName, scope);
+			if (converterClass == null) {
+				return "converter class not found: " + converterClassName;
+			}
+			ConverterMethods.register(converterClass, typeConverters);
+		}
+		return null;
+	}
+
+	/**
+	 * 매퍼 하나를 생성하여 파일로 씁니다. 소요 시간은 클래스 해석, 코드 생성, 파일 쓰기를 모두 포함합니다.
+	 * @param typeConverters 모든 매퍼가 함께 쓰는 변환 레지스트리 (읽기 전용)
+	 */
+	private static GenerationResult generateMapper(Project project, MappingManifest manifest, MappingManifest.Mapper mapper,
+		NestedMapperRegistry sharedNestedMappers, TypeConverterRegistry typeConverters, Path outputRoot) {
+		long startTime = System.nanoTime();
+		String name = mapper.source + " -> " + mapper.target;
+		if (mapper.source == null || mapper.target == null) {
+			return GenerationResult.failure(name, System.nanoTime() - startTime, "source and target are required");
+		}
+		// 공유 클래스의 하위 매퍼는 처음 만난 매퍼의 설정으로 생성되므로, 그 내용을 바꾸는 옵션은 매니페스트 최상위에서만 지정
+		String sharedOverride = sharedNestedMappers != null && firstNonNull(mapper.nestedMapping,
+			manifest.nestedMapping, false) ? findSharedOptionOverride(mapper) : null;
+		if (sharedOverride != null) {
+			return GenerationResult.failure(name, System.nanoTime() - startTime,
+				sharedOverride + " cannot be set per mapper when nestedMappersClass is set");
+		}
+
+		CodeType codeType;
+		ListMappingStrategy listMappingStrategy;
+		LazyAssociationPolicy lazyAssociationPolicy;
+		try {
+			codeType = CodeType.valueOf(firstNonNull(mapper.codeType, manifest.codeType, CodeType.BUILDER.name()));
+			listMappingStrategy = ListMappingStrategy.valueOf(firstNonNull(mapper.listMappingStrategy,
+				manifest.listMappingStrategy, ListMappingStrategy.STREAM.name()));
+			lazyAssociationPolicy = LazyAssociationPolicy.valueOf(firstNonNull(mapper.lazyAssociationPolicy,
+				manifest.lazyAssociationPolicy, LazyAssociationPolicy.GUARD.name()));
+		} catch (IllegalArgumentException e) {
+			return GenerationResult.failure(name, System.nanoTime() - startTime,
+				"unknown codeType, listMappingStrategy or lazyAssociationPolicy");
+		}
+		boolean generateListMethod = firstNonNull(mapper.generateListMethod, manifest.generateListMethod, false);
+		Boolean generateMethodComment = firstNonNull(mapper.generateMethodComment, manifest.generateMethodComment, true);
+		Boolean generateAllField = firstNonNull(mapper.generateAllField, manifest.generateAllField, false);
+		MappingOptions options = GenerateMappingCodeAction.createOptions(generateMethodComment, generateAllField)
+			.setTypeConverters(typeConverters)
+			.setListMappingStrategy(listMappingStrategy)
+			.setLazyAssociationPolicy(lazyAssociationPolicy)
+			.setUnmodifiableCollections(
+				firstNonNull(mapper.unmodifiableCollections, manifest.unmodifiableCollections, false))
+			.setGenerateCollectionVariants(
+				firstNonNull(mapper.generateCollectionVariants, manifest.generateCollectionVariants, false))
+			.setGenerateStreamingMethods(
+				firstNonNull(mapper.generateStreamingMethods, manifest.generateStreamingMethods, false))
+			.setGenerateParallelListMethod(
+				firstNonNull(mapper.generateParallelListMethod, manifest.generateParallelListMethod, false))
+			.setParallelThreshold(firstNonNull(mapper.parallelThreshold, manifest.parallelThreshold,
+				MappingOptions.DEFAULT_PARALLEL_THRESHOLD))
+			.setGenerateUpdateMethod(firstNonNull(mapper.generateUpdateMethod, manifest.generateUpdateMethod, false))
+			.setGeneratePatchMethod(firstNonNull(mapper.generatePatchMethod, manifest.generatePatchMethod, false))
+			.setMethodSizeLimit(firstNonNull(mapper.methodSizeLimit, manifest.methodSizeLimit,
+				MappingOptions.DEFAULT_METHOD_SIZE_LIMIT))
+			.setPreferConstructor(firstNonNull(mapper.preferConstructor, manifest.preferConstructor, false))
+			.setGenerateFieldMaskMethod(
+				firstNonNull(mapper.generateFieldMaskMethod, manifest.generateFieldMaskMethod, false));
+		if (firstNonNull(mapper.nestedMapping, manifest.nestedMapping, false)) {
+			options.setNestedMappers(sharedNestedMappers != null ? sharedNestedMappers
+				: NestedMapperRegistry.perMapper(new ProjectNestedClassResolver(project),
+					firstNonNull(mapper.nestedCycleGuard, manifest.nestedCycleGuard, false)));
+		}
+
+		String[] fileHolder = new String[2];
+		String error = DumbService.getInstance(project).runReadActionInSmartMode(() -> {
+			GlobalSearchScope scope = GlobalSearchScope.allScope(project);
+			PsiClass sourceClass = JavaPsiFacade.getInstance(project).findClass(mapper.source, scope);
+			PsiClass targetClass = JavaPsiFacade.getInstance(project).findClass(mapper.target, scope);
+			if (sourceClass == null || targetClass == null) {
+				return "class not found: " + (sourceClass == null ? mapper.source : mapper.target);
+			}
+			// 생성된 Mapper는 두 클래스를 단순 이름으로 import하므로 이름이 같으면 컴파일할 수 없음
+			if (sourceClass.getName() != null && sourceClass.getName().equals(targetClass.getName())) {
+				return "source and target have the same simple name (" + sourceClass.getName() + ")";
+			}
+
+			String mapperClass = mapper.mapperClass != null ? mapper.mapperClass : mapper.target + "Mapper";
+			int lastDot = mapperClass.lastIndexOf('.');
+			String packageName = lastDot < 0 ? "" : mapperClass.substring(0, lastDot);
+			String mapperClassName = mapperClass.substring(lastDot + 1);
+
+			fileHolder[0] = packageName.isEmpty() ? mapperClassName + ".java"
+				: packageName.replace('.', '/') + "/" + mapperClassName + ".java";
+			fileHolder[1] = MappingCodeGenerator.generateMapperClass(packageName, mapperClassName,
+				ClassFieldIndex.modelOf(sourceClass), ClassFieldIndex.modelOf(targetClass),
+				resolveTargetFieldNames(targetClass, mapper.fields), codeType, generateListMethod, options);
+			return null;
+		});
+		if (error != null) {
+			return GenerationResult.failure(name, System.nanoTime() - startTime, error);
+		}
+
+		Path file = outputRoot.resolve(fileHolder[0]);
+		try {
+			Files.createDirectories(file.getParent());
+			Files.writeString(file, fileHolder[1], StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			return GenerationResult.failure(name, System.nanoTime() - startTime, "write failed: " + e.getMessage());
+		}
+		return new GenerationResult(name, System.nanoTime() - startTime, file, null);
+	}
+
+	/**
+	 * 매니페스트에 필드가 지정되지 않았다면 대상 클래스의 모든 인스턴스 필드를 사용합니다.
+	 */
+	private static Set<String> resolveTargetFieldNames(PsiClass targetClass, List<String> fields) {
+		if (fields != null && !fields.isEmpty()) {
+			return new LinkedHashSet<>(fields);
+		}
+		Set<String> targetFieldNames = new LinkedHashSet<>();
+		for (PsiField field : targetClass.getAllFields()) {
+			if (!field.hasModifierProperty(PsiModifier.STATIC)) {
+				targetFieldNames.add(field.getName());
+			}
+		}
+		return targetFieldNames;
+	}
+
+	/**
+	 * @return 공유 하위 매퍼 클래스의 내용을 바꾸는데 매퍼 항목에 지정된 옵션 이름, 없으면 null
+	 */
+	private static String findSharedOptionOverride(MappingManifest.Mapper mapper) {
+		if (mapper.generateMethodComment != null) {
+			return "generateMethodComment";
+		}
+		if (mapper.preferConstructor != null) {
+			return "preferConstructor";
+		}
+		if (mapper.lazyAssociationPolicy != null) {
+			return "lazyAssociationPolicy";
+		}
+		return null;
+	}
+
+	private static <T> T firstNonNull(T first, T second, T defaultValue) {
+		return first != null ? first : second != null ? second : defaultValue;
+	}
+
+	private record GenerationResult(String name, long elapsedNanos, Path file, String error) {
+		static GenerationResult failure(String name, long elapsedNanos, String error) {
+			return new GenerationResult(name, elapsedNanos, null, error);
+		}
+	}
+}
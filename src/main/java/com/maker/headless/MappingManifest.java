@@ -0,0 +1,84 @@
+package com.maker.headless;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 헤드리스 일괄 생성기가 읽는 매핑 매니페스트 (JSON, Gson으로 역직렬화)
+ * <pre>
+ * {
+ *   "outputDirectory": "src/main/java",
+ *   "codeType": "BUILDER",
+ *   "generateListMethod": true,
+ *   "mappers": [
+ *     { "source": "com.foo.UserEntity", "target": "com.foo.UserDto",
+ *       "mapperClass": "com.foo.mapper.UserMapper", "fields": ["id", "name"] }
+ *   ]
+ * }
+ * </pre>
+ * 매퍼 항목에 옵션이 없으면 매니페스트 최상위 옵션을 사용합니다.
+ * 공유 하위 매퍼 클래스(nestedMappersClass)를 쓰는 매퍼는 그 클래스의 내용을 바꾸는 옵션
+ * (generateMethodComment, preferConstructor, lazyAssociationPolicy)을 매퍼 항목에 지정할 수 없습니다.
+ */
+public class MappingManifest {
+	// 생성된 파일을 쓸 루트 디렉토리 (상대 경로라면 프로젝트 디렉토리 기준)
+	public String outputDirectory;
+	// BUILDER, GETTER_SETTER 또는 CONSTRUCTOR (기본값 BUILDER, 정식 생성자가 없으면 Builder 또는 Getter/Setter)
+	public String codeType;
+	public Boolean generateListMethod;
+	public Boolean generateMethodComment;
+	public Boolean generateAllField;
+	// STREAM 또는 LOOP (기본값 STREAM)
+	public String listMappingStrategy;
+	public Boolean unmodifiableCollections;
+	public Boolean generateCollectionVariants;
+	public Boolean generateStreamingMethods;
+	public Boolean generateParallelListMethod;
+	public Integer parallelThreshold;
+	public Boolean generateUpdateMethod;
+	public Boolean generatePatchMethod;
+	// 필드 마스크에 포함된 필드만 변환하는 gen<Target>(source, mask) 메소드
+	public Boolean generateFieldMaskMethod;
+	// 사용자 변환 메소드를 담은 클래스 FQN 목록 (모든 매퍼에 적용)
+	public List<String> converterClasses;
+	public Boolean nestedMapping;
+	public Boolean nestedCycleGuard;
+	// 중첩 객체 하위 매퍼를 모을 공유 클래스 FQN (없으면 하위 매퍼를 각 Mapper 클래스 안에 생성)
+	public String nestedMappersClass;
+	// 변환 메소드를 보조 메소드로 나누는 예상 바이트코드 크기 (기본값 7000, 0 이하면 나누지 않음)
+	public Integer methodSizeLimit;
+	// 중첩 객체 하위 매퍼에서 정식 생성자가 있으면 생성자를 직접 호출
+	public Boolean preferConstructor;
+	// 지연 로딩 JPA 연관 필드 처리: GUARD, SKIP 또는 IGNORE (기본값 GUARD)
+	public String lazyAssociationPolicy;
+	public List<Mapper> mappers = new ArrayList<>();
+
+	public static class Mapper {
+		// 소스/대상 클래스의 FQN
+		public String source;
+		public String target;
+		// 생성할 Mapper 클래스의 FQN (없으면 대상 클래스 패키지의 <Target>Mapper)
+		public String mapperClass;
+		// 매핑할 대상 필드 이름 (없으면 대상 클래스의 모든 인스턴스 필드)
+		public List<String> fields;
+		public String codeType;
+		public Boolean generateListMethod;
+		public Boolean generateMethodComment;
+		public Boolean generateAllField;
+		public String listMappingStrategy;
+		public Boolean unmodifiableCollections;
+		public Boolean generateCollectionVariants;
+		public Boolean generateStreamingMethods;
+		public Boolean generateParallelListMethod;
+		public Integer parallelThreshold;
+		public Boolean generateUpdateMethod;
+		public Boolean generatePatchMethod;
+		public Boolean generateFieldMaskMethod;
+		public Boolean nestedMapping;
+		// 공유 클래스를 사용하면 모든 매퍼가 최상위 nestedCycleGuard를 따름
+		public Boolean nestedCycleGuard;
+		public Integer methodSizeLimit;
+		public Boolean preferConstructor;
+		public String lazyAssociationPolicy;
+	}
+}
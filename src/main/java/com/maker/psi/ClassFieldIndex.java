@@ -0,0 +1,389 @@
+package com.maker.psi;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.lang3.StringUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.intellij.codeInsight.AnnotationUtil;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiAnnotationMemberValue;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiEnumConstant;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiModifier;
+import com.intellij.psi.PsiModifierListOwner;
+import com.intellij.psi.PsiParameter;
+import com.intellij.psi.PsiRecordComponent;
+import com.intellij.psi.PsiType;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.InheritanceUtil;
+import com.intellij.psi.util.PropertyUtilBase;
+import com.intellij.psi.util.PsiUtil;
+import com.maker.engine.MappingClassModel;
+import com.maker.engine.MappingEnumModel;
+import com.maker.engine.MappingFieldModel;
+
+/**
+ * 클래스 하나에 대한 필드/접근자 색인입니다.
+ * 필드 이름 → (필드, 타입, 선언 클래스, 실제 Getter/Setter 이름)을 한 번만 계산하여
+ * 해당 클래스 또는 상위 타입의 파일이 변경될 때까지 PSI 캐시에 보관합니다.
+ * 코드 생성기는 필드마다 findFieldByName으로 상속 계층을 다시 탐색하는 대신 이 색인을 조회합니다.
+ */
+public final class ClassFieldIndex {
+
+	// enum의 코드 값 필드로 우선 사용할 이름 (DB 컬럼에 저장되는 값)
+	private static final List<String> ENUM_CODE_FIELD_NAMES = List.of("code", "dbCode", "value", "dbValue", "key");
+
+	private static final List<String> PERSISTENCE_PACKAGES = List.of("jakarta.persistence", "javax.persistence");
+
+	// JPA 연관 매핑 어노테이션 → fetch 속성이 없을 때 지연 로딩인지 여부 (JPA 명세의 기본값)
+	private static final Map<String, Boolean> ASSOCIATION_LAZY_BY_DEFAULT = Map.of(
+		"OneToMany", true, "ManyToMany", true, "ElementCollection", true, "ManyToOne", false, "OneToOne", false);
+
+	/**
+	 * 색인된 필드 하나의 정보입니다.
+	 *
+	 * @param name 필드 이름
+	 * @param field 필드 PSI
+	 * @param type 필드 타입
+	 * @param declaringClass 필드를 선언한 클래스 (상속받은 필드라면 상위 클래스)
+	 * @param declaredInClass 색인 대상 클래스에 직접 선언된 필드인지 여부
+	 * @param getterName 실제 Getter 이름 (없으면 관례상 이름, Record라면 컴포넌트 접근자 이름)
+	 * @param setterName 실제 Setter 이름 (없으면 관례상 이름)
+	 */
+	public record FieldInfo(
+		String name,
+		PsiField field,
+		PsiType type,
+		PsiClass declaringClass,
+		boolean declaredInClass,
+		String getterName,
+		String setterName
+	) {
+	}
+
+	private final Map<String, FieldInfo> fields;
+	private final MappingClassModel model; // 매핑 엔진용 모델 (PSI 비의존)
+
+	private ClassFieldIndex(Map<String, FieldInfo> fields, MappingClassModel model) {
+		this.fields = fields;
+		this.model = model;
+	}
+
+	/**
+	 * 클래스의 필드 색인을 반환합니다. 클래스나 상위 타입이 변경되지 않았다면 캐시된 색인을 그대로 반환합니다.
+	 * 읽기 작업(read action) 안에서 호출해야 합니다.
+	 * @param psiClass 색인할 클래스
+	 * @return 필드 색인
+	 */
+	public static @NotNull ClassFieldIndex of(@NotNull PsiClass psiClass) {
+		return CachedValuesManager.getCachedValue(psiClass, () -> {
+			Set<PsiClass> supers = new LinkedHashSet<>();
+			InheritanceUtil.getSuperClasses(psiClass, supers, true);
+
+			Set<PsiClass> enumClasses = new LinkedHashSet<>();
+			ClassFieldIndex index = build(psiClass, supers, enumClasses);
+
+			// 자기 자신과 상위 타입, 필드 타입인 enum이 속한 파일의 수정 시점에 의존 (다른 파일 변경으로는 무효화되지 않음)
+			List<Object> dependencies = new ArrayList<>(supers.size() + enumClasses.size() + 1);
+			dependencies.add(psiClass);
+			dependencies.addAll(supers);
+			dependencies.addAll(enumClasses);
+			return CachedValueProvider.Result.create(index, dependencies);
+		});
+	}
+
+	/**
+	 * 클래스의 매핑 엔진용 모델을 반환합니다. (캐시된 색인에서 꺼냄)
+	 * 읽기 작업(read action) 안에서 호출해야 합니다.
+	 */
+	public static @NotNull MappingClassModel modelOf(@NotNull PsiClass psiClass) {
+		return of(psiClass).getModel();
+	}
+
+	/**
+	 * JPQL에서 클래스를 가리키는 엔티티 이름을 반환합니다. (@Entity의 name 속성, 없으면 클래스 이름)
+	 */
+	public static @Nullable String findEntityName(@NotNull PsiClass psiClass) {
+		for (String persistencePackage : PERSISTENCE_PACKAGES) {
+			PsiAnnotation entity = psiClass.getAnnotation(persistencePackage + ".Entity");
+			if (entity == null) {
+				continue;
+			}
+			String name = AnnotationUtil.getDeclaredStringAttributeValue(entity, "name");
+			if (name != null && !name.isEmpty()) {
+				return name;
+			}
+		}
+		return psiClass.getName();
+	}
+
+	/**
+	 * 지정한 필드만 담은 매핑 엔진용 모델을 만듭니다. 색인을 만들지 않고 필드 하나씩 PSI에서 직접 조회합니다.
+	 * 클래스 전체가 아닌 일부 필드만 다시 생성할 때(라이브 미리보기) 색인 재계산 비용을 피하기 위해 사용합니다.
+	 * @param psiClass 조회할 클래스
+	 * @param fieldNames 모델에 담을 필드 이름
+	 * @return 일부 필드만 담은 모델
+	 */
+	public static @NotNull MappingClassModel partialModelOf(@NotNull PsiClass psiClass,
+		@NotNull Collection<String> fieldNames) {
+		boolean isRecord = psiClass.isRecord();
+		Map<String, MappingFieldModel> fieldModels = new LinkedHashMap<>();
+		for (String name : fieldNames) {
+			PsiField field = psiClass.findFieldByName(name, true);
+			if (field == null || field.hasModifierProperty(PsiModifier.STATIC)) {
+				continue;
+			}
+			PsiClass declaringClass = field.getContainingClass();
+			fieldModels.put(name, toFieldModel(new FieldInfo(name, field, field.getType(), declaringClass,
+				psiClass.equals(declaringClass), findGetterName(psiClass, name, isRecord),
+				findSetterName(psiClass, name)), new ArrayList<>()));
+		}
+		return new MappingClassModel(psiClass.getName(), psiClass.getQualifiedName(), isRecord,
+			Collections.unmodifiableMap(fieldModels), findBuilderTypeName(psiClass),
+			findConstructorParameterNames(psiClass));
+	}
+
+	private static ClassFieldIndex build(PsiClass psiClass, Collection<PsiClass> supers,
+		Collection<PsiClass> enumClasses) {
+		Map<String, FieldInfo> fields = new LinkedHashMap<>();
+		boolean isRecord = psiClass.isRecord();
+
+		// 1. 직접 선언된 필드 (상위 클래스의 같은 이름 필드보다 우선)
+		for (PsiField field : psiClass.getFields()) {
+			putField(fields, psiClass, field, true, isRecord);
+		}
+		// 2. 상속받은 필드 (이미 등록된 이름은 건너뜀)
+		for (PsiClass superClass : supers) {
+			for (PsiField field : superClass.getFields()) {
+				putField(fields, psiClass, field, false, isRecord);
+			}
+		}
+		Map<String, MappingFieldModel> fieldModels = new LinkedHashMap<>();
+		for (FieldInfo info : fields.values()) {
+			fieldModels.put(info.name(), toFieldModel(info, enumClasses));
+		}
+		MappingClassModel model = new MappingClassModel(psiClass.getName(), psiClass.getQualifiedName(), isRecord,
+			Collections.unmodifiableMap(fieldModels), findBuilderTypeName(psiClass),
+			findConstructorParameterNames(psiClass));
+		return new ClassFieldIndex(Collections.unmodifiableMap(fields), model);
+	}
+
+	/**
+	 * 매개변수 없는 정적 builder() 메소드(Lombok이 만든 메소드 포함)의 반환 타입을 찾습니다.
+	 * @return 정규화된 Builder 타입 이름, 없으면 null
+	 */
+	private static @Nullable String findBuilderTypeName(PsiClass psiClass) {
+		for (PsiMethod method : psiClass.findMethodsByName("builder", true)) {
+			PsiType returnType = method.getReturnType();
+			if (returnType != null && method.hasModifierProperty(PsiModifier.STATIC)
+				&& method.getParameterList().isEmpty()) {
+				return returnType.getCanonicalText();
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * 모든 값을 한 번에 받는 정식 생성자를 찾습니다. Record는 canonical 생성자(컴포넌트 순서),
+	 * 클래스는 직접 선언된 인스턴스 필드를 모두 같은 이름과 타입의 매개변수로 받는 private이 아닌 생성자
+	 * (Lombok @AllArgsConstructor/@Value가 만든 생성자 포함)입니다.
+	 * @return 매개변수 이름 (매개변수 순서), 그런 생성자가 없으면 null
+	 */
+	private static @Nullable List<String> findConstructorParameterNames(PsiClass psiClass) {
+		if (psiClass.isRecord()) {
+			List<String> componentNames = new ArrayList<>();
+			for (PsiRecordComponent component : psiClass.getRecordComponents()) {
+				componentNames.add(component.getName());
+			}
+			return List.copyOf(componentNames);
+		}
+		if (psiClass.isInterface() || psiClass.isEnum() || psiClass.hasModifierProperty(PsiModifier.ABSTRACT)) {
+			return null;
+		}
+
+		Map<String, PsiType> fieldTypes = new LinkedHashMap<>();
+		for (PsiField field : psiClass.getFields()) {
+			if (!field.hasModifierProperty(PsiModifier.STATIC)) {
+				fieldTypes.put(field.getName(), field.getType());
+			}
+		}
+		if (fieldTypes.isEmpty()) {
+			return null;
+		}
+		for (PsiMethod constructor : psiClass.getConstructors()) {
+			PsiParameter[] parameters = constructor.getParameterList().getParameters();
+			if (constructor.hasModifierProperty(PsiModifier.PRIVATE) || parameters.length != fieldTypes.size()) {
+				continue;
+			}
+			List<String> parameterNames = new ArrayList<>(parameters.length);
+			for (PsiParameter parameter : parameters) {
+				PsiType fieldType = fieldTypes.get(parameter.getName());
+				if (fieldType == null || !fieldType.equals(parameter.getType())) {
+					break;
+				}
+				parameterNames.add(parameter.getName());
+			}
+			if (parameterNames.size() == parameters.length) {
+				return List.copyOf(parameterNames);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * @param enumClasses 필드 타입이 enum이라면 그 enum 클래스를 추가할 목록 (캐시 의존성으로 사용)
+	 */
+	private static MappingFieldModel toFieldModel(FieldInfo info, Collection<PsiClass> enumClasses) {
+		PsiClass declaringClass = info.declaringClass();
+		MappingEnumModel enumModel = null;
+		PsiClass typeClass = PsiUtil.resolveClassInType(info.type());
+		if (typeClass != null && typeClass.isEnum()) {
+			enumClasses.add(typeClass);
+			enumModel = toEnumModel(typeClass);
+		}
+		return new MappingFieldModel(info.name(), info.type().getCanonicalText(), info.type().getPresentableText(),
+			declaringClass != null ? declaringClass.getName() : null, info.declaredInClass(), info.getterName(),
+			info.setterName(), enumModel, findLazyPersistencePackage(info.field(), declaringClass));
+	}
+
+	/**
+	 * 필드(또는 속성 접근 방식이라면 Getter)의 JPA 연관 매핑 어노테이션에서 지연 로딩 여부를 확인합니다.
+	 * fetch 속성이 있으면 그 값을, 없으면 어노테이션별 기본값(@OneToMany/@ManyToMany/@ElementCollection은 LAZY)을 따릅니다.
+	 * @return 지연 로딩 연관 필드라면 어노테이션의 패키지 (jakarta.persistence 또는 javax.persistence), 아니면 null
+	 */
+	private static @Nullable String findLazyPersistencePackage(PsiField field, @Nullable PsiClass declaringClass) {
+		List<PsiModifierListOwner> annotationOwners = new ArrayList<>(2);
+		annotationOwners.add(field);
+		if (declaringClass != null) {
+			PsiMethod getter = PropertyUtilBase.findPropertyGetter(declaringClass, field.getName(), false, false);
+			if (getter != null) {
+				annotationOwners.add(getter);
+			}
+		}
+		for (PsiModifierListOwner owner : annotationOwners) {
+			for (String persistencePackage : PERSISTENCE_PACKAGES) {
+				for (Map.Entry<String, Boolean> association : ASSOCIATION_LAZY_BY_DEFAULT.entrySet()) {
+					PsiAnnotation annotation = owner.getAnnotation(persistencePackage + "." + association.getKey());
+					if (annotation == null) {
+						continue;
+					}
+					PsiAnnotationMemberValue fetch = annotation.findDeclaredAttributeValue("fetch");
+					boolean lazy = fetch != null ? fetch.getText().endsWith("LAZY") : association.getValue();
+					return lazy ? persistencePackage : null;
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * @return 클래스의 필드 중 지연 로딩되는 JPA 연관 필드의 이름 (Tool Window 필드 목록 표시용)
+	 */
+	public Set<String> getLazyAssociationFieldNames() {
+		Set<String> names = new LinkedHashSet<>();
+		for (MappingFieldModel field : model.fields().values()) {
+			if (field.lazyAssociation()) {
+				names.add(field.name());
+			}
+		}
+		return names;
+	}
+
+	/**
+	 * enum 상수와 코드 값 필드를 찾습니다. 코드 값 필드는 관례적인 이름(code, value 등)의 필드를 우선하며,
+	 * 없으면 유일한 인스턴스 필드를 사용합니다. Getter가 없는 필드는 코드 값으로 쓰지 않습니다.
+	 */
+	private static MappingEnumModel toEnumModel(PsiClass enumClass) {
+		List<String> constants = new ArrayList<>();
+		List<PsiField> instanceFields = new ArrayList<>();
+		for (PsiField field : enumClass.getFields()) {
+			if (field instanceof PsiEnumConstant) {
+				constants.add(field.getName());
+			} else if (!field.hasModifierProperty(PsiModifier.STATIC)) {
+				instanceFields.add(field);
+			}
+		}
+
+		PsiField codeField = null;
+		for (String codeFieldName : ENUM_CODE_FIELD_NAMES) {
+			PsiField field = enumClass.findFieldByName(codeFieldName, false);
+			if (field != null && instanceFields.contains(field)) {
+				codeField = field;
+				break;
+			}
+		}
+		if (codeField == null && instanceFields.size() == 1) {
+			codeField = instanceFields.get(0);
+		}
+		PsiMethod codeGetter = codeField != null
+			? PropertyUtilBase.findPropertyGetter(enumClass, codeField.getName(), false, true) : null;
+		if (codeGetter == null) {
+			return new MappingEnumModel(List.copyOf(constants), null, null);
+		}
+		return new MappingEnumModel(List.copyOf(constants), codeGetter.getName(),
+			codeField.getType().getCanonicalText());
+	}
+
+	private static void putField(Map<String, FieldInfo> fields, PsiClass indexedClass, PsiField field,
+		boolean declaredInClass, boolean isRecord) {
+		String name = field.getName();
+		if (fields.containsKey(name) || field.hasModifierProperty(PsiModifier.STATIC)) {
+			return;
+		}
+		fields.put(name, new FieldInfo(name, field, field.getType(), field.getContainingClass(), declaredInClass,
+			findGetterName(indexedClass, name, isRecord), findSetterName(indexedClass, name)));
+	}
+
+	private static String findGetterName(PsiClass psiClass, String fieldName, boolean isRecord) {
+		if (isRecord) {
+			return fieldName; // Record 컴포넌트 접근자
+		}
+		PsiMethod getter = PropertyUtilBase.findPropertyGetter(psiClass, fieldName, false, true);
+		return getter != null ? getter.getName() : "get" + StringUtils.capitalize(fieldName);
+	}
+
+	private static String findSetterName(PsiClass psiClass, String fieldName) {
+		PsiMethod setter = PropertyUtilBase.findPropertySetter(psiClass, fieldName, false, true);
+		return setter != null ? setter.getName() : "set" + StringUtils.capitalize(fieldName);
+	}
+
+	/**
+	 * 이름으로 필드를 찾습니다. {@link PsiClass#findFieldByName(String, boolean)}과 같은 의미이지만 계층을 다시 탐색하지 않습니다.
+	 * @param name 필드 이름
+	 * @param checkBases 상속받은 필드까지 포함할지 여부
+	 * @return 필드 정보, 없으면 null
+	 */
+	public @Nullable FieldInfo findField(String name, boolean checkBases) {
+		FieldInfo info = fields.get(name);
+		if (info == null || (!checkBases && !info.declaredInClass())) {
+			return null;
+		}
+		return info;
+	}
+
+	/**
+	 * @return 색인된 모든 인스턴스 필드 (직접 선언된 필드가 먼저 옵니다)
+	 */
+	public Collection<FieldInfo> getFields() {
+		return fields.values();
+	}
+
+	/**
+	 * @return 매핑 엔진용 클래스 모델
+	 */
+	public MappingClassModel getModel() {
+		return model;
+	}
+}
@@ -0,0 +1,55 @@
+package com.maker.psi;
+
+import org.jetbrains.annotations.NotNull;
+
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiModifier;
+import com.intellij.psi.PsiParameter;
+import com.intellij.psi.PsiType;
+import com.intellij.psi.PsiTypes;
+import com.maker.engine.TypeConverterRegistry;
+
+/**
+ * 사용자 변환 클래스의 정적 메소드를 매핑 엔진의 변환 레지스트리에 등록합니다.
+ * 매개변수가 하나이고 값을 반환하는 static 메소드를 (매개변수 타입 → 반환 타입) 변환기로 사용합니다.
+ */
+public final class ConverterMethods {
+
+	private ConverterMethods() {
+	}
+
+	/**
+	 * 변환 클래스에 선언된 변환 메소드를 레지스트리에 등록합니다. 읽기 작업(read action) 안에서 호출해야 합니다.
+	 * 같은 타입 쌍의 메소드가 여러 개라면 나중에 선언된 메소드가 사용됩니다.
+	 * @param converterClass 변환 메소드를 담은 클래스
+	 * @param registry 등록할 레지스트리
+	 * @return 등록한 메소드 수
+	 */
+	public static int register(@NotNull PsiClass converterClass, @NotNull TypeConverterRegistry registry) {
+		String classQualifiedName = converterClass.getQualifiedName();
+		if (classQualifiedName == null) {
+			return 0;
+		}
+		int registered = 0;
+		for (PsiMethod method : converterClass.getMethods()) {
+			if (!isConverterMethod(method)) {
+				continue;
+			}
+			PsiParameter parameter = method.getParameterList().getParameters()[0];
+			registry.registerMethod(parameter.getType().getCanonicalText(), method.getReturnType().getCanonicalText(),
+				classQualifiedName + "." + method.getName());
+			registered++;
+		}
+		return registered;
+	}
+
+	private static boolean isConverterMethod(PsiMethod method) {
+		PsiType returnType = method.getReturnType();
+		return returnType != null && !PsiTypes.voidType().equals(returnType)
+			&& method.hasModifierProperty(PsiModifier.STATIC)
+			&& !method.hasModifierProperty(PsiModifier.PRIVATE)
+			&& !method.hasTypeParameters()
+			&& method.getParameterList().getParametersCount() == 1;
+	}
+}
@@ -0,0 +1,59 @@
+package com.maker.psi;
+
+import java.util.Set;
+
+import org.jetbrains.annotations.NotNull;
+
+import com.intellij.codeInsight.AnnotationUtil;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiModifier;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.maker.engine.MappingClassModel;
+import com.maker.engine.NestedMapperRegistry;
+
+/**
+ * 프로젝트 소스의 클래스만 중첩 매핑 대상으로 찾는 {@link NestedMapperRegistry.ClassResolver}입니다.
+ * JDK/라이브러리 타입(String, LocalDate 등)과 enum, 인터페이스, 추상 클래스는 중첩 매핑하지 않습니다.
+ * 코드 생성 중에 호출되므로 읽기 작업(read action) 안에서 사용해야 합니다.
+ */
+public final class ProjectNestedClassResolver implements NestedMapperRegistry.ClassResolver {
+
+	private final Project project;
+
+	public ProjectNestedClassResolver(@NotNull Project project) {
+		this.project = project;
+	}
+
+	@Override
+	public MappingClassModel resolve(String qualifiedName) {
+		PsiClass psiClass = findClass(qualifiedName);
+		if (psiClass == null || psiClass.isInterface() || psiClass.isEnum() || psiClass.isAnnotationType()
+			|| psiClass.hasModifierProperty(PsiModifier.ABSTRACT)) {
+			return null;
+		}
+		return ClassFieldIndex.modelOf(psiClass);
+	}
+
+	@Override
+	public boolean hasBuilder(String qualifiedName) {
+		PsiClass psiClass = findClass(qualifiedName);
+		return psiClass != null && supportsBuilder(psiClass);
+	}
+
+	/**
+	 * 클래스가 Builder를 제공하는지 확인합니다. (builder() 메소드 또는 Lombok @Builder/@SuperBuilder)
+	 */
+	public static boolean supportsBuilder(@NotNull PsiClass psiClass) {
+		return psiClass.findMethodsByName("builder", true).length > 0
+			|| AnnotationUtil.isAnnotated(psiClass, Set.of("lombok.Builder", "lombok.experimental.SuperBuilder"), 0);
+	}
+
+	private PsiClass findClass(String qualifiedName) {
+		if (qualifiedName == null || qualifiedName.indexOf('<') >= 0 || qualifiedName.startsWith("java.")) {
+			return null;
+		}
+		return JavaPsiFacade.getInstance(project).findClass(qualifiedName, GlobalSearchScope.projectScope(project));
+	}
+}
@@ -1,13 +1,29 @@
 package com.maker.state;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import com.intellij.openapi.components.PersistentStateComponent;
 import com.intellij.openapi.components.State;
 import com.intellij.openapi.components.Storage;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleManager;
+import com.intellij.openapi.module.ModuleUtilCore;
+import com.intellij.openapi.project.DumbService;
 import com.intellij.openapi.project.Project;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.SmartPointerManager;
+import com.intellij.psi.SmartPsiElementPointer;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.maker.engine.NestedMapperRegistry;
+import com.maker.entity.LazyAssociationPolicy;
+import com.maker.entity.ListMappingStrategy;
+import com.maker.entity.ProjectionStyle;
+import com.maker.psi.ProjectNestedClassResolver;
 
 @State(
 	name = "MappingPluginState", // 상태 파일 이름 (예: MappingPluginState.xml)
@@ -23,6 +39,27 @@ public class MappingPluginState implements PersistentStateComponent<MappingPlugi
 		public Boolean generateListMethod;
 		public Boolean generateMethodComment;
 		public Boolean gererateAllField;
+		public String sourceModuleName; // 재시작 후 이름으로 다시 찾을 때 먼저 검색할 모듈
+		public String targetModuleName;
+		public Boolean livePreview; // 소스/대상 변경 시 생성 코드 자동 갱신
+		public Boolean diffWithPreviousGeneration; // Shot 시 이전 생성 결과와의 Diff 표시
+		public ListMappingStrategy listMappingStrategy; // 컬렉션 변환 메소드 구현 방식 (null이면 STREAM)
+		public Boolean unmodifiableCollections; // 컬렉션 변환 결과를 수정 불가능하게 감쌀지 여부
+		public Boolean generateCollectionVariants; // Set/Map/배열 변환 메소드도 생성할지 여부
+		public Boolean generateStreamingMethods; // Stream/Iterator/Spliterator 지연 변환 메소드도 생성할지 여부
+		public Boolean generateParallelListMethod; // 청크 병렬 List 변환 메소드도 생성할지 여부
+		public Integer parallelThreshold; // 병렬 처리로 전환하는 입력 크기 (null이면 기본값)
+		public Boolean generateUpdateMethod; // 기존 객체를 갱신하는 update 메소드도 생성할지 여부
+		public List<String> converterClassNames; // 사용자 변환 메소드를 담은 클래스 FQN 목록 (null 가능)
+		public Boolean generatePatchMethod; // null을 건너뛰고 바뀐 필드를 반환하는 patch 메소드도 생성할지 여부
+		public Boolean nestedMapping; // 중첩 객체 필드를 하위 매퍼로 변환할지 여부
+		public Boolean nestedCycleGuard; // 하위 매퍼에서 순환 참조를 IdentityHashMap으로 막을지 여부
+		public Boolean preferConstructor; // 패키지 일괄 생성/클래스에 쓰기/하위 매퍼에서 정식 생성자를 우선 사용할지 여부
+		public LazyAssociationPolicy lazyAssociationPolicy; // JPA 지연 로딩 연관 필드 처리 방식 (null이면 GUARD)
+		public ProjectionStyle projectionStyle; // 선택 필드 프로젝션 생성 방식 (null이면 RECORD)
+		public Boolean generateFieldMaskMethod; // 요청된 필드만 변환하는 필드 마스크 gen 메소드도 생성할지 여부
+		public List<String> intermediateClassQualifiedNames; // 소스와 대상 사이의 중간 클래스 FQN 목록, 체인 순서 (null 가능)
+		public List<String> fanOutTargetClassQualifiedNames; // 락온 대상과 함께 한 번에 변환할 추가 대상 FQN 목록 (null 가능)
 
 		// 기본 생성자 필요
 		public State() {
@@ -40,8 +77,17 @@ public class MappingPluginState implements PersistentStateComponent<MappingPlugi
 		}
 	}
 
+	private final Project project;
 	private State myState = new State(); // 현재 상태 객체
 
+	// 세션 동안 유지되는 해석된 클래스 (저장되지 않음). 편집 후에도 유효하며, 재시작 후에만 이름으로 다시 찾습니다.
+	private volatile SmartPsiElementPointer<PsiClass> sourceClassPointer;
+	private volatile SmartPsiElementPointer<PsiClass> targetClassPointer;
+
+	public MappingPluginState(Project project) {
+		this.project = project;
+	}
+
 	@Override
 	public State getState() {
 		return myState; // 현재 상태 반환
@@ -51,6 +97,91 @@ public class MappingPluginState implements PersistentStateComponent<MappingPlugi
 	public void loadState(@NotNull State state) {
 		// 저장된 상태를 불러와 현재 상태에 적용
 		myState = state;
+		sourceClassPointer = null;
+		targetClassPointer = null;
+	}
+
+	/**
+	 * 소스 클래스를 설정합니다. 정규화된 이름과 모듈 이름을 저장하고, 세션 동안 사용할 스마트 포인터를 보관합니다.
+	 * 읽기 작업 안에서 호출해야 합니다.
+	 */
+	public void setSourceClass(@NotNull PsiClass sourceClass) {
+		myState.sourceClassQualifiedName = sourceClass.getQualifiedName();
+		myState.sourceModuleName = findModuleName(sourceClass);
+		sourceClassPointer = SmartPointerManager.createPointer(sourceClass);
+	}
+
+	/**
+	 * 대상 클래스를 설정합니다. 정규화된 이름과 모듈 이름을 저장하고, 세션 동안 사용할 스마트 포인터를 보관합니다.
+	 * 읽기 작업 안에서 호출해야 합니다.
+	 */
+	public void setTargetClass(@NotNull PsiClass targetClass) {
+		myState.targetClassQualifiedName = targetClass.getQualifiedName();
+		myState.targetModuleName = findModuleName(targetClass);
+		targetClassPointer = SmartPointerManager.createPointer(targetClass);
+	}
+
+	/**
+	 * 로드된 소스 클래스를 반환합니다. 세션 중에는 스마트 포인터에서 바로 꺼내고,
+	 * 포인터가 없거나 무효화된 경우(재시작 등)에만 이름으로 다시 찾습니다. 읽기 작업 안에서 호출해야 합니다.
+	 * @return 소스 클래스, 찾지 못하면 null
+	 */
+	public @Nullable PsiClass findSourceClass() {
+		PsiClass cached = sourceClassPointer != null ? sourceClassPointer.getElement() : null;
+		if (cached != null) {
+			return cached;
+		}
+		PsiClass resolved = resolveClass(myState.sourceClassQualifiedName, myState.sourceModuleName);
+		if (resolved != null) {
+			sourceClassPointer = SmartPointerManager.createPointer(resolved);
+		}
+		return resolved;
+	}
+
+	/**
+	 * 락온된 대상 클래스를 반환합니다. {@link #findSourceClass()}와 같은 방식으로 동작합니다.
+	 * @return 대상 클래스, 찾지 못하면 null
+	 */
+	public @Nullable PsiClass findTargetClass() {
+		PsiClass cached = targetClassPointer != null ? targetClassPointer.getElement() : null;
+		if (cached != null) {
+			return cached;
+		}
+		PsiClass resolved = resolveClass(myState.targetClassQualifiedName, myState.targetModuleName);
+		if (resolved != null) {
+			targetClassPointer = SmartPointerManager.createPointer(resolved);
+		}
+		return resolved;
+	}
+
+	/**
+	 * 정규화된 이름으로 클래스를 찾습니다. 라이브러리 jar까지 검색하는 allScope는 마지막에만 사용합니다.
+	 * (모듈 → 프로젝트 → 전체 순서)
+	 */
+	private @Nullable PsiClass resolveClass(String qualifiedName, String moduleName) {
+		if (qualifiedName == null) {
+			return null;
+		}
+		JavaPsiFacade psiFacade = JavaPsiFacade.getInstance(project);
+		if (moduleName != null) {
+			Module module = ModuleManager.getInstance(project).findModuleByName(moduleName);
+			if (module != null) {
+				PsiClass psiClass = psiFacade.findClass(qualifiedName, GlobalSearchScope.moduleScope(module));
+				if (psiClass != null) {
+					return psiClass;
+				}
+			}
+		}
+		PsiClass psiClass = psiFacade.findClass(qualifiedName, GlobalSearchScope.projectScope(project));
+		if (psiClass != null) {
+			return psiClass;
+		}
+		return psiFacade.findClass(qualifiedName, GlobalSearchScope.allScope(project));
+	}
+
+	private static String findModuleName(PsiClass psiClass) {
+		Module module = ModuleUtilCore.findModuleForPsiElement(psiClass);
+		return module != null ? module.getName() : null;
 	}
 
 	// 상태 필드에 접근하기 위한 Getter/Setter
@@ -60,6 +191,7 @@ public class MappingPluginState implements PersistentStateComponent<MappingPlugi
 
 	public void setSourceClassQualifiedName(String sourceClassQualifiedName) {
 		myState.sourceClassQualifiedName = sourceClassQualifiedName;
+		sourceClassPointer = null; // 이름만 바뀐 경우 다음 조회 시 다시 해석
 	}
 
 	public String getTargetClassQualifiedName() {
@@ -68,6 +200,7 @@ public class MappingPluginState implements PersistentStateComponent<MappingPlugi
 
 	public void setTargetClassQualifiedName(String targetClassQualifiedName) {
 		myState.targetClassQualifiedName = targetClassQualifiedName;
+		targetClassPointer = null; // 이름만 바뀐 경우 다음 조회 시 다시 해석
 	}
 
 	public List<String> getIncludedTargetFieldNames() {
@@ -102,6 +235,228 @@ public class MappingPluginState implements PersistentStateComponent<MappingPlugi
 		myState.gererateAllField = gererateAllField;
 	}
 
+	public Boolean isLivePreview() {
+		return myState.livePreview;
+	}
+
+	public void setLivePreview(Boolean livePreview) {
+		myState.livePreview = livePreview;
+	}
+
+	public Boolean isDiffWithPreviousGeneration() {
+		return myState.diffWithPreviousGeneration;
+	}
+
+	public void setDiffWithPreviousGeneration(Boolean diffWithPreviousGeneration) {
+		myState.diffWithPreviousGeneration = diffWithPreviousGeneration;
+	}
+
+	public ListMappingStrategy getListMappingStrategy() {
+		return myState.listMappingStrategy;
+	}
+
+	public void setListMappingStrategy(ListMappingStrategy listMappingStrategy) {
+		myState.listMappingStrategy = listMappingStrategy;
+	}
+
+	public LazyAssociationPolicy getLazyAssociationPolicy() {
+		return myState.lazyAssociationPolicy;
+	}
+
+	public void setLazyAssociationPolicy(LazyAssociationPolicy lazyAssociationPolicy) {
+		myState.lazyAssociationPolicy = lazyAssociationPolicy;
+	}
+
+	public ProjectionStyle getProjectionStyle() {
+		return myState.projectionStyle;
+	}
+
+	public void setProjectionStyle(ProjectionStyle projectionStyle) {
+		myState.projectionStyle = projectionStyle;
+	}
+
+	public Boolean isUnmodifiableCollections() {
+		return myState.unmodifiableCollections;
+	}
+
+	public void setUnmodifiableCollections(Boolean unmodifiableCollections) {
+		myState.unmodifiableCollections = unmodifiableCollections;
+	}
+
+	public Boolean isGenerateCollectionVariants() {
+		return myState.generateCollectionVariants;
+	}
+
+	public void setGenerateCollectionVariants(Boolean generateCollectionVariants) {
+		myState.generateCollectionVariants = generateCollectionVariants;
+	}
+
+	public Boolean isGenerateStreamingMethods() {
+		return myState.generateStreamingMethods;
+	}
+
+	public void setGenerateStreamingMethods(Boolean generateStreamingMethods) {
+		myState.generateStreamingMethods = generateStreamingMethods;
+	}
+
+	public Boolean isGenerateParallelListMethod() {
+		return myState.generateParallelListMethod;
+	}
+
+	public void setGenerateParallelListMethod(Boolean generateParallelListMethod) {
+		myState.generateParallelListMethod = generateParallelListMethod;
+	}
+
+	public Integer getParallelThreshold() {
+		return myState.parallelThreshold;
+	}
+
+	public void setParallelThreshold(Integer parallelThreshold) {
+		myState.parallelThreshold = parallelThreshold;
+	}
+
+	public Boolean isGenerateUpdateMethod() {
+		return myState.generateUpdateMethod;
+	}
+
+	public void setGenerateUpdateMethod(Boolean generateUpdateMethod) {
+		myState.generateUpdateMethod = generateUpdateMethod;
+	}
+
+	public Boolean isGeneratePatchMethod() {
+		return myState.generatePatchMethod;
+	}
+
+	public void setGeneratePatchMethod(Boolean generatePatchMethod) {
+		myState.generatePatchMethod = generatePatchMethod;
+	}
+
+	public List<String> getConverterClassNames() {
+		return myState.converterClassNames;
+	}
+
+	public void setConverterClassNames(List<String> converterClassNames) {
+		myState.converterClassNames = converterClassNames;
+	}
+
+	/**
+	 * 등록된 사용자 변환 클래스를 찾습니다. 찾지 못한 이름은 건너뜁니다.
+	 * 인덱싱 중(dumb mode)에는 클래스를 찾을 수 없으므로 빈 목록을 반환합니다. 읽기 작업 안에서 호출해야 합니다.
+	 * @return 변환 클래스 목록
+	 */
+	public List<PsiClass> findConverterClasses() {
+		List<String> classNames = myState.converterClassNames;
+		if (classNames == null || classNames.isEmpty() || DumbService.isDumb(project)) {
+			return List.of();
+		}
+		List<PsiClass> converterClasses = new ArrayList<>(classNames.size());
+		for (String className : classNames) {
+			PsiClass converterClass = resolveClass(className, null);
+			if (converterClass != null) {
+				converterClasses.add(converterClass);
+			}
+		}
+		return converterClasses;
+	}
+
+	public Boolean isNestedMapping() {
+		return myState.nestedMapping;
+	}
+
+	public void setNestedMapping(Boolean nestedMapping) {
+		myState.nestedMapping = nestedMapping;
+	}
+
+	public Boolean isNestedCycleGuard() {
+		return myState.nestedCycleGuard;
+	}
+
+	public void setNestedCycleGuard(Boolean nestedCycleGuard) {
+		myState.nestedCycleGuard = nestedCycleGuard;
+	}
+
+	/**
+	 * 중첩 객체 매핑 설정을 만듭니다. 하위 매퍼는 각 Mapper 클래스 안에 생성됩니다.
+	 * @return 중첩 매핑 설정, 옵션이 꺼져 있으면 null
+	 */
+	public NestedMapperRegistry createNestedMappers() {
+		if (!Boolean.TRUE.equals(myState.nestedMapping)) {
+			return null;
+		}
+		return NestedMapperRegistry.perMapper(new ProjectNestedClassResolver(project),
+			Boolean.TRUE.equals(myState.nestedCycleGuard));
+	}
+
+	public Boolean isPreferConstructor() {
+		return myState.preferConstructor;
+	}
+
+	public void setPreferConstructor(Boolean preferConstructor) {
+		myState.preferConstructor = preferConstructor;
+	}
+
+	public Boolean isGenerateFieldMaskMethod() {
+		return myState.generateFieldMaskMethod;
+	}
+
+	public void setGenerateFieldMaskMethod(Boolean generateFieldMaskMethod) {
+		myState.generateFieldMaskMethod = generateFieldMaskMethod;
+	}
+
+	public List<String> getIntermediateClassQualifiedNames() {
+		return myState.intermediateClassQualifiedNames;
+	}
+
+	public void setIntermediateClassQualifiedNames(List<String> intermediateClassQualifiedNames) {
+		myState.intermediateClassQualifiedNames = intermediateClassQualifiedNames;
+	}
+
+	/**
+	 * 등록된 중간 클래스를 체인 순서대로 찾습니다. 읽기 작업 안에서 호출해야 합니다.
+	 * 변환 결과가 체인 전체에 의존하므로, 하나라도 찾지 못하면 (인덱싱 중 포함) 일부만 사용하지 않고 null을 반환합니다.
+	 * @return 중간 클래스 목록 (등록된 클래스가 없으면 빈 목록), 찾지 못한 클래스가 있으면 null
+	 */
+	public @Nullable List<PsiClass> findIntermediateClasses() {
+		return resolveAllClasses(myState.intermediateClassQualifiedNames);
+	}
+
+	public List<String> getFanOutTargetClassQualifiedNames() {
+		return myState.fanOutTargetClassQualifiedNames;
+	}
+
+	public void setFanOutTargetClassQualifiedNames(List<String> fanOutTargetClassQualifiedNames) {
+		myState.fanOutTargetClassQualifiedNames = fanOutTargetClassQualifiedNames;
+	}
+
+	/**
+	 * 락온 대상과 함께 한 번에 변환할 추가 대상 클래스를 등록 순서대로 찾습니다. 읽기 작업 안에서 호출해야 합니다.
+	 * @return 추가 대상 클래스 목록 (등록된 클래스가 없으면 빈 목록), 찾지 못한 클래스가 있으면 null
+	 */
+	public @Nullable List<PsiClass> findFanOutTargetClasses() {
+		return resolveAllClasses(myState.fanOutTargetClassQualifiedNames);
+	}
+
+	/**
+	 * @return 이름 순서대로 찾은 클래스 (이름이 없으면 빈 목록), 하나라도 찾지 못하면 (인덱싱 중 포함) null
+	 */
+	private @Nullable List<PsiClass> resolveAllClasses(List<String> classNames) {
+		if (classNames == null || classNames.isEmpty()) {
+			return List.of();
+		}
+		if (DumbService.isDumb(project)) {
+			return null;
+		}
+		List<PsiClass> classes = new ArrayList<>(classNames.size());
+		for (String className : classNames) {
+			PsiClass psiClass = resolveClass(className, null);
+			if (psiClass == null) {
+				return null;
+			}
+			classes.add(psiClass);
+		}
+		return classes;
+	}
+
 	// 플러그인 서비스 인스턴스를 얻기 위한 static 헬퍼 메소드
 	// IntelliJ 버전별로 ServiceManager 또는 PluginManagerCore 사용
 	public static MappingPluginState getInstance(Project project) {
@@ -0,0 +1,100 @@
+package com.maker.ui;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import com.intellij.diff.DiffContentFactory;
+import com.intellij.diff.DiffManager;
+import com.intellij.diff.requests.SimpleDiffRequest;
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.command.CommandProcessor;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.fileEditor.FileDocumentManager;
+import com.intellij.openapi.fileEditor.FileEditorManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.testFramework.LightVirtualFile;
+
+/**
+ * 생성된 코드를 에디터 탭으로 보여주는 프로젝트 서비스입니다.
+ * 소스/대상 클래스 쌍마다 미리보기 문서를 하나만 두고, 다시 생성하면 같은 문서를 제자리에서 갱신합니다.
+ * 탭이 닫힌 쌍의 문서는 다음 표시 때 정리되므로 반복 생성해도 문서가 쌓이지 않습니다.
+ */
+public class GeneratedCodePreviewService implements Disposable {
+
+	private final Project project;
+
+	// 소스 FQN + 대상 FQN → 미리보기 파일 (EDT에서만 접근)
+	private final Map<String, LightVirtualFile> previewFiles = new HashMap<>();
+
+	public GeneratedCodePreviewService(Project project) {
+		this.project = project;
+	}
+
+	public static GeneratedCodePreviewService getInstance(Project project) {
+		return project.getService(GeneratedCodePreviewService.class);
+	}
+
+	/**
+	 * 소스/대상 쌍의 미리보기 문서에 생성된 코드를 표시합니다. EDT에서 호출해야 합니다.
+	 * 문서가 이미 있으면 내용만 바꾸고 기존 탭을 다시 선택하며, 없으면 새로 만들어 엽니다.
+	 * 파일 타입이 Java이므로 에디터에서 문법 강조가 적용됩니다.
+	 *
+	 * @param sourceClassQName 소스 클래스 FQN
+	 * @param targetClassQName 대상 클래스 FQN
+	 * @param fileName 처음 만들 때 사용할 파일 이름
+	 * @param code 생성된 Java 코드 문자열
+	 * @param showDiff 이전 생성 결과와 달라졌다면 Diff 창도 함께 표시할지 여부
+	 */
+	public void show(String sourceClassQName, String targetClassQName, String fileName, String code, boolean showDiff) {
+		String key = sourceClassQName + "->" + targetClassQName;
+		releaseClosedPreviews(key);
+
+		LightVirtualFile previewFile = previewFiles.get(key);
+		Document document = previewFile != null ? FileDocumentManager.getInstance().getDocument(previewFile) : null;
+		if (document == null) {
+			// 새 문서는 쓰기 작업 없이 만들고 열 수 있습니다.
+			previewFile = new LightVirtualFile(fileName, JavaFileType.INSTANCE, code);
+			previewFiles.put(key, previewFile);
+			FileEditorManager.getInstance(project).openFile(previewFile, true);
+			return;
+		}
+
+		String previousCode = document.getText();
+		if (!previousCode.equals(code)) {
+			// 미리보기 문서 갱신은 실행 취소 기록이 필요 없으므로 undo 투명 쓰기 작업으로 처리
+			CommandProcessor.getInstance().runUndoTransparentAction(
+				() -> ApplicationManager.getApplication().runWriteAction(() -> document.setText(code)));
+		}
+		FileEditorManager.getInstance(project).openFile(previewFile, true);
+
+		if (showDiff && !previousCode.equals(code)) {
+			DiffContentFactory contentFactory = DiffContentFactory.getInstance();
+			DiffManager.getInstance().showDiff(project, new SimpleDiffRequest(fileName + " (changes since previous shot)",
+				contentFactory.create(project, previousCode, JavaFileType.INSTANCE),
+				contentFactory.create(project, code, JavaFileType.INSTANCE),
+				"Previous Generation", "Current Generation"));
+		}
+	}
+
+	/**
+	 * 탭이 닫힌 다른 쌍의 미리보기 파일을 놓아 주어 문서가 메모리에 남지 않도록 합니다.
+	 */
+	private void releaseClosedPreviews(String currentKey) {
+		FileEditorManager fileEditorManager = FileEditorManager.getInstance(project);
+		Iterator<Map.Entry<String, LightVirtualFile>> iterator = previewFiles.entrySet().iterator();
+		while (iterator.hasNext()) {
+			Map.Entry<String, LightVirtualFile> entry = iterator.next();
+			if (!entry.getKey().equals(currentKey) && !fileEditorManager.isFileOpen(entry.getValue())) {
+				iterator.remove();
+			}
+		}
+	}
+
+	@Override
+	public void dispose() {
+		previewFiles.clear();
+	}
+}
@@ -0,0 +1,208 @@
+package com.maker.ui;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.jetbrains.annotations.NotNull;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ModalityState;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Disposer;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiCodeBlock;
+import com.intellij.psi.PsiComment;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiRecordComponent;
+import com.intellij.psi.PsiTreeChangeAdapter;
+import com.intellij.psi.PsiTreeChangeEvent;
+import com.intellij.psi.PsiWhiteSpace;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.util.Alarm;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import com.maker.state.MappingPluginState;
+
+/**
+ * 라이브 미리보기: 로드된 소스/락온된 대상 클래스(와 상위 타입) 파일의 PSI 변경을 감지하여
+ * 생성 코드를 자동으로 갱신합니다. 변경은 잠시 모았다가(debounce) 한 번에 처리하며,
+ * 필드/접근자 단위 변경이면 해당 필드의 매핑 줄만, 클래스 구조 변경이면 전체를 다시 생성합니다.
+ */
+final class LivePreviewController implements Disposable {
+
+	private static final int DEBOUNCE_DELAY_MS = 300;
+
+	private final Project project;
+	private final MappingToolWindowContentPanel panel;
+	private final Alarm alarm;
+
+	// 아래 필드는 모두 EDT에서만 접근합니다 (PSI 변경 이벤트도 EDT에서 전달됨)
+	private boolean enabled;
+	private MappingPreview preview;
+	private final Set<String> changedFieldNames = new LinkedHashSet<>();
+	private boolean structureChanged;
+
+	LivePreviewController(@NotNull Project project, @NotNull MappingToolWindowContentPanel panel,
+		@NotNull Disposable parentDisposable) {
+		this.project = project;
+		this.panel = panel;
+		Disposer.register(parentDisposable, this);
+		this.alarm = new Alarm(this);
+		PsiManager.getInstance(project).addPsiTreeChangeListener(new PreviewPsiListener(), this);
+	}
+
+	void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+		if (!enabled) {
+			alarm.cancelAllRequests();
+		}
+	}
+
+	/**
+	 * Shot으로 전체 코드가 새로 생성되었을 때 호출됩니다. 이후 변경은 이 스냅샷을 기준으로 반영합니다.
+	 */
+	void previewGenerated(@NotNull MappingPreview generatedPreview) {
+		preview = generatedPreview;
+		changedFieldNames.clear();
+		structureChanged = false;
+		alarm.cancelAllRequests();
+	}
+
+	/**
+	 * 코드 뷰어에 매핑 코드가 아닌 다른 코드(프로젝션 등)가 표시되었을 때 호출됩니다. 다음 Shot 전까지 갱신하지 않습니다.
+	 */
+	void clearPreview() {
+		preview = null;
+		changedFieldNames.clear();
+		structureChanged = false;
+		alarm.cancelAllRequests();
+	}
+
+	private void onPsiChange(PsiTreeChangeEvent event) {
+		if (!enabled || preview == null) {
+			return;
+		}
+		PsiFile file = event.getFile();
+		VirtualFile virtualFile = file != null ? file.getVirtualFile() : null;
+		if (virtualFile == null || !preview.getWatchedFiles().contains(virtualFile)) {
+			return; // 감시 대상이 아닌 파일의 변경은 무시
+		}
+
+		// 추가/삭제된 요소가 멤버 자체라면 그 멤버를, 아니면 변경된 부모를 기준으로 판단
+		// (삭제된 하위 요소는 트리에서 분리되어 상위 멤버를 찾을 수 없음)
+		PsiElement child = event.getChild();
+		PsiElement changed = child instanceof PsiField || child instanceof PsiRecordComponent
+			|| child instanceof PsiMethod ? child : event.getParent();
+		if (changed == null) {
+			changed = event.getElement();
+		}
+		if (changed == null || changed instanceof PsiFile || changed instanceof PsiWhiteSpace
+			|| changed instanceof PsiComment) {
+			return;
+		}
+
+		PsiElement member = PsiTreeUtil.getParentOfType(changed, false, PsiField.class, PsiRecordComponent.class,
+			PsiMethod.class);
+		if (member instanceof PsiField) {
+			changedFieldNames.add(((PsiField)member).getName());
+		} else if (member instanceof PsiRecordComponent) {
+			changedFieldNames.add(((PsiRecordComponent)member).getName());
+		} else if (member instanceof PsiMethod) {
+			PsiCodeBlock body = ((PsiMethod)member).getBody();
+			if (body != null && PsiTreeUtil.isAncestor(body, changed, false)) {
+				return; // 메소드 본문 변경은 매핑 코드에 영향 없음
+			}
+			// 메소드 시그니처 변경: 접근자 이름이 바뀌었을 수 있으므로 전체를 다시 생성
+			structureChanged = true;
+		} else if (changed instanceof PsiCodeBlock) {
+			return;
+		} else {
+			// 클래스 이름, 상속 관계 등 구조 변경
+			structureChanged = true;
+		}
+
+		alarm.cancelAllRequests();
+		alarm.addRequest(this::regenerate, DEBOUNCE_DELAY_MS);
+	}
+
+	private void regenerate() {
+		MappingPreview base = preview;
+		if (!enabled || base == null || (!structureChanged && changedFieldNames.isEmpty())) {
+			return;
+		}
+		boolean regenerateAll = structureChanged;
+		Set<String> fieldNames = new LinkedHashSet<>(changedFieldNames);
+		MappingPluginState state = MappingPluginState.getInstance(project);
+
+		ReadAction.nonBlocking(() -> {
+				PsiClass sourceClass = state.findSourceClass();
+				PsiClass targetClass = state.findTargetClass();
+				if (sourceClass == null || targetClass == null) {
+					return null;
+				}
+				return regenerateAll
+					? base.regenerateAll(project, sourceClass, targetClass)
+					: base.regenerateFields(sourceClass, targetClass, fieldNames);
+			})
+			.coalesceBy(this)
+			.expireWith(this)
+			.finishOnUiThread(ModalityState.stateForComponent(panel), updated -> {
+				if (updated == null || preview != base) {
+					return; // 그 사이 새로 Shot 했다면 이 결과는 버림
+				}
+				// 처리한 변경만 지움 (처리 중에 들어온 변경은 다음 갱신에서 반영)
+				changedFieldNames.removeAll(fieldNames);
+				if (regenerateAll) {
+					structureChanged = false;
+				}
+				preview = updated;
+				if (updated != base) {
+					panel.updateGeneratedCode(updated.toCode());
+					panel.showEstimatedBytecodeSize(updated);
+				}
+			})
+			.submit(AppExecutorUtil.getAppExecutorService());
+	}
+
+	@Override
+	public void dispose() {
+		preview = null;
+	}
+
+	private final class PreviewPsiListener extends PsiTreeChangeAdapter {
+		@Override
+		public void childAdded(@NotNull PsiTreeChangeEvent event) {
+			onPsiChange(event);
+		}
+
+		@Override
+		public void childRemoved(@NotNull PsiTreeChangeEvent event) {
+			onPsiChange(event);
+		}
+
+		@Override
+		public void childReplaced(@NotNull PsiTreeChangeEvent event) {
+			onPsiChange(event);
+		}
+
+		@Override
+		public void childrenChanged(@NotNull PsiTreeChangeEvent event) {
+			onPsiChange(event);
+		}
+
+		@Override
+		public void childMoved(@NotNull PsiTreeChangeEvent event) {
+			onPsiChange(event);
+		}
+
+		@Override
+		public void propertyChanged(@NotNull PsiTreeChangeEvent event) {
+			onPsiChange(event);
+		}
+	}
+}
@@ -0,0 +1,280 @@
+package com.maker.ui;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.util.InheritanceUtil;
+import com.intellij.psi.util.PsiUtilCore;
+import com.maker.engine.MappingClassModel;
+import com.maker.engine.MappingCodeGenerator;
+import com.maker.engine.MappingOptions;
+import com.maker.entity.CodeType;
+import com.maker.entity.MethodResult;
+import com.maker.psi.ClassFieldIndex;
+
+/**
+ * Tool Window에 표시된 생성 코드의 스냅샷입니다.
+ * 메소드 머리/꼬리와 필드별 매핑 줄을 나누어 보관하므로, 라이브 미리보기에서 변경된 필드의 줄만 교체할 수 있습니다.
+ * 불변 객체이며 백그라운드 읽기 작업에서 생성됩니다.
+ */
+final class MappingPreview {
+
+	private final CodeType requestedCodeType; // 사용자가 고른 코드 형태 (전체 재생성 시 다시 판단)
+	private final CodeType codeType; // 대상 클래스에 맞게 바꾼 실제 코드 형태
+	private final Set<String> includedTargetFieldNames;
+	private final boolean generateListMethod;
+	private final MappingOptions options; // 생성 시점의 옵션 (이후 변경하지 않음)
+	private final MappingClassModel sourceModel; // 메소드 분할 시 머리/보조 메소드 생성용
+	private final MappingClassModel targetModel;
+
+	private final String header;
+	private final Map<String, String> fieldLines; // 대상 필드 이름 → 매핑 줄 (생성 순서 유지)
+	private final String footer;
+	private final String additionalMethodCode; // 제자리 갱신 등 부가 메소드와 보조 멤버 (없으면 null)
+	private final String listMethodCode;
+	private final Set<VirtualFile> watchedFiles; // 소스/대상 클래스와 상위 타입이 속한 파일
+	private final int estimatedBytecodeSize; // 나누지 않은 변환 메소드의 예상 바이트코드 크기
+
+	private MappingPreview(CodeType requestedCodeType, CodeType codeType, Set<String> includedTargetFieldNames,
+		boolean generateListMethod, MappingOptions options, MappingClassModel sourceModel, MappingClassModel targetModel,
+		String header, Map<String, String> fieldLines, String footer, String additionalMethodCode,
+		String listMethodCode, Set<VirtualFile> watchedFiles) {
+		this.requestedCodeType = requestedCodeType;
+		this.codeType = codeType;
+		this.includedTargetFieldNames = includedTargetFieldNames;
+		this.generateListMethod = generateListMethod;
+		this.options = options;
+		this.sourceModel = sourceModel;
+		this.targetModel = targetModel;
+		this.header = header;
+		this.fieldLines = fieldLines;
+		this.footer = footer;
+		this.additionalMethodCode = additionalMethodCode;
+		this.listMethodCode = listMethodCode;
+		this.watchedFiles = watchedFiles;
+		this.estimatedBytecodeSize = MappingCodeGenerator.estimateBytecodeSize(fieldLines.values());
+	}
+
+	/**
+	 * 전체 매핑 코드를 생성합니다. 읽기 작업 안에서 호출해야 합니다.
+	 * 고른 코드 형태를 대상 클래스에서 쓸 수 없다면(예: 정식 생성자가 없음) 쓸 수 있는 형태로 바꾸어 생성합니다.
+	 */
+	static MappingPreview create(Project project, PsiClass sourceClass, PsiClass targetClass,
+		Set<String> includedTargetFieldNames, CodeType requestedCodeType, boolean generateListMethod,
+		MappingOptions options) {
+		// 캐시된 필드 색인에서 매핑 엔진 모델을 꺼냄
+		MappingClassModel sourceModel = ClassFieldIndex.modelOf(sourceClass);
+		MappingClassModel targetModel = ClassFieldIndex.modelOf(targetClass);
+		CodeType codeType = MappingCodeGenerator.resolveCodeType(requestedCodeType, targetModel);
+
+		// 머리 부분 (주석, 시그니처, null 체크)
+		MethodResult headerResult = generateHeader(sourceModel, targetModel, codeType, options);
+		String footer;
+		if (codeType == CodeType.BUILDER) {
+			footer = MappingCodeGenerator.builderFooter();
+		} else if (codeType == CodeType.CONSTRUCTOR) {
+			footer = MappingCodeGenerator.constructorFooter();
+		} else { // codeType == CodeType.GETTER_SETTER
+			footer = MappingCodeGenerator.getterSetterFooter(targetModel);
+		}
+
+		// 필드별 매핑 줄 (생성자 호출이라면 선택하지 않은 필드를 포함한 매개변수별 인자 줄과 매개변수가 아닌 필드의 주석 줄)
+		Map<String, String> fieldLines = generateFieldLines(sourceModel, targetModel,
+			codeType == CodeType.CONSTRUCTOR
+				? MappingCodeGenerator.constructorLineFieldNames(targetModel, includedTargetFieldNames)
+				: includedTargetFieldNames,
+			includedTargetFieldNames, codeType, options);
+
+		// 제자리 갱신 등 부가 메소드 코드 생성 (옵션 선택 시)
+		String additionalMethodCode = generateAdditionalMethodCode(sourceModel, targetModel, includedTargetFieldNames,
+			options);
+
+		// List 변환 메소드 코드 생성 (체크박스 선택 시, 옵션에 따라 Set/Map/배열 변환 메소드 포함)
+		String listMethodCode = null;
+		if (generateListMethod) {
+			listMethodCode = String.join("\n", MappingCodeGenerator.generateCollectionMethods(sourceModel, targetModel,
+				options, headerResult.methodName()));
+		}
+
+		return new MappingPreview(requestedCodeType, codeType,
+			Collections.unmodifiableSet(new LinkedHashSet<>(includedTargetFieldNames)),
+			generateListMethod, options, sourceModel, targetModel, headerResult.generatedCode(), fieldLines,
+			footer, additionalMethodCode, listMethodCode, collectWatchedFiles(sourceClass, targetClass));
+	}
+
+	/**
+	 * 같은 옵션으로 전체 매핑 코드를 다시 생성합니다. (클래스 구조가 바뀐 경우)
+	 */
+	MappingPreview regenerateAll(Project project, PsiClass sourceClass, PsiClass targetClass) {
+		return create(project, sourceClass, targetClass, includedTargetFieldNames, requestedCodeType,
+			generateListMethod, options);
+	}
+
+	/**
+	 * 지정한 필드의 매핑 줄만 다시 생성하고 나머지 줄은 그대로 재사용합니다.
+	 * 색인을 다시 만들지 않고 변경된 필드만 PSI에서 직접 조회한 부분 모델을 사용합니다. 읽기 작업 안에서 호출해야 합니다.
+	 */
+	MappingPreview regenerateFields(PsiClass sourceClass, PsiClass targetClass, Set<String> changedFieldNames) {
+		Set<String> affected = new LinkedHashSet<>(changedFieldNames);
+		affected.retainAll(includedTargetFieldNames);
+		if (affected.isEmpty()) {
+			return this;
+		}
+
+		MappingClassModel changedSourceModel = ClassFieldIndex.partialModelOf(sourceClass, affected);
+		MappingClassModel changedTargetModel = ClassFieldIndex.partialModelOf(targetClass, affected);
+		Map<String, String> changedLines = generateFieldLines(changedSourceModel, changedTargetModel, affected,
+			includedTargetFieldNames, codeType, options);
+		Map<String, String> mergedLines = new LinkedHashMap<>(fieldLines);
+		mergedLines.putAll(changedLines); // 기존 키의 순서는 유지됨
+
+		// 바뀐 필드가 새로 하위 매퍼를 호출한다면 머리 부분이 순환 방지용 IdentityHashMap을 선언하도록 다시 생성
+		String regeneratedHeader = header;
+		if (MappingCodeGenerator.usesMappedObjects(changedSourceModel, changedTargetModel, affected, options)) {
+			regeneratedHeader = generateHeader(changedSourceModel, changedTargetModel, codeType, options)
+				.generatedCode();
+		}
+
+		// 부가 메소드와 보조 멤버(enum 변환 등)는 포함된 필드 전체에 의존하므로 포함된 필드만 담은 부분 모델로 다시 생성
+		String regeneratedAdditionalMethodCode = generateAdditionalMethodCode(
+			ClassFieldIndex.partialModelOf(sourceClass, includedTargetFieldNames),
+			ClassFieldIndex.partialModelOf(targetClass, includedTargetFieldNames), includedTargetFieldNames, options);
+		return new MappingPreview(requestedCodeType, codeType, includedTargetFieldNames, generateListMethod, options,
+			sourceModel,
+			targetModel, regeneratedHeader, Collections.unmodifiableMap(mergedLines), footer,
+			regeneratedAdditionalMethodCode,
+			listMethodCode, watchedFiles);
+	}
+
+	private static MethodResult generateHeader(MappingClassModel sourceModel, MappingClassModel targetModel,
+		CodeType codeType, MappingOptions options) {
+		if (codeType == CodeType.BUILDER) {
+			return MappingCodeGenerator.generateBuilderHeader(sourceModel, targetModel, options);
+		}
+		if (codeType == CodeType.CONSTRUCTOR) {
+			return MappingCodeGenerator.generateConstructorHeader(sourceModel, targetModel, options);
+		}
+		return MappingCodeGenerator.generateGetterSetterHeader(sourceModel, targetModel, options);
+	}
+
+	private static String generateAdditionalMethodCode(MappingClassModel sourceModel, MappingClassModel targetModel,
+		Set<String> includedTargetFieldNames, MappingOptions options) {
+		List<String> methods = MappingCodeGenerator.generateAdditionalMethods(sourceModel, targetModel,
+			includedTargetFieldNames, options);
+		return methods.isEmpty() ? null : String.join("\n", methods);
+	}
+
+	/**
+	 * @param targetFieldNames 줄을 만들 대상 필드 (생성자 호출이라면 생성자 매개변수)
+	 * @param includedTargetFieldNames 선택된 필드 (선택하지 않은 생성자 매개변수에는 기본값을 넘김)
+	 */
+	private static Map<String, String> generateFieldLines(MappingClassModel sourceModel,
+		MappingClassModel targetModel, Collection<String> targetFieldNames, Set<String> includedTargetFieldNames,
+		CodeType codeType, MappingOptions options) {
+		Map<String, String> lines = new LinkedHashMap<>();
+		for (String targetFieldName : targetFieldNames) {
+			options.getCancellationCheck().run();
+			String line;
+			if (codeType == CodeType.BUILDER) {
+				line = MappingCodeGenerator.generateBuilderFieldLine(sourceModel, targetModel, targetFieldName, options);
+			} else if (codeType == CodeType.CONSTRUCTOR) {
+				line = MappingCodeGenerator.generateConstructorArgumentLine(sourceModel, targetModel, targetFieldName,
+					includedTargetFieldNames.contains(targetFieldName), options);
+			} else { // codeType == CodeType.GETTER_SETTER
+				line = MappingCodeGenerator.generateGetterSetterFieldLine(sourceModel, targetModel, targetFieldName,
+					options);
+			}
+			lines.put(targetFieldName, line);
+		}
+		return Collections.unmodifiableMap(lines);
+	}
+
+	private static Set<VirtualFile> collectWatchedFiles(PsiClass sourceClass, PsiClass targetClass) {
+		Set<VirtualFile> files = new LinkedHashSet<>();
+		for (PsiClass psiClass : List.of(sourceClass, targetClass)) {
+			Set<PsiClass> hierarchy = new LinkedHashSet<>();
+			hierarchy.add(psiClass);
+			InheritanceUtil.getSuperClasses(psiClass, hierarchy, true);
+			for (PsiClass member : hierarchy) {
+				VirtualFile file = PsiUtilCore.getVirtualFile(member);
+				if (file != null) {
+					files.add(file);
+				}
+			}
+		}
+		return Collections.unmodifiableSet(files);
+	}
+
+	Set<VirtualFile> getWatchedFiles() {
+		return watchedFiles;
+	}
+
+	/**
+	 * @return 실제로 생성한 코드 형태
+	 */
+	CodeType getCodeType() {
+		return codeType;
+	}
+
+	/**
+	 * @return 고른 코드 형태를 대상 클래스에서 쓸 수 없어 다른 형태로 생성했는지 여부
+	 */
+	boolean isCodeTypeFallback() {
+		return codeType != requestedCodeType;
+	}
+
+	CodeType getRequestedCodeType() {
+		return requestedCodeType;
+	}
+
+	String getTargetClassName() {
+		return targetModel.name();
+	}
+
+	int getEstimatedBytecodeSize() {
+		return estimatedBytecodeSize;
+	}
+
+	/**
+	 * @return 예상 크기가 메소드 크기 한도를 넘어 변환 메소드를 보조 메소드로 나누는지 여부 (생성자 호출은 나누지 않음)
+	 */
+	boolean isSplit() {
+		return codeType != CodeType.CONSTRUCTOR && options.getMethodSizeLimit() > 0
+			&& estimatedBytecodeSize > options.getMethodSizeLimit();
+	}
+
+	/**
+	 * @return 머리 + 필드별 줄 + 꼬리 (+ 부가 메소드, List 변환 메소드)를 조합한 코드
+	 */
+	String toCode() {
+		StringBuilder fullCodeBuilder = new StringBuilder();
+		if (isSplit()) {
+			fullCodeBuilder.append(MappingCodeGenerator.assembleMethod(sourceModel, targetModel, codeType,
+				new ArrayList<>(fieldLines.values()), options));
+		} else {
+			fullCodeBuilder.append(header);
+			for (String line : fieldLines.values()) {
+				fullCodeBuilder.append(line);
+			}
+			fullCodeBuilder.append(footer);
+		}
+		if (additionalMethodCode != null) {
+			fullCodeBuilder.append("\n");
+			fullCodeBuilder.append(additionalMethodCode);
+		}
+		if (listMethodCode != null) {
+			fullCodeBuilder.append("\n"); // 메소드 사이에 줄바꿈 추가
+			fullCodeBuilder.append(listMethodCode); // List 변환 메소드 추가
+		}
+		return fullCodeBuilder.toString();
+	}
+}
@@ -6,6 +6,7 @@ import java.awt.datatransfer.StringSelection;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -13,51 +14,114 @@ import java.util.Map;
 import java.util.Set;
 
 import javax.swing.*;
+import javax.swing.event.ChangeEvent;
+import javax.swing.event.ChangeListener;
+import javax.swing.event.DocumentEvent;
 import javax.swing.event.ListSelectionEvent;
 import javax.swing.event.ListSelectionListener;
 
-import org.apache.commons.lang3.StringUtils;
+import org.jetbrains.concurrency.CancellablePromise;
 
+import com.intellij.ide.highlighter.JavaFileType;
 import com.intellij.notification.NotificationGroupManager;
 import com.intellij.notification.NotificationType;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ModalityState;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.command.CommandProcessor;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.editor.Editor;
+import com.intellij.openapi.editor.EditorFactory;
+import com.intellij.openapi.editor.EditorSettings;
+import com.intellij.openapi.editor.ex.EditorEx;
+import com.intellij.openapi.editor.highlighter.EditorHighlighterFactory;
+import com.intellij.openapi.progress.ProgressManager;
 import com.intellij.openapi.project.Project;
-import com.intellij.psi.JavaPsiFacade;
+import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.psi.PsiClass;
-import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.ui.DocumentAdapter;
 import com.intellij.ui.components.JBLabel;
+import com.intellij.util.concurrency.AppExecutorUtil;
 import com.intellij.util.ui.FormBuilder;
-import com.maker.action.GenerateGetterSetterMappingCodeAction;
 import com.maker.action.GenerateMappingCodeAction;
-import com.maker.entity.MethodResult;
+import com.maker.action.WriteMappersIntoClassAction;
+import com.maker.engine.FanOutMethodGenerator;
+import com.maker.engine.MappingClassModel;
+import com.maker.engine.MappingCodeGenerator;
+import com.maker.engine.MappingOptions;
+import com.maker.engine.ProjectionGenerator;
+import com.maker.entity.CodeType;
+import com.maker.entity.LazyAssociationPolicy;
+import com.maker.entity.ListMappingStrategy;
+import com.maker.entity.ProjectionStyle;
+import com.maker.psi.ClassFieldIndex;
+import com.maker.psi.ProjectNestedClassResolver;
 import com.maker.state.MappingPluginState;
 
 /**
  * Mapping Plugin Tool Window의 실제 UI 패널입니다.
  * 로드된 클래스 이름 등을 표시하고, 코드 생성 버튼, 필드 목록 및 제거 기능, 생성된 코드 표시 영역을 포함합니다.
  */
-public class MappingToolWindowContentPanel extends JPanel {
+public class MappingToolWindowContentPanel extends JPanel implements Disposable {
 
 	private final Project project;
 
 	// UI 요소들
 	private final JBLabel sourceClassLabel;
 	private final JBLabel targetClassLabel;
+	private final JBLabel intermediateClassesLabel; // 소스와 대상 사이의 중간 클래스 체인
+	private final JBLabel fanOutTargetsLabel; // 락온 대상과 함께 한 번에 변환할 추가 대상
 	private final JBLabel selectedFieldsLabel;
 	private final DefaultListModel<String> fieldListModel;
 	private final JList<String> selectedFieldsList;
+	// 소스 클래스에서 지연 로딩되는 JPA 연관 필드 이름 (필드 목록에 표시)
+	private Set<String> lazyAssociationFieldNames = Set.of();
 
 	private final JButton removeFieldButton;
+	private final JButton clearIntermediateClassesButton;
+	private final JButton clearFanOutTargetsButton;
 	private final JButton generateBuilderButton;
 	private final JButton generateGetterSetterButton;
+	private final JButton generateConstructorButton;
+	private final JButton generateProjectionButton;
+	private final JButton generateFanOutButton;
+	private final JButton writeIntoClassButton;
 	private final JButton copyButton;
 
 	private final JCheckBox generateListMethodCheckBox;
 	private final JCheckBox generateMethodCommentCheckBox;
 	private final JCheckBox gererateAllFieldCheckBox;
+	private final JCheckBox livePreviewCheckBox;
+	private final JCheckBox diffWithPreviousCheckBox;
+	private final JComboBox<ListMappingStrategy> listMappingStrategyComboBox;
+	private final JComboBox<LazyAssociationPolicy> lazyAssociationPolicyComboBox;
+	private final JComboBox<ProjectionStyle> projectionStyleComboBox;
+	private final JTextField converterClassesField; // 사용자 변환 클래스 FQN (쉼표로 구분)
+	private final JCheckBox unmodifiableCollectionsCheckBox;
+	private final JCheckBox generateCollectionVariantsCheckBox;
+	private final JCheckBox generateStreamingMethodsCheckBox;
+	private final JCheckBox generateUpdateMethodCheckBox;
+	private final JCheckBox generatePatchMethodCheckBox;
+	private final JCheckBox generateFieldMaskMethodCheckBox;
+	private final JCheckBox nestedMappingCheckBox;
+	private final JCheckBox nestedCycleGuardCheckBox;
+	private final JCheckBox preferConstructorCheckBox;
+	private final JCheckBox generateParallelListMethodCheckBox;
+	private final JSpinner parallelThresholdSpinner;
 
 	// **생성된 코드를 표시할 UI 요소**
-	private final JTextArea generatedCodeArea; // <-- 생성된 코드 표시 텍스트 영역
+	private final Document generatedCodeDocument; // <-- 생성된 코드 문서
+	private final Editor generatedCodeEditor; // <-- 생성된 코드 표시 뷰어 (보이는 줄만 그리는 읽기 전용 에디터)
 	private final JBLabel generatedCodeLabel; // <-- 생성된 코드 영역 레이블
+	private final JProgressBar generationProgressBar; // 백그라운드 생성 진행 표시
+	private final JBLabel bytecodeSizeLabel; // 변환 메소드의 예상 바이트코드 크기
+
+	// 현재 진행 중인 백그라운드 생성 작업 (새 클릭 시 취소)
+	private CancellablePromise<MappingPreview> generationPromise;
+
+	// 소스/대상 클래스 변경 시 생성 코드를 자동 갱신
+	private final LivePreviewController livePreviewController;
 
 	public MappingToolWindowContentPanel(Project project) {
 		this.project = project;
@@ -65,35 +129,99 @@ public class MappingToolWindowContentPanel extends JPanel {
 		// UI 요소 초기화
 		sourceClassLabel = new JBLabel("Source Class: Not Loaded");
 		targetClassLabel = new JBLabel("Target Class: Not Locked On");
+		intermediateClassesLabel = new JBLabel();
+		fanOutTargetsLabel = new JBLabel();
 		selectedFieldsLabel = new JBLabel("Selected Fields:");
 
 		fieldListModel = new DefaultListModel<>();
 		selectedFieldsList = new JList<>(fieldListModel);
 		selectedFieldsList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+		selectedFieldsList.setCellRenderer(new DefaultListCellRenderer() {
+			@Override
+			public Component getListCellRendererComponent(JList<?> list, Object value, int index, boolean isSelected,
+				boolean cellHasFocus) {
+				super.getListCellRendererComponent(list, value, index, isSelected, cellHasFocus);
+				// 지연 로딩 연관 필드는 설정된 처리 방식과 함께 표시
+				if (lazyAssociationFieldNames.contains(value)) {
+					setText("<html>" + value + " <font color=gray>(lazy association: "
+						+ lazyAssociationPolicyComboBox.getSelectedItem() + ")</font></html>");
+					setToolTipText("Lazy JPA association in the source class; reading its getter may issue a query per entity (N+1)");
+				} else {
+					setToolTipText(null);
+				}
+				return this;
+			}
+		});
 
 		JScrollPane listScrollPane = new JScrollPane(selectedFieldsList);
 		listScrollPane.setPreferredSize(new Dimension(400, 400));
 
 		removeFieldButton = new JButton("Remove Selected Field");
+		clearIntermediateClassesButton = new JButton("Clear Intermediate Classes");
+		clearFanOutTargetsButton = new JButton("Clear Fan-Out Targets");
 
 		generateBuilderButton = new JButton("Generate Builder Code");
 		generateGetterSetterButton = new JButton("Generate Getter/Setter Code");
+		generateConstructorButton = new JButton("Generate Constructor Code");
+		generateProjectionButton = new JButton("Generate Projection + JPQL");
+		generateProjectionButton.setToolTipText(
+			"Generate a projection with only the selected fields and a JPQL query that selects just those columns");
+		generateFanOutButton = new JButton("Generate Fan-Out");
+		generateFanOutButton.setToolTipText(
+			"Generate one method that reads each source getter once and builds the locked-on target and all fan-out targets");
+		writeIntoClassButton = new JButton("Write Into Class...");
 
 		// **생성된 코드 표시 영역 초기화**
 		generatedCodeLabel = new JBLabel("Generated Code:");
-		generatedCodeArea = new JTextArea(200, 40); // 10줄, 40열 텍스트 영역 (크기 조정 필요)
-		generatedCodeArea.setEditable(false); // 편집 불가능
-		generatedCodeArea.setLineWrap(true); // 자동 줄바꿈
-		generatedCodeArea.setWrapStyleWord(true); // 단어 단위 줄바꿈
-		JScrollPane codeScrollPane = new JScrollPane(generatedCodeArea); // 스크롤 가능하도록 JScrollPane 추가
+		// 에디터 기반 읽기 전용 뷰어: 보이는 줄만 렌더링하고 Java 문법 강조를 적용 (줄바꿈 없음)
+		generatedCodeDocument = EditorFactory.getInstance().createDocument("");
+		generatedCodeEditor = EditorFactory.getInstance().createViewer(generatedCodeDocument, project);
+		((EditorEx)generatedCodeEditor).setHighlighter(
+			EditorHighlighterFactory.getInstance().createEditorHighlighter(project, JavaFileType.INSTANCE));
+		EditorSettings editorSettings = generatedCodeEditor.getSettings();
+		editorSettings.setLineNumbersShown(true);
+		editorSettings.setFoldingOutlineShown(false);
+		editorSettings.setUseSoftWraps(false);
+		editorSettings.setAdditionalLinesCount(0);
+		JComponent codeScrollPane = generatedCodeEditor.getComponent(); // 에디터 컴포넌트는 자체 스크롤 영역을 가짐
 		codeScrollPane.setPreferredSize(new Dimension(400, 800));
 		copyButton = new JButton("Copy Code");
 
+		generationProgressBar = new JProgressBar();
+		generationProgressBar.setIndeterminate(true);
+		generationProgressBar.setVisible(false);
+		bytecodeSizeLabel = new JBLabel();
+		bytecodeSizeLabel.setVisible(false);
+
 		generateListMethodCheckBox = new JCheckBox("Generate List Conversion Method");
 		generateMethodCommentCheckBox = new JCheckBox("Include Method Comment");
 		gererateAllFieldCheckBox = new JCheckBox("Generate All Field");
+		livePreviewCheckBox = new JCheckBox("Live Preview (update on source/target change)");
+		diffWithPreviousCheckBox = new JCheckBox("Show Diff Against Previous Shot");
+		listMappingStrategyComboBox = new JComboBox<>(ListMappingStrategy.values());
+		lazyAssociationPolicyComboBox = new JComboBox<>(LazyAssociationPolicy.values());
+		projectionStyleComboBox = new JComboBox<>(ProjectionStyle.values());
+		lazyAssociationPolicyComboBox.setToolTipText(
+			"How generated mappers read lazy JPA associations: GUARD copies only already-loaded values, SKIP leaves them out");
+		converterClassesField = new JTextField();
+		converterClassesField.setToolTipText(
+			"Comma-separated classes whose static one-argument methods are used to convert mismatched field types");
+		unmodifiableCollectionsCheckBox = new JCheckBox("Unmodifiable Collection Result");
+		generateCollectionVariantsCheckBox = new JCheckBox("Also Generate Set/Map/Array Methods");
+		generateStreamingMethodsCheckBox = new JCheckBox("Also Generate Lazy Stream/Iterator/Spliterator Methods");
+		generateUpdateMethodCheckBox = new JCheckBox("Also Generate In-place update<Target> Methods");
+		generatePatchMethodCheckBox = new JCheckBox("Also Generate Null-skipping patch<Target> Method (changed-field mask)");
+		generateFieldMaskMethodCheckBox = new JCheckBox("Also Generate Field-mask gen<Target>(source, mask) Method (sparse fieldsets)");
+		nestedMappingCheckBox = new JCheckBox("Map Nested Objects With Sub-mappers");
+		nestedCycleGuardCheckBox = new JCheckBox("Guard Nested Mapping Against Cycles (IdentityHashMap)");
+		preferConstructorCheckBox = new JCheckBox("Prefer Constructor Over Builder/Setters (Package, Write Into Class, Nested)");
+		generateParallelListMethodCheckBox = new JCheckBox("Also Generate Parallel Chunked List Method, threshold:");
+		parallelThresholdSpinner = new JSpinner(
+			new SpinnerNumberModel(MappingOptions.DEFAULT_PARALLEL_THRESHOLD, 1, Integer.MAX_VALUE, 1_000));
 
 		MappingPluginState state = MappingPluginState.getInstance(project);
+		updateIntermediateClassesLabel(state != null ? state.getIntermediateClassQualifiedNames() : null);
+		updateFanOutTargetsLabel(state != null ? state.getFanOutTargetClassQualifiedNames() : null);
 		if (state != null) {
 			if (state.isGenerateListMethod() != null) {
 				generateListMethodCheckBox.setSelected(state.isGenerateListMethod());
@@ -112,27 +240,163 @@ public class MappingToolWindowContentPanel extends JPanel {
 			}else {
 				gererateAllFieldCheckBox.setSelected(false);
 			}
+
+			if (state.isLivePreview() != null) {
+				livePreviewCheckBox.setSelected(state.isLivePreview());
+			} else {
+				livePreviewCheckBox.setSelected(false);
+			}
+
+			if (state.isDiffWithPreviousGeneration() != null) {
+				diffWithPreviousCheckBox.setSelected(state.isDiffWithPreviousGeneration());
+			} else {
+				diffWithPreviousCheckBox.setSelected(false);
+			}
+
+			if (state.getConverterClassNames() != null) {
+				converterClassesField.setText(String.join(", ", state.getConverterClassNames()));
+			}
+
+			if (state.getListMappingStrategy() != null) {
+				listMappingStrategyComboBox.setSelectedItem(state.getListMappingStrategy());
+			} else {
+				listMappingStrategyComboBox.setSelectedItem(ListMappingStrategy.STREAM); // 기본값: 기존 stream 방식
+			}
+
+			if (state.getLazyAssociationPolicy() != null) {
+				lazyAssociationPolicyComboBox.setSelectedItem(state.getLazyAssociationPolicy());
+			} else {
+				lazyAssociationPolicyComboBox.setSelectedItem(LazyAssociationPolicy.GUARD); // 기본값: 로딩된 경우에만 복사
+			}
+
+			if (state.getProjectionStyle() != null) {
+				projectionStyleComboBox.setSelectedItem(state.getProjectionStyle());
+			} else {
+				projectionStyleComboBox.setSelectedItem(ProjectionStyle.RECORD); // 기본값: record + 생성자 표현식
+			}
+
+			if (state.isUnmodifiableCollections() != null) {
+				unmodifiableCollectionsCheckBox.setSelected(state.isUnmodifiableCollections());
+			} else {
+				unmodifiableCollectionsCheckBox.setSelected(false);
+			}
+
+			if (state.isGenerateCollectionVariants() != null) {
+				generateCollectionVariantsCheckBox.setSelected(state.isGenerateCollectionVariants());
+			} else {
+				generateCollectionVariantsCheckBox.setSelected(false);
+			}
+
+			if (state.isGenerateStreamingMethods() != null) {
+				generateStreamingMethodsCheckBox.setSelected(state.isGenerateStreamingMethods());
+			} else {
+				generateStreamingMethodsCheckBox.setSelected(false);
+			}
+
+			if (state.isGenerateParallelListMethod() != null) {
+				generateParallelListMethodCheckBox.setSelected(state.isGenerateParallelListMethod());
+			} else {
+				generateParallelListMethodCheckBox.setSelected(false);
+			}
+
+			if (state.getParallelThreshold() != null) {
+				parallelThresholdSpinner.setValue(state.getParallelThreshold());
+			}
+
+			if (state.isGenerateUpdateMethod() != null) {
+				generateUpdateMethodCheckBox.setSelected(state.isGenerateUpdateMethod());
+			} else {
+				generateUpdateMethodCheckBox.setSelected(false);
+			}
+
+			if (state.isGeneratePatchMethod() != null) {
+				generatePatchMethodCheckBox.setSelected(state.isGeneratePatchMethod());
+			} else {
+				generatePatchMethodCheckBox.setSelected(false);
+			}
+
+			if (state.isNestedMapping() != null) {
+				nestedMappingCheckBox.setSelected(state.isNestedMapping());
+			} else {
+				nestedMappingCheckBox.setSelected(false);
+			}
+
+			if (state.isNestedCycleGuard() != null) {
+				nestedCycleGuardCheckBox.setSelected(state.isNestedCycleGuard());
+			} else {
+				nestedCycleGuardCheckBox.setSelected(false);
+			}
+
+			if (state.isPreferConstructor() != null) {
+				preferConstructorCheckBox.setSelected(state.isPreferConstructor());
+			} else {
+				preferConstructorCheckBox.setSelected(false);
+			}
+
+			if (state.isGenerateFieldMaskMethod() != null) {
+				generateFieldMaskMethodCheckBox.setSelected(state.isGenerateFieldMaskMethod());
+			} else {
+				generateFieldMaskMethodCheckBox.setSelected(false);
+			}
 		} else {
 			// 상태 로드 실패 시 기본값 설정
 			generateListMethodCheckBox.setSelected(false);
 			generateMethodCommentCheckBox.setSelected(true);
 			gererateAllFieldCheckBox.setSelected(false);
+			livePreviewCheckBox.setSelected(false);
+			diffWithPreviousCheckBox.setSelected(false);
+			listMappingStrategyComboBox.setSelectedItem(ListMappingStrategy.STREAM);
+			lazyAssociationPolicyComboBox.setSelectedItem(LazyAssociationPolicy.GUARD);
+			projectionStyleComboBox.setSelectedItem(ProjectionStyle.RECORD);
+			unmodifiableCollectionsCheckBox.setSelected(false);
+			generateCollectionVariantsCheckBox.setSelected(false);
+			generateStreamingMethodsCheckBox.setSelected(false);
+			generateParallelListMethodCheckBox.setSelected(false);
+			generateUpdateMethodCheckBox.setSelected(false);
+			generatePatchMethodCheckBox.setSelected(false);
+			nestedMappingCheckBox.setSelected(false);
+			nestedCycleGuardCheckBox.setSelected(false);
+			preferConstructorCheckBox.setSelected(false);
+			generateFieldMaskMethodCheckBox.setSelected(false);
 		}
 
+		livePreviewController = new LivePreviewController(project, this, this);
+		livePreviewController.setEnabled(livePreviewCheckBox.isSelected());
+
 		// UI 레이아웃 구성 (FormBuilder 사용 예시)
 		// **UI 레이아웃 구성 (BorderLayout 활용)**
 		// 상단 영역을 담을 패널 생성 (FormBuilder 사용)
 		FormBuilder builder = FormBuilder.createFormBuilder()
 			.addLabeledComponent("Source:", sourceClassLabel)
 			.addLabeledComponent("Target:", targetClassLabel)
+			.addLabeledComponent("Via:", intermediateClassesLabel)
+			.addLabeledComponent("Fan-Out:", fanOutTargetsLabel)
 			.addLabeledComponent(selectedFieldsLabel, listScrollPane) // 필드 목록 스크롤 패널 추가
 			.addComponent(createEditButtonPanel())
 			.addComponent(createGenerateButtonPanel())
 			.addComponent(createCopyButtonPanel())
 			.addComponent(generateListMethodCheckBox)
+			.addComponent(createParallelListPanel())
+			.addLabeledComponent("List Mapping:", listMappingStrategyComboBox)
+			.addLabeledComponent("Lazy Associations:", lazyAssociationPolicyComboBox)
+			.addLabeledComponent("Projection:", projectionStyleComboBox)
+			.addLabeledComponent("Converter Classes:", converterClassesField)
+			.addComponent(unmodifiableCollectionsCheckBox)
+			.addComponent(generateCollectionVariantsCheckBox)
+			.addComponent(generateStreamingMethodsCheckBox)
+			.addComponent(generateUpdateMethodCheckBox)
+			.addComponent(generatePatchMethodCheckBox)
+			.addComponent(generateFieldMaskMethodCheckBox)
+			.addComponent(nestedMappingCheckBox)
+			.addComponent(nestedCycleGuardCheckBox)
+			.addComponent(preferConstructorCheckBox)
 			.addComponent(generateMethodCommentCheckBox)
 			.addComponent(gererateAllFieldCheckBox)
+			.addComponent(livePreviewCheckBox)
+			.addComponent(diffWithPreviousCheckBox)
 			.addComponent(generatedCodeLabel)
+			.addComponent(generationProgressBar)
+			.addComponent(bytecodeSizeLabel)
 			.addComponent(codeScrollPane)
 			.addComponentFillVertically(new JPanel(), 0);// 남은 공간 채우는 컴포넌트 추가 (선택 사항)
 
@@ -163,6 +427,38 @@ public class MappingToolWindowContentPanel extends JPanel {
 			}
 		});
 
+		// 정식 생성자 호출 생성 버튼 리스너 (생성자가 없으면 Builder 또는 Getter/Setter로 생성)
+		generateConstructorButton.addActionListener(new ActionListener() {
+			@Override
+			public void actionPerformed(ActionEvent e) {
+				generateCodeAndDisplay(project, CodeType.CONSTRUCTOR);
+			}
+		});
+
+		// 선택 필드 프로젝션 + JPQL 생성 버튼 리스너
+		generateProjectionButton.addActionListener(new ActionListener() {
+			@Override
+			public void actionPerformed(ActionEvent e) {
+				generateProjectionAndDisplay(project);
+			}
+		});
+
+		// 락온 대상 + 추가 대상 한 번에 변환 버튼 리스너
+		generateFanOutButton.addActionListener(new ActionListener() {
+			@Override
+			public void actionPerformed(ActionEvent e) {
+				generateFanOutAndDisplay(project);
+			}
+		});
+
+		// Mapper 클래스에 직접 쓰기 버튼 리스너
+		writeIntoClassButton.addActionListener(new ActionListener() {
+			@Override
+			public void actionPerformed(ActionEvent e) {
+				WriteMappersIntoClassAction.writeIntoChosenClass(project);
+			}
+		});
+
 		// **Copy 버튼에 ActionListener 추가**
 		copyButton.addActionListener(new ActionListener() {
 			@Override
@@ -198,6 +494,30 @@ public class MappingToolWindowContentPanel extends JPanel {
 			}
 		});
 
+		// 중간 클래스 체인 초기화 (소스에서 대상으로 직접 변환)
+		clearIntermediateClassesButton.addActionListener(new ActionListener() {
+			@Override
+			public void actionPerformed(ActionEvent e) {
+				MappingPluginState state = MappingPluginState.getInstance(project);
+				if (state != null) {
+					state.setIntermediateClassQualifiedNames(null);
+				}
+				updateIntermediateClassesLabel(null);
+			}
+		});
+
+		// 추가 대상 초기화 (락온 대상만 변환)
+		clearFanOutTargetsButton.addActionListener(new ActionListener() {
+			@Override
+			public void actionPerformed(ActionEvent e) {
+				MappingPluginState state = MappingPluginState.getInstance(project);
+				if (state != null) {
+					state.setFanOutTargetClassQualifiedNames(null);
+				}
+				updateFanOutTargetsLabel(null);
+			}
+		});
+
 		// **List 변환 체크박스에 ActionListener 추가**
 		generateListMethodCheckBox.addActionListener(new ActionListener() {
 			@Override
@@ -210,6 +530,93 @@ public class MappingToolWindowContentPanel extends JPanel {
 			}
 		});
 
+		// **컬렉션 변환 방식 콤보박스에 ActionListener 추가**
+		listMappingStrategyComboBox.addActionListener(new ActionListener() {
+			@Override
+			public void actionPerformed(ActionEvent e) {
+				MappingPluginState state = MappingPluginState.getInstance(project);
+				if (state != null) {
+					state.setListMappingStrategy((ListMappingStrategy)listMappingStrategyComboBox.getSelectedItem());
+				}
+			}
+		});
+
+		// **지연 로딩 연관 처리 방식 콤보박스에 ActionListener 추가**
+		lazyAssociationPolicyComboBox.addActionListener(new ActionListener() {
+			@Override
+			public void actionPerformed(ActionEvent e) {
+				MappingPluginState state = MappingPluginState.getInstance(project);
+				if (state != null) {
+					state.setLazyAssociationPolicy((LazyAssociationPolicy)lazyAssociationPolicyComboBox.getSelectedItem());
+				}
+				selectedFieldsList.repaint(); // 필드 목록의 처리 방식 표시 갱신
+			}
+		});
+
+		// **프로젝션 생성 방식 콤보박스에 ActionListener 추가**
+		projectionStyleComboBox.addActionListener(new ActionListener() {
+			@Override
+			public void actionPerformed(ActionEvent e) {
+				MappingPluginState state = MappingPluginState.getInstance(project);
+				if (state != null) {
+					state.setProjectionStyle((ProjectionStyle)projectionStyleComboBox.getSelectedItem());
+				}
+			}
+		});
+
+		// **수정 불가능한 컬렉션 결과 체크박스에 ActionListener 추가**
+		unmodifiableCollectionsCheckBox.addActionListener(new ActionListener() {
+			@Override
+			public void actionPerformed(ActionEvent e) {
+				MappingPluginState state = MappingPluginState.getInstance(project);
+				if (state != null) {
+					state.setUnmodifiableCollections(unmodifiableCollectionsCheckBox.isSelected());
+				}
+			}
+		});
+
+		// **Set/Map/배열 변환 메소드 체크박스에 ActionListener 추가**
+		generateCollectionVariantsCheckBox.addActionListener(new ActionListener() {
+			@Override
+			public void actionPerformed(ActionEvent e) {
+				MappingPluginState state = MappingPluginState.getInstance(project);
+				if (state != null) {
+					state.setGenerateCollectionVariants(generateCollectionVariantsCheckBox.isSelected());
+				}
+			}
+		});
+
+		// **병렬 List 변환 체크박스/임계값에 리스너 추가**
+		generateParallelListMethodCheckBox.addActionListener(new ActionListener() {
+			@Override
+			public void actionPerformed(ActionEvent e) {
+				MappingPluginState state = MappingPluginState.getInstance(project);
+				if (state != null) {
+					state.setGenerateParallelListMethod(generateParallelListMethodCheckBox.isSelected());
+				}
+			}
+		});
+		parallelThresholdSpinner.addChangeListener(new ChangeListener() {
+			@Override
+			public void stateChanged(ChangeEvent e) {
+				MappingPluginState state = MappingPluginState.getInstance(project);
+				if (state != null) {
+					state.setParallelThreshold((Integer)parallelThresholdSpinner.getValue());
+				}
+			}
+		});
+
+		// **지연 변환 메소드 체크박스에 ActionListener 추가**
+		generateStreamingMethodsCheckBox.addActionListener(new ActionListener() {
+			@Override
+			public void actionPerformed(ActionEvent e) {
+				MappingPluginState state = MappingPluginState.getInstance(project);
+				if (state != null) {
+					state.setGenerateStreamingMethods(generateStreamingMethodsCheckBox.isSelected());
+				}
+			}
+		});
+
 		// **메소드 주석 체크박스에 ActionListener 추가**
 		generateMethodCommentCheckBox.addActionListener(new ActionListener() {
 			@Override
@@ -232,6 +639,110 @@ public class MappingToolWindowContentPanel extends JPanel {
 			}
 		});
 
+		// **라이브 미리보기 체크박스에 ActionListener 추가**
+		livePreviewCheckBox.addActionListener(new ActionListener() {
+			@Override
+			public void actionPerformed(ActionEvent e) {
+				MappingPluginState state = MappingPluginState.getInstance(project);
+				if (state != null) {
+					state.setLivePreview(livePreviewCheckBox.isSelected());
+				}
+				livePreviewController.setEnabled(livePreviewCheckBox.isSelected());
+			}
+		});
+
+		// **이전 생성 결과 Diff 체크박스에 ActionListener 추가**
+		diffWithPreviousCheckBox.addActionListener(new ActionListener() {
+			@Override
+			public void actionPerformed(ActionEvent e) {
+				MappingPluginState state = MappingPluginState.getInstance(project);
+				if (state != null) {
+					state.setDiffWithPreviousGeneration(diffWithPreviousCheckBox.isSelected());
+				}
+			}
+		});
+
+		// **제자리 갱신 메소드 체크박스에 ActionListener 추가**
+		generateUpdateMethodCheckBox.addActionListener(new ActionListener() {
+			@Override
+			public void actionPerformed(ActionEvent e) {
+				MappingPluginState state = MappingPluginState.getInstance(project);
+				if (state != null) {
+					state.setGenerateUpdateMethod(generateUpdateMethodCheckBox.isSelected());
+				}
+			}
+		});
+
+		// **patch 메소드 체크박스에 ActionListener 추가**
+		generatePatchMethodCheckBox.addActionListener(new ActionListener() {
+			@Override
+			public void actionPerformed(ActionEvent e) {
+				MappingPluginState state = MappingPluginState.getInstance(project);
+				if (state != null) {
+					state.setGeneratePatchMethod(generatePatchMethodCheckBox.isSelected());
+				}
+			}
+		});
+
+		// **사용자 변환 클래스 입력란에 DocumentListener 추가**
+		converterClassesField.getDocument().addDocumentListener(new DocumentAdapter() {
+			@Override
+			protected void textChanged(DocumentEvent e) {
+				MappingPluginState state = MappingPluginState.getInstance(project);
+				if (state != null) {
+					List<String> classNames = StringUtil.split(converterClassesField.getText(), ",").stream()
+						.map(String::trim)
+						.filter(name -> !name.isEmpty())
+						.toList();
+					state.setConverterClassNames(classNames.isEmpty() ? null : classNames);
+				}
+			}
+		});
+
+		// **중첩 객체 하위 매퍼 체크박스 액션 리스너**
+		nestedMappingCheckBox.addActionListener(new ActionListener() {
+			@Override
+			public void actionPerformed(ActionEvent e) {
+				MappingPluginState state = MappingPluginState.getInstance(project);
+				if (state != null) {
+					state.setNestedMapping(nestedMappingCheckBox.isSelected());
+				}
+			}
+		});
+
+		// **중첩 매핑 순환 방지 체크박스 액션 리스너**
+		nestedCycleGuardCheckBox.addActionListener(new ActionListener() {
+			@Override
+			public void actionPerformed(ActionEvent e) {
+				MappingPluginState state = MappingPluginState.getInstance(project);
+				if (state != null) {
+					state.setNestedCycleGuard(nestedCycleGuardCheckBox.isSelected());
+				}
+			}
+		});
+
+		// **생성자 우선 체크박스 상태 저장**
+		preferConstructorCheckBox.addActionListener(new ActionListener() {
+			@Override
+			public void actionPerformed(ActionEvent e) {
+				MappingPluginState state = MappingPluginState.getInstance(project);
+				if (state != null) {
+					state.setPreferConstructor(preferConstructorCheckBox.isSelected());
+				}
+			}
+		});
+
+		// **필드 마스크 변환 메소드 체크박스에 ActionListener 추가**
+		generateFieldMaskMethodCheckBox.addActionListener(new ActionListener() {
+			@Override
+			public void actionPerformed(ActionEvent e) {
+				MappingPluginState state = MappingPluginState.getInstance(project);
+				if (state != null) {
+					state.setGenerateFieldMaskMethod(generateFieldMaskMethodCheckBox.isSelected());
+				}
+			}
+		});
+
 		// JList 선택 변경 리스너
 		selectedFieldsList.addListSelectionListener(new ListSelectionListener() {
 			@Override
@@ -253,15 +764,31 @@ public class MappingToolWindowContentPanel extends JPanel {
 		JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.LEFT)); // 버튼을 왼쪽에 정렬
 		buttonPanel.add(generateBuilderButton);
 		buttonPanel.add(generateGetterSetterButton);
+		buttonPanel.add(generateConstructorButton);
+		buttonPanel.add(generateProjectionButton);
+		buttonPanel.add(generateFanOutButton);
+		buttonPanel.add(writeIntoClassButton);
 		return buttonPanel;
 	}
 
 	private JPanel createEditButtonPanel() {
 		JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.LEFT)); // 버튼을 왼쪽에 정렬
 		buttonPanel.add(removeFieldButton);
+		buttonPanel.add(clearIntermediateClassesButton);
+		buttonPanel.add(clearFanOutTargetsButton);
 		return buttonPanel;
 	}
 
+	/**
+	 * 병렬 List 변환 체크박스와 임계값 입력을 한 줄에 담을 패널을 생성합니다.
+	 */
+	private JPanel createParallelListPanel() {
+		JPanel parallelPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 0, 0));
+		parallelPanel.add(generateParallelListMethodCheckBox);
+		parallelPanel.add(parallelThresholdSpinner);
+		return parallelPanel;
+	}
+
 	private JPanel createCopyButtonPanel() {
 		JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.LEFT)); // 버튼을 왼쪽에 정렬
 		buttonPanel.add(copyButton);
@@ -277,6 +804,26 @@ public class MappingToolWindowContentPanel extends JPanel {
 		targetClassLabel.setText("Target Class: " + className);
 	}
 
+	/**
+	 * 중간 클래스 체인을 표시합니다. 중간 클래스가 없으면 초기화 버튼을 비활성화합니다.
+	 * @param classNames 중간 클래스 정규화된 이름 (체인 순서, null이면 없음)
+	 */
+	public void updateIntermediateClassesLabel(List<String> classNames) {
+		boolean hasIntermediateClasses = classNames != null && !classNames.isEmpty();
+		intermediateClassesLabel.setText(hasIntermediateClasses ? String.join(" → ", classNames) : "None");
+		clearIntermediateClassesButton.setEnabled(hasIntermediateClasses);
+	}
+
+	/**
+	 * 락온 대상과 함께 한 번에 변환할 추가 대상을 표시합니다. 추가 대상이 없으면 초기화 버튼을 비활성화합니다.
+	 * @param classNames 추가 대상 정규화된 이름 (null이면 없음)
+	 */
+	public void updateFanOutTargetsLabel(List<String> classNames) {
+		boolean hasFanOutTargets = classNames != null && !classNames.isEmpty();
+		fanOutTargetsLabel.setText(hasFanOutTargets ? String.join(", ", classNames) : "None");
+		clearFanOutTargetsButton.setEnabled(hasFanOutTargets);
+	}
+
 	public void updateSelectedFieldsList(List<String> fieldNames) {
 		fieldListModel.clear();
 		if (fieldNames != null) {
@@ -288,18 +835,70 @@ public class MappingToolWindowContentPanel extends JPanel {
 	}
 
 	/**
-	 * 생성된 코드 문자열을 UI의 텍스트 영역에 설정합니다.
+	 * 필드 목록에 지연 로딩 연관 필드로 표시할 소스 필드 이름을 설정합니다.
+	 * @param fieldNames 소스 클래스의 지연 로딩 연관 필드 이름 (null이면 표시 없음)
+	 */
+	public void updateLazyAssociationFields(Set<String> fieldNames) {
+		lazyAssociationFieldNames = fieldNames != null ? fieldNames : Set.of();
+		selectedFieldsList.repaint();
+	}
+
+	/**
+	 * 생성된 코드 문자열을 UI의 코드 뷰어에 설정합니다. EDT에서 호출해야 합니다.
 	 * @param code 생성된 Java 코드 문자열
 	 */
 	public void setGeneratedCode(String code) {
-		generatedCodeArea.setText(code);
-		generatedCodeArea.setCaretPosition(0); // 스크롤을 맨 위로 이동
+		replaceGeneratedCodeText(code);
+		generatedCodeEditor.getCaretModel().moveToOffset(0);
+		generatedCodeEditor.getScrollingModel().scrollVertically(0); // 스크롤을 맨 위로 이동
+		copyButton.setEnabled(true);
+	}
+
+	/**
+	 * 라이브 미리보기에서 갱신된 코드를 코드 뷰어에 반영합니다. 사용자가 보던 위치(캐럿, 스크롤)는 유지합니다.
+	 * @param code 갱신된 Java 코드 문자열
+	 */
+	void updateGeneratedCode(String code) {
+		int caretOffset = generatedCodeEditor.getCaretModel().getOffset();
+		int scrollOffset = generatedCodeEditor.getScrollingModel().getVerticalScrollOffset();
+		replaceGeneratedCodeText(code);
+		generatedCodeEditor.getCaretModel().moveToOffset(Math.min(caretOffset, generatedCodeDocument.getTextLength()));
+		generatedCodeEditor.getScrollingModel().scrollVertically(scrollOffset);
 		copyButton.setEnabled(true);
 	}
 
+	/**
+	 * 변환 메소드의 예상 바이트코드 크기를 표시합니다. JIT 한도(8000바이트)에 가깝거나 보조 메소드로 나눈 경우 함께 알립니다.
+	 */
+	void showEstimatedBytecodeSize(MappingPreview preview) {
+		int estimatedSize = preview.getEstimatedBytecodeSize();
+		int hugeMethodLimit = MappingCodeGenerator.hugeMethodLimit();
+		String text = "Estimated bytecode: ~" + estimatedSize + " bytes (JIT limit " + hugeMethodLimit + ")";
+		if (preview.isSplit()) {
+			text += " - split into helper methods";
+		} else if (estimatedSize > hugeMethodLimit) {
+			text += " - too large to be JIT-compiled";
+		} else if (estimatedSize > hugeMethodLimit * 3 / 4) {
+			text += " - close to the limit";
+		}
+		bytecodeSizeLabel.setText(text);
+		bytecodeSizeLabel.setVisible(true);
+	}
+
+	/**
+	 * 코드 뷰어 문서의 내용을 교체합니다. 뷰어는 보이는 줄만 다시 그리므로 큰 결과도 UI를 막지 않습니다.
+	 * 미리보기 문서는 실행 취소 기록이 필요 없으므로 undo 투명 쓰기 작업으로 처리합니다.
+	 */
+	private void replaceGeneratedCodeText(String code) {
+		String text = StringUtil.convertLineSeparators(code); // Document는 \n 줄바꿈만 허용
+		CommandProcessor.getInstance().runUndoTransparentAction(
+			() -> ApplicationManager.getApplication().runWriteAction(() -> generatedCodeDocument.setText(text)));
+	}
+
 	/**
 	 * Shot 기능의 핵심 로직을 수행하고 생성된 코드를 UI에 표시합니다.
-	 * GenerateMappingCodeAction의 generateCodeAndShow 메소드 로직을 가져와서 수정합니다.
+	 * 클래스 조회와 코드 생성은 취소 가능한 백그라운드 읽기 작업(non-blocking read action)에서 수행하고,
+	 * 결과는 EDT에서 코드 뷰어에 반영합니다. 새 클릭이 들어오면 이전 작업은 취소됩니다.
 	 * @param project 현재 프로젝트
 	 */
 	private void generateCodeAndDisplay(Project project, CodeType codeType) {
@@ -318,66 +917,92 @@ public class MappingToolWindowContentPanel extends JPanel {
 
 		String sourceClassQName = state.getSourceClassQualifiedName();
 		String targetClassQName = state.getTargetClassQualifiedName();
-		Set<String> includedTargetFieldNames = new LinkedHashSet<>(state.getIncludedTargetFieldNames());
+		List<String> selectedFieldNames = state.getIncludedTargetFieldNames();
 		boolean generateListMethod = state.isGenerateListMethod() != null ? state.isGenerateListMethod() : false;
-		boolean generateMethodComment =
-			state.isGenerateMethodComment() != null ? state.isGenerateMethodComment() : true;
-		boolean generateAllField = state.isGererateAllField() != null ? state.isGererateAllField() : false;
+		// 주석/전체 필드/컬렉션 변환 방식 등 나머지 옵션은 한 번에 복사
+		MappingOptions options = GenerateMappingCodeAction.createOptions(state);
 		// 2. 필요한 정보가 모두 있는지 확인
-		if (sourceClassQName == null || targetClassQName == null || includedTargetFieldNames == null) {
+		if (sourceClassQName == null || targetClassQName == null || selectedFieldNames == null) {
 			NotificationGroupManager.getInstance().getNotificationGroup("Mapping Plugin Notifications")
 				.createNotification("Mapping generation failed", "Please load source and lock on target class first.",
 					NotificationType.WARNING)
 				.notify(project);
 			return;
 		}
+		// 백그라운드 작업 중 상태가 바뀌어도 영향을 받지 않도록 복사본 사용
+		Set<String> includedTargetFieldNames = new LinkedHashSet<>(selectedFieldNames);
+
+		// 3. 이전 작업 취소 후 백그라운드 읽기 작업으로 생성 시작
+		if (generationPromise != null) {
+			generationPromise.cancel();
+		}
+		generationProgressBar.setVisible(true);
 
-		// 3. 클래스 이름으로부터 PsiClass 객체 가져오기
-		JavaPsiFacade psiFacade = JavaPsiFacade.getInstance(project);
-		PsiClass sourceClass = psiFacade.findClass(sourceClassQName, GlobalSearchScope.allScope(project));
-		PsiClass targetClass = psiFacade.findClass(targetClassQName, GlobalSearchScope.allScope(project));
+		CancellablePromise<MappingPreview> promise = ReadAction
+			.nonBlocking(() -> buildGeneratedCode(project, state, includedTargetFieldNames, codeType,
+				generateListMethod, options))
+			.coalesceBy(this, project)
+			.expireWith(this)
+			// 뷰어 문서 갱신은 쓰기 작업이므로 any()가 아닌 Tool Window의 모달리티에서 반영
+			.finishOnUiThread(ModalityState.stateForComponent(this), this::applyGeneratedCode)
+			.submit(AppExecutorUtil.getAppExecutorService());
+		generationPromise = promise;
+
+		// 성공/취소/실패와 관계없이 최신 작업이 끝나면 진행 표시를 숨김
+		promise.onProcessed(result -> hideGenerationProgress(promise));
+		promise.onError(error -> hideGenerationProgress(promise));
+	}
+
+	/**
+	 * 백그라운드 읽기 작업에서 실행됩니다. 소스/대상 클래스를 조회하고 매핑 코드를 생성합니다.
+	 * @return 생성된 코드 스냅샷, 클래스를 찾지 못한 경우 null
+	 */
+	private static MappingPreview buildGeneratedCode(Project project, MappingPluginState state,
+		Set<String> includedTargetFieldNames, CodeType codeType, boolean generateListMethod, MappingOptions options) {
+		// 세션 캐시(스마트 포인터)에서 PsiClass 객체 가져오기 (재시작 후에만 이름으로 다시 찾음)
+		PsiClass sourceClass = state.findSourceClass();
+		PsiClass targetClass = state.findTargetClass();
+		ProgressManager.checkCanceled();
 
-		if (sourceClass == null || targetClass == null) {
+		// 중간 클래스가 있으면 체인 전체를 거쳐 전달되는 필드만 한 번에 변환
+		Set<String> chainFieldNames = sourceClass != null && targetClass != null
+			? GenerateMappingCodeAction.applyIntermediateClasses(state, includedTargetFieldNames, options) : null;
+		if (chainFieldNames == null) {
+			return null;
+		}
+
+		// 코드 생성 (단일 객체 변환 메소드 + 체크박스 선택 시 List 변환 메소드)
+		// 필드별 줄을 나누어 보관하여 라이브 미리보기에서 변경된 필드만 다시 생성할 수 있게 함
+		return MappingPreview.create(project, sourceClass, targetClass, chainFieldNames, codeType,
+			generateListMethod, options);
+	}
+
+	/**
+	 * EDT에서 실행됩니다. 백그라운드에서 생성된 코드를 코드 뷰어에 반영합니다.
+	 * @param preview 생성된 코드 스냅샷, 클래스를 찾지 못한 경우 null
+	 */
+	private void applyGeneratedCode(MappingPreview preview) {
+		if (preview == null) {
 			NotificationGroupManager.getInstance().getNotificationGroup("Mapping Plugin Notifications")
-				.createNotification("Mapping generation failed", "Source or target class not found. Please reload.",
+				.createNotification("Mapping generation failed", "Source, target or intermediate class not found. Please reload.",
 					NotificationType.ERROR)
 				.notify(project);
 			return;
 		}
 
-		// **4. 코드 문자열 생성 (단일 객체 변환 메소드)**
-		MethodResult methodResult;
-		if (codeType == CodeType.BUILDER) {
-			methodResult = GenerateMappingCodeAction.generateMappingMethodCode(sourceClass, targetClass,
-				includedTargetFieldNames, project, generateMethodComment, generateAllField); // Builder 패턴 생성
-		} else { // codeType == CodeType.GETTER_SETTER
-			methodResult = GenerateGetterSetterMappingCodeAction.generateGetterSetterMappingMethodCode(sourceClass,
-				targetClass, includedTargetFieldNames, project, generateMethodComment, generateAllField); // Getter/Setter 패턴 생성
-		}
-		// **5. List 변환 메소드 코드 생성 (체크박스 선택 시)**
-		String listMethodCode = null;
-		if (generateListMethod) {
-			// List 변환 메소드 코드 생성 로직 호출
-			listMethodCode = generateListConversionMethodCode(sourceClass, targetClass, project,
-				generateMethodComment, methodResult.methodName()); // <-- 새로운 메소드 호출
-		}
+		// 생성된 코드를 UI의 코드 뷰어에 설정하고, 라이브 미리보기의 기준 스냅샷으로 사용
+		setGeneratedCode(preview.toCode());
+		showEstimatedBytecodeSize(preview);
+		livePreviewController.previewGenerated(preview);
 
-		// **6. 전체 코드 문자열 조합 (단일 + List)**
-		StringBuilder fullCodeBuilder = new StringBuilder();
-		fullCodeBuilder.append(methodResult.generatedCode()); // 단일 객체 변환 메소드 추가
-		if (listMethodCode != null) {
-			fullCodeBuilder.append("\n"); // 메소드 사이에 줄바꿈 추가
-			fullCodeBuilder.append(listMethodCode); // List 변환 메소드 추가
+		if (preview.isCodeTypeFallback()) {
+			NotificationGroupManager.getInstance().getNotificationGroup("Mapping Plugin Notifications")
+				.createNotification("Mapping generatedCode generated",
+					preview.getRequestedCodeType() + " is not available for " + preview.getTargetClassName()
+						+ ", generated " + preview.getCodeType() + " code instead.", NotificationType.WARNING)
+				.notify(project);
+			return;
 		}
-		String combinedCode = fullCodeBuilder.toString(); // 조합된 코드
-
-		// **7. 생성된 코드 형식 조정**
-		// 전체 코드를 형식 조정합니다. 파일 코드로 파싱합니다.
-		// String formattedCode = GenerateMappingCodeAction.reformatCodeString(project, combinedCode, false, null); // <-- 파일 코드로 형식 조정
-
-		// **8. 생성된 코드를 UI의 텍스트 영역에 설정**
-		setGeneratedCode(combinedCode); // <-- 형식 조정된 코드 UI에 설정
-
 		NotificationGroupManager.getInstance().getNotificationGroup("Mapping Plugin Notifications")
 			.createNotification("Mapping generatedCode generated", "Code is shown in the tool window.",
 				NotificationType.INFORMATION)
@@ -385,10 +1010,134 @@ public class MappingToolWindowContentPanel extends JPanel {
 	}
 
 	/**
-	 * generatedCodeArea의 텍스트 내용을 시스템 클립보드에 복사합니다.
+	 * Lock On에서 선택한 필드만 조회하는 프로젝션과 JPQL 조회 식을 생성하여 코드 뷰어에 표시합니다.
+	 * 프로젝션은 대상 클래스 패키지의 &lt;Target&gt;Projection이며, 같은 이름의 소스 엔티티 필드를 조회합니다.
+	 * @param project 현재 프로젝트
+	 */
+	private void generateProjectionAndDisplay(Project project) {
+		MappingPluginState state = MappingPluginState.getInstance(project);
+		if (state == null || state.getSourceClassQualifiedName() == null || state.getTargetClassQualifiedName() == null
+			|| state.getIncludedTargetFieldNames() == null) {
+			NotificationGroupManager.getInstance().getNotificationGroup("Mapping Plugin Notifications")
+				.createNotification("Projection generation failed", "Please load source and lock on target class first.",
+					NotificationType.WARNING)
+				.notify(project);
+			return;
+		}
+		Set<String> includedTargetFieldNames = new LinkedHashSet<>(state.getIncludedTargetFieldNames());
+		ProjectionStyle style = (ProjectionStyle)projectionStyleComboBox.getSelectedItem();
+		MappingOptions options = GenerateMappingCodeAction.createOptions(state);
+
+		ReadAction.nonBlocking(() -> {
+				PsiClass sourceClass = state.findSourceClass();
+				PsiClass targetClass = state.findTargetClass();
+				if (sourceClass == null || targetClass == null) {
+					return null;
+				}
+				MappingClassModel targetModel = ClassFieldIndex.modelOf(targetClass);
+				String qualifiedName = targetModel.qualifiedName();
+				int lastDot = qualifiedName != null ? qualifiedName.lastIndexOf('.') : -1;
+				return ProjectionGenerator.generateProjection(lastDot < 0 ? "" : qualifiedName.substring(0, lastDot),
+					ProjectionGenerator.projectionName(targetModel), ClassFieldIndex.modelOf(sourceClass),
+					ClassFieldIndex.findEntityName(sourceClass), includedTargetFieldNames, style, options);
+			})
+			.expireWith(this)
+			.finishOnUiThread(ModalityState.stateForComponent(this), code -> {
+				if (code == null) {
+					NotificationGroupManager.getInstance().getNotificationGroup("Mapping Plugin Notifications")
+						.createNotification("Projection generation failed",
+							"Source or target class not found. Please reload.", NotificationType.ERROR)
+						.notify(project);
+					return;
+				}
+				// 매핑 코드가 아니므로 라이브 미리보기와 예상 바이트코드 크기 표시는 멈춤
+				livePreviewController.clearPreview();
+				bytecodeSizeLabel.setVisible(false);
+				setGeneratedCode(code);
+				NotificationGroupManager.getInstance().getNotificationGroup("Mapping Plugin Notifications")
+					.createNotification("Projection generated", "Code is shown in the tool window.",
+						NotificationType.INFORMATION)
+					.notify(project);
+			})
+			.submit(AppExecutorUtil.getAppExecutorService());
+	}
+
+	/**
+	 * 락온 대상(Lock On에서 선택한 필드)과 추가 대상(모든 필드)을 한 번에 만드는 변환 메소드를 생성하여 코드 뷰어에 표시합니다.
+	 * 소스 Getter는 필드마다 한 번만 호출되며, 결과는 &lt;Source&gt;Views record로 반환됩니다.
+	 * @param project 현재 프로젝트
+	 */
+	private void generateFanOutAndDisplay(Project project) {
+		MappingPluginState state = MappingPluginState.getInstance(project);
+		if (state == null || state.getSourceClassQualifiedName() == null || state.getTargetClassQualifiedName() == null
+			|| state.getIncludedTargetFieldNames() == null) {
+			NotificationGroupManager.getInstance().getNotificationGroup("Mapping Plugin Notifications")
+				.createNotification("Fan-out generation failed", "Please load source and lock on target class first.",
+					NotificationType.WARNING)
+				.notify(project);
+			return;
+		}
+		Set<String> includedTargetFieldNames = new LinkedHashSet<>(state.getIncludedTargetFieldNames());
+		MappingOptions options = GenerateMappingCodeAction.createOptions(state);
+
+		ReadAction.nonBlocking(() -> {
+				PsiClass sourceClass = state.findSourceClass();
+				PsiClass targetClass = state.findTargetClass();
+				List<PsiClass> fanOutTargetClasses = state.findFanOutTargetClasses();
+				if (sourceClass == null || targetClass == null || fanOutTargetClasses == null) {
+					return null;
+				}
+				List<FanOutMethodGenerator.FanOutTarget> targets = new ArrayList<>(fanOutTargetClasses.size() + 1);
+				MappingClassModel targetModel = ClassFieldIndex.modelOf(targetClass);
+				targets.add(new FanOutMethodGenerator.FanOutTarget(targetModel, includedTargetFieldNames,
+					MappingCodeGenerator.chooseCodeType(ProjectNestedClassResolver.supportsBuilder(targetClass),
+						targetModel, options)));
+				for (PsiClass fanOutTargetClass : fanOutTargetClasses) {
+					MappingClassModel fanOutTargetModel = ClassFieldIndex.modelOf(fanOutTargetClass);
+					boolean hasBuilder = ProjectNestedClassResolver.supportsBuilder(fanOutTargetClass);
+					targets.add(new FanOutMethodGenerator.FanOutTarget(fanOutTargetModel,
+						fanOutTargetModel.fields().keySet(),
+						MappingCodeGenerator.chooseCodeType(hasBuilder, fanOutTargetModel, options)));
+				}
+				return String.join("\n",
+					FanOutMethodGenerator.generateMembers(ClassFieldIndex.modelOf(sourceClass), targets, options));
+			})
+			.expireWith(this)
+			.finishOnUiThread(ModalityState.stateForComponent(this), code -> {
+				if (code == null) {
+					NotificationGroupManager.getInstance().getNotificationGroup("Mapping Plugin Notifications")
+						.createNotification("Fan-out generation failed",
+							"Source, target or fan-out target class not found. Please reload.", NotificationType.ERROR)
+						.notify(project);
+					return;
+				}
+				// 대상별 변환 메소드가 아니므로 라이브 미리보기와 예상 바이트코드 크기 표시는 멈춤
+				livePreviewController.clearPreview();
+				bytecodeSizeLabel.setVisible(false);
+				setGeneratedCode(code);
+				NotificationGroupManager.getInstance().getNotificationGroup("Mapping Plugin Notifications")
+					.createNotification("Fan-out mapper generated", "Code is shown in the tool window.",
+						NotificationType.INFORMATION)
+					.notify(project);
+			})
+			.submit(AppExecutorUtil.getAppExecutorService());
+	}
+
+	private void hideGenerationProgress(CancellablePromise<MappingPreview> promise) {
+		ApplicationManager.getApplication().invokeLater(() -> {
+			// 더 새로운 작업이 시작되었다면 진행 표시는 그 작업이 관리
+			if (promise == generationPromise) {
+				generationProgressBar.setVisible(false);
+				generationPromise = null;
+			}
+		}, ModalityState.any());
+	}
+
+	/**
+	 * 코드 뷰어 문서의 내용을 시스템 클립보드에 복사합니다.
 	 */
 	private void copyGeneratedCodeToClipboard() {
-		String codeToCopy = generatedCodeArea.getText(); // 텍스트 영역의 내용 가져오기
+		String codeToCopy = generatedCodeDocument.getText(); // 코드 뷰어 문서의 내용 가져오기
 
 		if (codeToCopy != null && !codeToCopy.isEmpty()) {
 			try {
@@ -428,80 +1177,18 @@ public class MappingToolWindowContentPanel extends JPanel {
 	 * @param project 현재 프로젝트
 	 * @return 생성된 List 변환 메소드 코드 문자열
 	 */
-	private static String generateListConversionMethodCode(PsiClass sourceClass, PsiClass targetClass, Project project,
+	public static String generateListConversionMethodCode(PsiClass sourceClass, PsiClass targetClass, Project project,
 		Boolean generateMethodComment, String singleMethodname) {
-		StringBuilder codeBuilder = new StringBuilder();
-
-		String sourceClassName = sourceClass.getName();
-		String sourceUncapitalizedName = StringUtils.uncapitalize(sourceClassName);
-		String targetClassName = targetClass.getName();
-		String targetUncapitalizedName = StringUtils.uncapitalize(targetClassName);
-		String sourceListName = sourceUncapitalizedName + "List";
-		String methodName = "gen" + targetClassName + "List";
-
-		// 메소드 시그니처 주석
-		if (generateMethodComment) {
-			codeBuilder.append("    /**\n");
-			codeBuilder.append("     * List<")
-				.append(sourceClassName)
-				.append("> 객체를 List<")
-				.append(targetClassName)
-				.append("> 객체로 변환합니다.\n");
-			codeBuilder.append("     *\n");
-			codeBuilder.append("     * @param sourceList 변환할 List<").append(sourceClassName).append("> 객체\n");
-			codeBuilder.append("     * @return 변환된 List<").append(targetClassName).append("> 객체\n");
-			codeBuilder.append("     */\n");
-		}
-		// 메소드 시그니처
-		codeBuilder.append("    public List<")
-			.append(targetClassName)
-			.append("> ")
-			.append(methodName)
-			.append("(List<")
-			.append(sourceClassName)
-			.append("> ")
-			.append(sourceListName)
-			.append(") {\n");
-
-		// null 체크
-		codeBuilder.append("        // Handle null source list\n");
-		codeBuilder
-			.append("        if (")
-			.append(sourceListName)
-			.append(" == null) {\n")
-			;
-		codeBuilder.append("            return null;\n");
-		codeBuilder.append("        }\n\n");
-
-		// 빈 리스트 처리 (선택 사항)
-		codeBuilder.append("        // Handle empty source list\n");
-		codeBuilder
-			.append("        if (")
-			.append(sourceListName)
-			.append(".isEmpty()) {\n");
-		codeBuilder.append("            return java.util.Collections.emptyList(); \n");
-		codeBuilder.append("        }\n\n");
-
-		// 스트림을 사용하여 변환
-		codeBuilder
-			.append("        return ")
-			.append(sourceListName)
-			.append(".stream()\n");
-		codeBuilder
-			.append("                .map(this::")
-			.append(singleMethodname)
-			.append(") // Use the single object conversion method\n"); // <-- 단일 객체 변환 메소드 호출
-		codeBuilder.append("                .collect(java.util.stream.Collectors.toList()); \n");
-
-		// 메소드 종료
-		codeBuilder.append("    }\n");
-
-		return codeBuilder.toString();
+		return MappingCodeGenerator.generateListMethod(ClassFieldIndex.modelOf(sourceClass),
+			ClassFieldIndex.modelOf(targetClass), GenerateMappingCodeAction.createOptions(generateMethodComment, false),
+			singleMethodname);
 	}
 
-	// 코드 타입 구분을 위한 Enum
-	private enum CodeType {
-		BUILDER,
-		GETTER_SETTER
+	@Override
+	public void dispose() {
+		if (generationPromise != null) {
+			generationPromise.cancel();
+		}
+		EditorFactory.getInstance().releaseEditor(generatedCodeEditor);
 	}
 }
@@ -25,6 +25,7 @@ public class MappingToolWindowFactory implements ToolWindowFactory {
 		// 2. UI 컴포넌트를 Content로 감싸기
 		ContentFactory contentFactory = ContentFactory.getInstance();
 		Content content = contentFactory.createContent(contentPanel, "", false); // contentPanel을 content로 감쌈
+		content.setDisposer(contentPanel); // Tool Window 종료 시 리스너/백그라운드 작업 정리
 
 		// 3. 생성된 Content를 Tool Window에 추가
 		toolWindow.getContentManager().addContent(content);
@@ -0,0 +1,148 @@
+package com.maker.engine;
+
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+import org.junit.Test;
+
+import com.maker.entity.CodeType;
+
+/**
+ * 중첩 객체 하위 매퍼 생성 코드가 컴파일되는지 확인합니다.
+ * 소스/대상 중첩 클래스의 단순 이름이 같은 경우(com.example.entity.Address → com.example.dto.Address)를 다룹니다.
+ */
+public class NestedMappingGeneratorTest {
+
+	private static final Map<String, String> MODEL_SOURCES = Map.of(
+		"com.example.entity.Order", """
+			package com.example.entity;
+			public class Order {
+			    private Long id;
+			    private Address address;
+			    public Long getId() { return id; }
+			    public Address getAddress() { return address; }
+			}
+			""",
+		"com.example.entity.Address", """
+			package com.example.entity;
+			public class Address {
+			    private String city;
+			    public String getCity() { return city; }
+			}
+			""",
+		"com.example.dto.OrderDto", """
+			package com.example.dto;
+			public class OrderDto {
+			    private Long id;
+			    private Address address;
+			    public void setId(Long id) { this.id = id; }
+			    public void setAddress(Address address) { this.address = address; }
+			}
+			""",
+		"com.example.dto.Address", """
+			package com.example.dto;
+			public class Address {
+			    private String city;
+			    public void setCity(String city) { this.city = city; }
+			}
+			""");
+
+	@Test
+	public void sameSimpleNameSubMapperCompiles() throws IOException {
+		assertCompiles(generateOrderMapper(false));
+	}
+
+	@Test
+	public void sameSimpleNameSubMapperWithCycleGuardCompiles() throws IOException {
+		assertCompiles(generateOrderMapper(true));
+	}
+
+	private static String generateOrderMapper(boolean cycleGuard) {
+		MappingClassModel order = classModel("Order", "com.example.entity.Order",
+			field("id", "java.lang.Long", "Long", "Order"),
+			field("address", "com.example.entity.Address", "Address", "Order"));
+		MappingClassModel orderDto = classModel("OrderDto", "com.example.dto.OrderDto",
+			field("id", "java.lang.Long", "Long", "OrderDto"),
+			field("address", "com.example.dto.Address", "Address", "OrderDto"));
+		Map<String, MappingClassModel> nestedClasses = Map.of(
+			"com.example.entity.Address", classModel("Address", "com.example.entity.Address",
+				field("city", "java.lang.String", "String", "Address")),
+			"com.example.dto.Address", classModel("Address", "com.example.dto.Address",
+				field("city", "java.lang.String", "String", "Address")));
+
+		MappingOptions options = new MappingOptions().setNestedMappers(NestedMapperRegistry.perMapper(
+			new NestedMapperRegistry.ClassResolver() {
+				@Override
+				public MappingClassModel resolve(String qualifiedName) {
+					return nestedClasses.get(qualifiedName);
+				}
+
+				@Override
+				public boolean hasBuilder(String qualifiedName) {
+					return false;
+				}
+			}, cycleGuard));
+		return MappingCodeGenerator.generateMapperClass("com.example.mapper", "OrderMapper", order, orderDto,
+			List.of("id", "address"), CodeType.GETTER_SETTER, false, options);
+	}
+
+	private static MappingClassModel classModel(String name, String qualifiedName, MappingFieldModel... fields) {
+		Map<String, MappingFieldModel> fieldMap = new LinkedHashMap<>();
+		for (MappingFieldModel field : fields) {
+			fieldMap.put(field.name(), field);
+		}
+		return new MappingClassModel(name, qualifiedName, false, fieldMap);
+	}
+
+	private static MappingFieldModel field(String name, String typeName, String presentableTypeName,
+		String declaringClassName) {
+		String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+		return new MappingFieldModel(name, typeName, presentableTypeName, declaringClassName, true,
+			"get" + capitalized, "set" + capitalized);
+	}
+
+	private static void assertCompiles(String mapperSource) throws IOException {
+		List<JavaFileObject> sources = new ArrayList<>();
+		for (Map.Entry<String, String> modelSource : MODEL_SOURCES.entrySet()) {
+			sources.add(source(modelSource.getKey(), modelSource.getValue()));
+		}
+		sources.add(source("com.example.mapper.OrderMapper", mapperSource));
+
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+		Path outputDirectory = Files.createTempDirectory("nested-mapper-test");
+		boolean compiled = compiler.getTask(null, null, diagnostics,
+			List.of("-d", outputDirectory.toString(), "-proc:none"), null, sources).call();
+
+		StringBuilder messageBuilder = new StringBuilder();
+		for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+			messageBuilder.append(diagnostic).append("\n");
+		}
+		assertTrue(messageBuilder + mapperSource, compiled);
+	}
+
+	private static JavaFileObject source(String qualifiedName, String code) {
+		URI uri = URI.create("string:///" + qualifiedName.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension);
+		return new SimpleJavaFileObject(uri, JavaFileObject.Kind.SOURCE) {
+			@Override
+			public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+				return code;
+			}
+		};
+	}
+}